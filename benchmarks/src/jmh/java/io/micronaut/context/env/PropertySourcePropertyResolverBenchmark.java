@@ -16,27 +16,45 @@
 package io.micronaut.context.env;
 
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @State(Scope.Benchmark)
 public class PropertySourcePropertyResolverBenchmark {
 
     Map<String, String> props = new HashMap<>();
+    Map<String, Object> refreshableProps = new ConcurrentHashMap<>();
+    DefaultEnvironment environment;
+    int refreshCount;
 
     @Setup
     public void prepare() {
         for (int i = 0; i < 600; i++) {
              props.put(i + "}_A_B_C_D_E_F_G_SERVICE_PORT", "foo");
+             refreshableProps.put("app.service" + i + ".port", i);
         }
+        refreshableProps.put("app.refreshed", 0);
+        environment = new DefaultEnvironment(() -> List.of("benchmark"));
+        environment.addPropertySource(PropertySource.of("refreshable", refreshableProps));
+        environment.start();
+    }
+
+    @TearDown
+    public void tearDown() {
+        environment.close();
     }
 
     @Benchmark
@@ -44,6 +62,21 @@ public class PropertySourcePropertyResolverBenchmark {
         new PropertySourcePropertyResolver(new EnvironmentPropertySource(props));
     }
 
+    @Benchmark
+    @Group("refresh")
+    @GroupThreads(3)
+    public Object readDuringRefresh() {
+        return environment.getProperty("app.service42.port", Integer.class).orElse(null);
+    }
+
+    @Benchmark
+    @Group("refresh")
+    @GroupThreads(1)
+    public Map<String, Object> refresh() {
+        refreshableProps.put("app.refreshed", ++refreshCount);
+        return environment.refreshAndDiff();
+    }
+
     public static void main(String[] args) throws RunnerException {
         Options opt = new OptionsBuilder()
                 .include(".*" + PropertySourcePropertyResolverBenchmark.class.getSimpleName() + ".*")
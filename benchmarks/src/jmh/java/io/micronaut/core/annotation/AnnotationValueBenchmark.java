@@ -17,6 +17,7 @@ package io.micronaut.core.annotation;
 
 import io.micronaut.context.ApplicationContext;
 import io.micronaut.core.annotation.beans.TestIntroduction;
+import io.micronaut.http.annotation.Consumes;
 import io.micronaut.http.annotation.Produces;
 import io.micronaut.inject.BeanDefinition;
 import io.micronaut.inject.ExecutableMethod;
@@ -26,6 +27,8 @@ import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 
+import java.util.Optional;
+
 @State(Scope.Benchmark)
 public class AnnotationValueBenchmark {
 
@@ -50,6 +53,26 @@ public class AnnotationValueBenchmark {
         testIntroductionMethod.getValue(Produces.class, String.class);
     }
 
+    @Benchmark
+    public boolean benchMarkHasAnnotation() {
+        return testIntroductionMethod.hasAnnotation(Produces.class);
+    }
+
+    @Benchmark
+    public boolean benchMarkHasStereotypeMissing() {
+        return testIntroductionMethod.hasStereotype(Consumes.class);
+    }
+
+    @Benchmark
+    public boolean benchMarkHasStereotypeByName() {
+        return testIntroductionMethod.hasStereotype(Produces.class.getName());
+    }
+
+    @Benchmark
+    public Optional<String> benchMarkStringValue() {
+        return testIntroductionMethod.stringValue(Produces.class);
+    }
+
     public static void main(String[] args) throws RunnerException {
         Options opt = new OptionsBuilder()
                 .include(".*" + AnnotationValueBenchmark.class.getSimpleName() + ".*")
@@ -0,0 +1,97 @@
+package io.micronaut.core.beans;
+
+import io.micronaut.core.annotation.Introspected;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+public class PrimitivePropertyBenchmark {
+
+    BeanProperty<Bean, Integer> count;
+    BeanProperty<Bean, Double> ratio;
+    Bean bean;
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+            .include(PrimitivePropertyBenchmark.class.getName() + ".*")
+            .warmupIterations(5)
+            .measurementIterations(5)
+            .mode(Mode.AverageTime)
+            .timeUnit(TimeUnit.NANOSECONDS)
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup
+    public void setUp() {
+        BeanIntrospection<Bean> introspection = BeanIntrospector.SHARED.getIntrospection(Bean.class);
+        count = introspection.getRequiredProperty("count", int.class);
+        ratio = introspection.getRequiredProperty("ratio", double.class);
+        bean = new Bean();
+        bean.setCount(1000);
+        bean.setRatio(0.5);
+    }
+
+    @Benchmark
+    public int getBoxed() {
+        return count.get(bean);
+    }
+
+    @Benchmark
+    public int getInt() {
+        return count.getInt(bean);
+    }
+
+    @Benchmark
+    public double getDoubleBoxed() {
+        return ratio.get(bean);
+    }
+
+    @Benchmark
+    public double getDouble() {
+        return ratio.getDouble(bean);
+    }
+
+    @Benchmark
+    public void setBoxed() {
+        count.set(bean, 1001);
+    }
+
+    @Benchmark
+    public void setInt() {
+        count.setInt(bean, 1001);
+    }
+
+    @Introspected
+    public static class Bean {
+        private int count;
+        private double ratio;
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public double getRatio() {
+            return ratio;
+        }
+
+        public void setRatio(double ratio) {
+            this.ratio = ratio;
+        }
+    }
+}
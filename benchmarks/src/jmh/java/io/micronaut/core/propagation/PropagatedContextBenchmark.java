@@ -0,0 +1,86 @@
+package io.micronaut.core.propagation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+public class PropagatedContextBenchmark {
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+            .include(PropagatedContextBenchmark.class.getName() + ".*")
+            .warmupIterations(3)
+            .measurementIterations(5)
+            .mode(Mode.AverageTime)
+            .timeUnit(TimeUnit.NANOSECONDS)
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @Benchmark
+    public void propagate(S s) {
+        try (PropagatedContext.Scope ignored = s.context.propagate()) {
+            s.inner.propagate().close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class S {
+        @Param({"EMPTY", "PLAIN", "THREAD"})
+        Type type;
+        private PropagatedContext context;
+        private PropagatedContext inner;
+
+        @Setup
+        public void setUp() {
+            context = switch (type) {
+                case EMPTY -> PropagatedContext.empty();
+                case PLAIN -> PropagatedContext.empty().plus(new PlainElement());
+                case THREAD -> PropagatedContext.empty().plus(new PlainElement()).plus(new ThreadElement());
+            };
+            // nested propagation of the same context, e.g. a filter and the route on the same thread
+            inner = context;
+        }
+
+        @TearDown
+        public void tearDown() {
+            ThreadElement.VALUE.remove();
+        }
+    }
+
+    public enum Type {
+        EMPTY,
+        PLAIN,
+        THREAD,
+    }
+
+    static final class PlainElement implements PropagatedContextElement {
+    }
+
+    static final class ThreadElement implements ThreadPropagatedContextElement<String> {
+        static final ThreadLocal<String> VALUE = new ThreadLocal<>();
+
+        @Override
+        public String updateThreadContext() {
+            String old = VALUE.get();
+            VALUE.set("value");
+            return old;
+        }
+
+        @Override
+        public void restoreThreadContext(String oldState) {
+            VALUE.set(oldState);
+        }
+    }
+}
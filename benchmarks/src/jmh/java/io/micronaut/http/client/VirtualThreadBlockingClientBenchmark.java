@@ -0,0 +1,88 @@
+package io.micronaut.http.client;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.runtime.server.EmbeddedServer;
+import io.micronaut.scheduling.LoomSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a blocking exchange on a virtual thread, which waits on the response future directly, with blocking on
+ * the reactive exchange.
+ */
+@State(Scope.Benchmark)
+public class VirtualThreadBlockingClientBenchmark {
+
+    ApplicationContext ctx;
+    HttpClient client;
+    ExecutorService executor;
+    HttpRequest<?> request;
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+            .include(VirtualThreadBlockingClientBenchmark.class.getName() + ".*")
+            .warmupIterations(5)
+            .measurementIterations(10)
+            .mode(Mode.AverageTime)
+            .timeUnit(TimeUnit.MICROSECONDS)
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup
+    public void setUp() {
+        LoomSupport.checkSupported();
+        ctx = ApplicationContext.run(Map.of("spec.name", "VirtualThreadBlockingClientBenchmark"));
+        EmbeddedServer server = ctx.getBean(EmbeddedServer.class).start();
+        client = ctx.createBean(HttpClient.class, server.getURL());
+        executor = LoomSupport.newThreadPerTaskExecutor(LoomSupport.newVirtualThreadFactory("benchmark"));
+        request = HttpRequest.GET("/blocking-client");
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdown();
+        client.close();
+        ctx.close();
+    }
+
+    @Benchmark
+    public HttpResponse<String> toBlocking() throws Exception {
+        return executor.submit(() -> client.toBlocking().exchange(request, String.class)).get();
+    }
+
+    @Benchmark
+    public HttpResponse<String> reactorBlock() throws Exception {
+        return executor.submit(() -> Mono.from(client.exchange(request, String.class)).block()).get();
+    }
+
+    @Requires(property = "spec.name", value = "VirtualThreadBlockingClientBenchmark")
+    @Controller("/blocking-client")
+    static class BlockingClientController {
+
+        @Get
+        String index() {
+            return "success";
+        }
+    }
+}
@@ -4,11 +4,16 @@ import io.micronaut.context.ApplicationContext;
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.async.annotation.SingleResult;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
 import io.micronaut.http.MediaType;
 import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Error;
 import io.micronaut.http.annotation.Get;
 import io.micronaut.http.annotation.Produces;
 import io.micronaut.http.annotation.QueryValue;
+import io.micronaut.http.server.exceptions.ExceptionHandler;
 import io.micronaut.http.server.netty.NettyHttpServer;
 import io.micronaut.runtime.server.EmbeddedServer;
 import io.netty.buffer.ByteBuf;
@@ -23,6 +28,7 @@ import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpVersion;
 import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Assertions;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -303,6 +309,51 @@ public class ControllersBenchmark {
                 Assertions.assertEquals(expectedResponseBody, response.content().toString(StandardCharsets.UTF_8));
                 Assertions.assertEquals(expectedResponseBody.length(), response.headers().getInt(HttpHeaderNames.CONTENT_LENGTH));
             }
+        },
+        EXCEPTION_HANDLER {
+            @Override
+            FullHttpRequest request() {
+                FullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/ctrl/fail/handler");
+                request.headers().add(HttpHeaderNames.ACCEPT, "text/plain");
+                return request;
+            }
+
+            @Override
+            void verifyResponse(FullHttpResponse response) {
+                Assertions.assertEquals(HttpResponseStatus.BAD_REQUEST, response.status());
+                Assertions.assertEquals("text/plain", response.headers().get(HttpHeaderNames.CONTENT_TYPE));
+                String expectedResponseBody = "handled";
+                Assertions.assertEquals(expectedResponseBody, response.content().toString(StandardCharsets.UTF_8));
+            }
+        },
+        ERROR_ROUTE {
+            @Override
+            FullHttpRequest request() {
+                FullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/ctrl/fail/route");
+                request.headers().add(HttpHeaderNames.ACCEPT, "text/plain");
+                return request;
+            }
+
+            @Override
+            void verifyResponse(FullHttpResponse response) {
+                Assertions.assertEquals(HttpResponseStatus.CONFLICT, response.status());
+                Assertions.assertEquals("text/plain", response.headers().get(HttpHeaderNames.CONTENT_TYPE));
+                String expectedResponseBody = "routed";
+                Assertions.assertEquals(expectedResponseBody, response.content().toString(StandardCharsets.UTF_8));
+            }
+        },
+        NOT_FOUND {
+            @Override
+            FullHttpRequest request() {
+                FullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/missing");
+                request.headers().add(HttpHeaderNames.ACCEPT, "application/json");
+                return request;
+            }
+
+            @Override
+            void verifyResponse(FullHttpResponse response) {
+                Assertions.assertEquals(HttpResponseStatus.NOT_FOUND, response.status());
+            }
         };
 
         abstract FullHttpRequest request();
@@ -390,6 +441,46 @@ public class ControllersBenchmark {
             blackhole.consume(secondParameter);
             return text;
         }
+
+        @Get(uri = "/fail/handler")
+        @Produces(MediaType.TEXT_PLAIN)
+        String failHandler() {
+            throw new HandledException();
+        }
+
+        @Get(uri = "/fail/route")
+        @Produces(MediaType.TEXT_PLAIN)
+        String failRoute() {
+            throw new RoutedException();
+        }
+
+        @Error(RoutedException.class)
+        @Produces(MediaType.TEXT_PLAIN)
+        HttpResponse<String> routedError(RoutedException e) {
+            return HttpResponse.status(HttpStatus.CONFLICT).body("routed");
+        }
+    }
+
+    @Singleton
+    @Produces(MediaType.TEXT_PLAIN)
+    @Requires(property = "spec.name", value = "ControllersBenchmark")
+    static class HandledExceptionHandler implements ExceptionHandler<HandledException, HttpResponse<String>> {
+        @Override
+        public HttpResponse<String> handle(HttpRequest request, HandledException exception) {
+            return HttpResponse.badRequest("handled");
+        }
+    }
+
+    static final class HandledException extends RuntimeException {
+        HandledException() {
+            super("handled", null, false, false);
+        }
+    }
+
+    static final class RoutedException extends RuntimeException {
+        RoutedException() {
+            super("routed", null, false, false);
+        }
     }
 
     public record SomeBean1(int id, String message) {
@@ -0,0 +1,76 @@
+package io.micronaut.inject.annotation;
+
+import io.micronaut.annotation.processing.test.JavaParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.tools.JavaFileObject;
+import java.util.Iterator;
+
+/**
+ * Compiles a controller whose methods repeat the same classpath annotations, the stereotypes of those are only
+ * processed once per compilation.
+ */
+@State(Scope.Benchmark)
+public class StereotypeCompileBenchmark {
+
+    StringBuilder source = new StringBuilder();
+
+    @Setup
+    public void prepare() {
+        source.append("""
+                package test;
+
+                import io.micronaut.http.HttpStatus;
+                import io.micronaut.http.MediaType;
+                import io.micronaut.http.annotation.*;
+
+                @Controller("/test")
+                public class Test {
+                """);
+
+        for (int i = 0; i < 500; i++) {
+            source.append("\n    @Get(\"/get").append(i).append("/{id}\")")
+                .append("\n    @Produces(MediaType.TEXT_PLAIN)")
+                .append("\n    public String get").append(i).append("(@PathVariable String id, @Header String name) {")
+                .append("\n        return id + name;")
+                .append("\n    }")
+                .append("\n    @Post(\"/post").append(i).append("\")")
+                .append("\n    @Status(HttpStatus.CREATED)")
+                .append("\n    public String post").append(i).append("(@Body String body, @QueryValue int count) {")
+                .append("\n        return body + count;")
+                .append("\n    }\n");
+        }
+        source.append("}");
+    }
+
+    @Benchmark
+    public int benchmarkCompileStereotypes() {
+        int count = 0;
+        try (JavaParser parser = new JavaParser()) {
+            Iterator<? extends JavaFileObject> files = parser.generate("test.Test", source.toString()).iterator();
+            while (files.hasNext()) {
+                files.next();
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + StereotypeCompileBenchmark.class.getSimpleName() + ".*")
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
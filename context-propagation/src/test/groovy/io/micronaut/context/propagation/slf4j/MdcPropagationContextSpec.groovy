@@ -0,0 +1,100 @@
+package io.micronaut.context.propagation.slf4j
+
+import io.micronaut.core.propagation.PropagatedContext
+import org.slf4j.MDC
+import spock.lang.Specification
+
+class MdcPropagationContextSpec extends Specification {
+
+    def cleanup() {
+        MDC.clear()
+    }
+
+    void "test the propagated state is applied and the previous state is restored"() {
+        given:
+        MDC.put('foo', 'outer')
+        def context = PropagatedContext.empty().plus(new MdcPropagationContext([foo: 'propagated', bar: 'baz']))
+
+        when:
+        Map<String, String> inScope
+        try (PropagatedContext.Scope ignore = context.propagate()) {
+            inScope = MDC.getCopyOfContextMap()
+        }
+
+        then:
+        inScope == [foo: 'propagated', bar: 'baz']
+        MDC.getCopyOfContextMap() == [foo: 'outer']
+    }
+
+    void "test entries put in a scope are removed when it closes"() {
+        given:
+        MDC.put('foo', 'bar')
+        def context = PropagatedContext.empty().plus(new MdcPropagationContext())
+
+        when:
+        try (PropagatedContext.Scope ignore = context.propagate()) {
+            MDC.put('inner', 'value')
+            MDC.remove('foo')
+        }
+
+        then:
+        MDC.getCopyOfContextMap() == [foo: 'bar']
+    }
+
+    void "test entries put in a scope that started with an empty MDC are removed"() {
+        given:
+        def context = PropagatedContext.empty().plus(new MdcPropagationContext([foo: 'bar']))
+
+        when:
+        Map<String, String> inScope
+        try (PropagatedContext.Scope ignore = context.propagate()) {
+            MDC.put('inner', 'value')
+            inScope = MDC.getCopyOfContextMap()
+        }
+
+        then:
+        inScope == [foo: 'bar', inner: 'value']
+        !MDC.get('foo')
+        !MDC.get('inner')
+    }
+
+    void "test an empty propagated state clears the MDC in the scope"() {
+        given:
+        MDC.put('foo', 'outer')
+        def context = PropagatedContext.empty().plus(new MdcPropagationContext(null))
+
+        when:
+        String inScope
+        try (PropagatedContext.Scope ignore = context.propagate()) {
+            inScope = MDC.get('foo')
+            MDC.put('inner', 'value')
+        }
+
+        then:
+        inScope == null
+        MDC.getCopyOfContextMap() == [foo: 'outer']
+    }
+
+    void "test nested scopes restore their own previous state"() {
+        given:
+        def outer = PropagatedContext.empty().plus(new MdcPropagationContext([level: 'outer']))
+        def inner = PropagatedContext.empty().plus(new MdcPropagationContext([level: 'inner']))
+
+        when:
+        String inInner
+        String afterInner
+        try (PropagatedContext.Scope ignore = outer.propagate()) {
+            try (PropagatedContext.Scope ignore2 = inner.propagate()) {
+                inInner = MDC.get('level')
+                MDC.put('leak', 'value')
+            }
+            afterInner = MDC.get('level')
+            assert !MDC.get('leak')
+        }
+
+        then:
+        inInner == 'inner'
+        afterInner == 'outer'
+        !MDC.get('level')
+    }
+}
@@ -24,6 +24,7 @@ import io.micronaut.context.annotation.Mapper;
 import io.micronaut.context.annotation.Mapper.ConflictStrategy;
 import io.micronaut.context.annotation.Mapper.MergeStrategy;
 import io.micronaut.context.expressions.ConfigurableExpressionEvaluationContext;
+import io.micronaut.core.annotation.AnnotationClassValue;
 import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.core.annotation.Internal;
@@ -46,6 +47,7 @@ import io.micronaut.inject.ExecutableMethod;
 import io.micronaut.inject.annotation.AnnotationMetadataHierarchy;
 import io.micronaut.inject.annotation.EvaluatedAnnotationMetadata;
 import io.micronaut.inject.annotation.MutableAnnotationMetadata;
+import io.micronaut.inject.beans.GeneratedMapper;
 import io.micronaut.inject.qualifiers.Qualifiers;
 
 import java.util.ArrayList;
@@ -86,10 +88,13 @@ final class MapperIntroduction implements MethodInterceptor<Object, Object> {
             ExecutableMethod<Object, Object> key = context.getExecutableMethod();
             MapInvocation invocation = cachedInvocations.get(key);
             if (invocation == null) {
-                if (context.getArguments().length == 1) {
-                    invocation = createMappingInvocation(context);
-                } else {
-                    invocation = createMergingInvocation(context);
+                invocation = createGeneratedInvocation(context);
+                if (invocation == null) {
+                    if (context.getArguments().length == 1) {
+                        invocation = createMappingInvocation(context);
+                    } else {
+                        invocation = createMergingInvocation(context);
+                    }
                 }
                 cachedInvocations.put(key, invocation);
             }
@@ -102,6 +107,20 @@ final class MapperIntroduction implements MethodInterceptor<Object, Object> {
         }
     }
 
+    /**
+     * Dispatch to the mapping written at compilation time by the mapper visitor, if any.
+     */
+    private @Nullable MapInvocation createGeneratedInvocation(MethodInvocationContext<Object, Object> context) {
+        Object instance = context.findAnnotation(GeneratedMapper.ANNOTATION_GENERATED)
+            .flatMap(generated -> generated.annotationClassValue(AnnotationMetadata.VALUE_MEMBER))
+            .flatMap(AnnotationClassValue::getInstance)
+            .orElse(null);
+        if (instance instanceof GeneratedMapper generatedMapper) {
+            return callContext -> generatedMapper.map(callContext.getParameterValues()[0], conversionService);
+        }
+        return null;
+    }
+
     private MapInvocation createMappingInvocation(MethodInvocationContext<Object, Object> context) {
         Argument<Object> toType = context.getReturnType().asArgument();
         BeanIntrospection<Object> toIntrospection = BeanIntrospection.getIntrospection(toType.getType());
@@ -38,6 +38,7 @@ public final class LoomSupport {
     private static final MethodHandle MH_OF_VIRTUAL;
     private static final MethodHandle MH_NAME;
     private static final MethodHandle MH_FACTORY;
+    private static final MethodHandle MH_IS_VIRTUAL;
 
     static {
         boolean sup;
@@ -75,6 +76,15 @@ public final class LoomSupport {
         MH_OF_VIRTUAL = ofVirtual;
         MH_NAME = name;
         MH_FACTORY = factory;
+
+        MethodHandle isVirtual;
+        try {
+            isVirtual = MethodHandles.lookup()
+                .findVirtual(Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+        } catch (Throwable e) {
+            isVirtual = null;
+        }
+        MH_IS_VIRTUAL = isVirtual;
     }
 
     private LoomSupport() {
@@ -99,6 +109,25 @@ public final class LoomSupport {
         }
     }
 
+    /**
+     * Check whether the given thread is a virtual thread.
+     *
+     * @param thread The thread
+     * @return {@code true} if the thread is virtual, {@code false} if it is a platform thread or virtual threads
+     * are not available on this JVM
+     * @since 4.8.0
+     */
+    public static boolean isVirtual(Thread thread) {
+        if (MH_IS_VIRTUAL == null) {
+            return false;
+        }
+        try {
+            return (boolean) MH_IS_VIRTUAL.invokeExact(thread);
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
     public static ThreadFactory newVirtualThreadFactory(String namePrefix) {
         checkSupported();
         try {
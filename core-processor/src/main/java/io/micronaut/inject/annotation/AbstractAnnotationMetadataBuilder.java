@@ -82,6 +82,8 @@ public abstract class AbstractAnnotationMetadataBuilder<T, A> {
     private static final List<AnnotationRemapper> ALL_ANNOTATION_REMAPPERS = new ArrayList<>(5);
     private static final Map<Object, CachedAnnotationMetadata> MUTATED_ANNOTATION_METADATA = new HashMap<>(100);
     private static final Map<String, Map<CharSequence, Object>> ANNOTATION_DEFAULTS = new HashMap<>(20);
+    private static final Map<StereotypesKey, CachedStereotypes> COMPILED_STEREOTYPES = new HashMap<>(50);
+    private static final Set<Object> STEREOTYPE_TYPES = new HashSet<>(50);
 
     static {
         for (AnnotationMapper<?> mapper : SoftServiceLoader.load(AnnotationMapper.class, AbstractAnnotationMetadataBuilder.class.getClassLoader())
@@ -233,7 +235,7 @@ public abstract class AbstractAnnotationMetadataBuilder<T, A> {
         CachedAnnotationMetadata cachedAnnotationMetadata = MUTATED_ANNOTATION_METADATA.get(key);
         if (cachedAnnotationMetadata == null) {
             AnnotationMetadata annotationMetadata = buildInternal(element);
-            cachedAnnotationMetadata = new DefaultCachedAnnotationMetadata(annotationMetadata);
+            cachedAnnotationMetadata = new DefaultCachedAnnotationMetadata(key, annotationMetadata);
             // Don't use `computeIfAbsent` as it can lead to a concurrent exception because the cache is accessed during in `buildInternal`
             MUTATED_ANNOTATION_METADATA.put(key, cachedAnnotationMetadata);
         }
@@ -689,6 +691,19 @@ public abstract class AbstractAnnotationMetadataBuilder<T, A> {
      */
     protected abstract VisitorContext getVisitorContext();
 
+    /**
+     * Whether the given annotation type is read from the classpath, rather than from the sources of the current
+     * compilation. The processed stereotypes of such annotation types cannot change during the compilation and are
+     * only computed once.
+     *
+     * @param annotationType The annotation type
+     * @return true if the annotation type is compiled
+     * @since 4.8.0
+     */
+    protected boolean isCompiledAnnotationType(@NonNull T annotationType) {
+        return false;
+    }
+
     private Map<CharSequence, Object> getAnnotationDefaults(T originatingElement,
                                                             String annotationName,
                                                             Map<? extends T, ?> elementDefaultValues,
@@ -1160,6 +1175,7 @@ public abstract class AbstractAnnotationMetadataBuilder<T, A> {
         return processedAnnotation;
     }
 
+    @SuppressWarnings("unchecked")
     @NonNull
     private List<ProcessedAnnotation> extractStereotypes(@NonNull ProcessingContext context,
                                                          @NonNull ProcessedAnnotation processedAnnotation) {
@@ -1172,6 +1188,28 @@ public abstract class AbstractAnnotationMetadataBuilder<T, A> {
             return Collections.emptyList();
         }
 
+        // The stereotypes of an annotation don't depend on its values, only on the processing path leading to it
+        var key = new StereotypesKey(annotationValue.getAnnotationName(), newContext.parentAnnotations, newContext.processedVisitors);
+        CachedStereotypes cached = COMPILED_STEREOTYPES.get(key);
+        if (cached != null) {
+            context.repeatableToContainer.putAll(cached.repeatableToContainer);
+            return (List<ProcessedAnnotation>) cached.stereotypes;
+        }
+        if (!isCompiledAnnotationType(processedAnnotation.annotationType)) {
+            return readStereotypes(newContext, processedAnnotation);
+        }
+        ProcessingContext isolatedContext = newContext.withRepeatableToContainer(new HashMap<>());
+        List<ProcessedAnnotation> stereotypes = readStereotypes(isolatedContext, processedAnnotation);
+        context.repeatableToContainer.putAll(isolatedContext.repeatableToContainer);
+        // Don't use `computeIfAbsent` as the cache is accessed recursively while extracting the stereotypes
+        COMPILED_STEREOTYPES.put(key, new CachedStereotypes(stereotypes, isolatedContext.repeatableToContainer));
+        return stereotypes;
+    }
+
+    @NonNull
+    private List<ProcessedAnnotation> readStereotypes(@NonNull ProcessingContext newContext,
+                                                      @NonNull ProcessedAnnotation processedAnnotation) {
+        AnnotationValue<?> annotationValue = processedAnnotation.getAnnotationValue();
         List<? extends A> nativeStereotypes = getAnnotationsForType(processedAnnotation.annotationType);
         if (nativeStereotypes.isEmpty()) {
             // We set an empty collection to mark that stereotypes are processed
@@ -1388,6 +1426,8 @@ public abstract class AbstractAnnotationMetadataBuilder<T, A> {
         if (element == null) {
             return List.of();
         }
+        // Remember the annotation types that contributed to the cached stereotypes, those are evicted if the type is mutated
+        STEREOTYPE_TYPES.add(element);
         CachedAnnotationMetadata modifiedStereotypes = MUTATED_ANNOTATION_METADATA.get(element);
         if (modifiedStereotypes == null || modifiedStereotypes.isEmpty() || !modifiedStereotypes.isMutated()) {
             return List.of();
@@ -1565,6 +1605,7 @@ public abstract class AbstractAnnotationMetadataBuilder<T, A> {
     @Internal
     public static void clearMutated() {
         MUTATED_ANNOTATION_METADATA.clear();
+        clearStereotypes();
     }
 
     /**
@@ -1582,6 +1623,12 @@ public abstract class AbstractAnnotationMetadataBuilder<T, A> {
     @Internal
     public static void clearCaches() {
         ANNOTATION_DEFAULTS.clear();
+        clearStereotypes();
+    }
+
+    private static void clearStereotypes() {
+        COMPILED_STEREOTYPES.clear();
+        STEREOTYPE_TYPES.clear();
     }
 
     /**
@@ -1759,6 +1806,35 @@ public abstract class AbstractAnnotationMetadataBuilder<T, A> {
             Set<Class<?>> visitors = CollectionUtils.concat(processedVisitors, processedVisitor);
             return new ProcessingContext(visitorContext, parentAnnotations, Collections.unmodifiableSet(visitors), repeatableToContainer);
         }
+
+        @NonNull
+        ProcessingContext withRepeatableToContainer(@NonNull Map<String, String> newRepeatableToContainer) {
+            return new ProcessingContext(visitorContext, parentAnnotations, processedVisitors, newRepeatableToContainer);
+        }
+    }
+
+    /**
+     * The key of the processed stereotypes of a compiled annotation type.
+     *
+     * @param annotationName    The annotation name
+     * @param parentAnnotations The parent annotations, including the annotation
+     * @param processedVisitors The processed visitors
+     * @since 4.8.0
+     */
+    private record StereotypesKey(@NonNull String annotationName,
+                                  @NonNull Set<String> parentAnnotations,
+                                  @NonNull Set<Class<?>> processedVisitors) {
+    }
+
+    /**
+     * The processed stereotypes of a compiled annotation type.
+     *
+     * @param stereotypes           The processed stereotypes
+     * @param repeatableToContainer The repeatable containers collected while processing the stereotypes
+     * @since 4.8.0
+     */
+    private record CachedStereotypes(@NonNull List<?> stereotypes,
+                                     @NonNull Map<String, String> repeatableToContainer) {
     }
 
     /**
@@ -1855,14 +1931,16 @@ public abstract class AbstractAnnotationMetadataBuilder<T, A> {
     }
 
     private static final class DefaultCachedAnnotationMetadata implements CachedAnnotationMetadata {
+        private final Object key;
         @Nullable
         private AnnotationMetadata annotationMetadata;
         private boolean isMutated;
 
-        public DefaultCachedAnnotationMetadata(AnnotationMetadata annotationMetadata) {
+        public DefaultCachedAnnotationMetadata(Object key, AnnotationMetadata annotationMetadata) {
             if (annotationMetadata instanceof AbstractAnnotationMetadataBuilder.CachedAnnotationMetadata) {
                 throw new IllegalStateException();
             }
+            this.key = key;
             this.annotationMetadata = annotationMetadata;
         }
 
@@ -1886,6 +1964,10 @@ public abstract class AbstractAnnotationMetadataBuilder<T, A> {
             }
             this.annotationMetadata = annotationMetadata;
             isMutated = true;
+            if (STEREOTYPE_TYPES.contains(key)) {
+                // The added stereotypes of the annotation type might be part of the cached stereotypes
+                COMPILED_STEREOTYPES.clear();
+            }
         }
     }
 
@@ -181,6 +181,20 @@ final class BeanIntrospectionWriter implements OriginatingElements, ClassOutputW
         "isBuildable"
     );
 
+    private static final Map<String, java.lang.reflect.Method> PRIMITIVE_GET_METHODS = Map.of(
+        "int", ReflectionUtils.getRequiredInternalMethod(AbstractInitializableBeanIntrospection.class, "dispatchGetInt", int.class, Object.class),
+        "long", ReflectionUtils.getRequiredInternalMethod(AbstractInitializableBeanIntrospection.class, "dispatchGetLong", int.class, Object.class),
+        "double", ReflectionUtils.getRequiredInternalMethod(AbstractInitializableBeanIntrospection.class, "dispatchGetDouble", int.class, Object.class),
+        "boolean", ReflectionUtils.getRequiredInternalMethod(AbstractInitializableBeanIntrospection.class, "dispatchGetBoolean", int.class, Object.class)
+    );
+
+    private static final Map<String, java.lang.reflect.Method> PRIMITIVE_SET_METHODS = Map.of(
+        "int", ReflectionUtils.getRequiredInternalMethod(AbstractInitializableBeanIntrospection.class, "dispatchSetInt", int.class, Object.class, int.class),
+        "long", ReflectionUtils.getRequiredInternalMethod(AbstractInitializableBeanIntrospection.class, "dispatchSetLong", int.class, Object.class, long.class),
+        "double", ReflectionUtils.getRequiredInternalMethod(AbstractInitializableBeanIntrospection.class, "dispatchSetDouble", int.class, Object.class, double.class),
+        "boolean", ReflectionUtils.getRequiredInternalMethod(AbstractInitializableBeanIntrospection.class, "dispatchSetBoolean", int.class, Object.class, boolean.class)
+    );
+
     private final String introspectionName;
     private final ClassTypeDef introspectionTypeDef;
     private final Map<AnnotationWithValue, String> indexByAnnotationAndValue = new HashMap<>(2);
@@ -193,6 +207,9 @@ final class BeanIntrospectionWriter implements OriginatingElements, ClassOutputW
     private MethodElement defaultConstructor;
 
     private final List<BeanPropertyData> beanProperties = new ArrayList<>();
+    // dispatch targets of primitive properties by primitive type name, read and written without boxing
+    private final Map<String, Map<Integer, DispatchWriter.DispatchTarget>> primitiveReads = new LinkedHashMap<>(4);
+    private final Map<String, Map<Integer, DispatchWriter.DispatchTarget>> primitiveWrites = new LinkedHashMap<>(4);
     private final List<BeanMethodData> beanMethods = new ArrayList<>();
 
     private final DispatchWriter dispatchWriter;
@@ -309,6 +326,8 @@ final class BeanIntrospectionWriter implements OriginatingElements, ClassOutputW
             } else {
                 throw new IllegalStateException();
             }
+            ClassElement readPrimitiveType = readMember instanceof MethodElement element ? element.getReturnType() : ((FieldElement) readMember).getType();
+            addPrimitiveDispatch(primitiveReads, readDispatchIndex, readPrimitiveType);
         }
         int writeDispatchIndex = -1;
         int withMethodIndex = -1;
@@ -320,6 +339,13 @@ final class BeanIntrospectionWriter implements OriginatingElements, ClassOutputW
             } else {
                 throw new IllegalStateException();
             }
+            if (writeMember instanceof MethodElement element) {
+                if (element.getParameters().length == 1) {
+                    addPrimitiveDispatch(primitiveWrites, writeDispatchIndex, element.getParameters()[0].getType());
+                }
+            } else {
+                addPrimitiveDispatch(primitiveWrites, writeDispatchIndex, ((FieldElement) writeMember).getType());
+            }
         }
         boolean isMutable = !isReadOnly || hasAssociatedConstructorArgument(name, genericType);
         if (isMutable) {
@@ -717,6 +743,12 @@ final class BeanIntrospectionWriter implements OriginatingElements, ClassOutputW
         if (dispatchMethod != null) {
             classDefBuilder.addMethod(dispatchMethod);
         }
+        primitiveReads.forEach((primitiveName, targets) ->
+            classDefBuilder.addMethod(buildPrimitiveGetMethod(PRIMITIVE_GET_METHODS.get(primitiveName), targets))
+        );
+        primitiveWrites.forEach((primitiveName, targets) ->
+            classDefBuilder.addMethod(buildPrimitiveSetMethod(PRIMITIVE_SET_METHODS.get(primitiveName), targets))
+        );
         MethodDef buildGetTargetMethodByIndex = dispatchWriter.buildGetTargetMethodByIndex();
         if (buildGetTargetMethodByIndex != null) {
             classDefBuilder.addMethod(buildGetTargetMethodByIndex);
@@ -790,6 +822,78 @@ final class BeanIntrospectionWriter implements OriginatingElements, ClassOutputW
             .build((aThis, methodParameters) -> ExpressionDef.constant(state).returning());
     }
 
+    private void addPrimitiveDispatch(Map<String, Map<Integer, DispatchWriter.DispatchTarget>> primitiveDispatches,
+                                      int dispatchIndex,
+                                      ClassElement type) {
+        if (!type.isPrimitive() || type.isArray() || !PRIMITIVE_GET_METHODS.containsKey(type.getName())) {
+            return;
+        }
+        DispatchWriter.DispatchTarget dispatchTarget = dispatchWriter.getDispatchTargets().get(dispatchIndex);
+        boolean direct = dispatchTarget instanceof DispatchWriter.MethodDispatchTarget methodDispatchTarget && !methodDispatchTarget.getMethodElement().isStatic()
+            || dispatchTarget instanceof DispatchWriter.FieldGetDispatchTarget fieldGetDispatchTarget && !fieldGetDispatchTarget.getField().isReflectionRequired()
+            || dispatchTarget instanceof DispatchWriter.FieldSetDispatchTarget fieldSetDispatchTarget && !fieldSetDispatchTarget.getField().isReflectionRequired();
+        if (direct) {
+            // reflective and Kotlin default targets keep using the boxed dispatch
+            primitiveDispatches.computeIfAbsent(type.getName(), name -> new LinkedHashMap<>()).put(dispatchIndex, dispatchTarget);
+        }
+    }
+
+    private MethodDef buildPrimitiveGetMethod(java.lang.reflect.Method method, Map<Integer, DispatchWriter.DispatchTarget> targets) {
+        TypeDef returnType = TypeDef.of(method.getReturnType());
+        return MethodDef.builder(method.getName())
+            .addModifiers(Modifier.PROTECTED, Modifier.FINAL)
+            .addParameters(method.getParameterTypes())
+            .returns(returnType)
+            .build((aThis, methodParameters) -> {
+                VariableDef.MethodParameter target = methodParameters.get(1);
+                Map<ExpressionDef.Constant, StatementDef> switchCases = new LinkedHashMap<>(targets.size());
+                targets.forEach((index, dispatchTarget) -> {
+                    ExpressionDef value;
+                    if (dispatchTarget instanceof DispatchWriter.MethodDispatchTarget methodDispatchTarget) {
+                        value = target.cast(ClassTypeDef.of(methodDispatchTarget.getDeclaringType()))
+                            .invoke(methodDispatchTarget.getMethodElement());
+                    } else {
+                        FieldElement field = ((DispatchWriter.FieldGetDispatchTarget) dispatchTarget).getField();
+                        value = target.cast(ClassTypeDef.of(field.getOwningType())).field(field);
+                    }
+                    switchCases.put(ExpressionDef.constant(index), value.returning());
+                });
+                return methodParameters.get(0).asStatementSwitch(
+                    returnType,
+                    switchCases,
+                    aThis.superRef().invoke(method, methodParameters.get(0), target).returning()
+                );
+            });
+    }
+
+    private MethodDef buildPrimitiveSetMethod(java.lang.reflect.Method method, Map<Integer, DispatchWriter.DispatchTarget> targets) {
+        return MethodDef.builder(method.getName())
+            .addModifiers(Modifier.PROTECTED, Modifier.FINAL)
+            .addParameters(method.getParameterTypes())
+            .returns(TypeDef.VOID)
+            .build((aThis, methodParameters) -> {
+                VariableDef.MethodParameter target = methodParameters.get(1);
+                VariableDef.MethodParameter value = methodParameters.get(2);
+                Map<ExpressionDef.Constant, StatementDef> switchCases = new LinkedHashMap<>(targets.size());
+                targets.forEach((index, dispatchTarget) -> {
+                    StatementDef statement;
+                    if (dispatchTarget instanceof DispatchWriter.MethodDispatchTarget methodDispatchTarget) {
+                        statement = target.cast(ClassTypeDef.of(methodDispatchTarget.getDeclaringType()))
+                            .invoke(methodDispatchTarget.getMethodElement(), value);
+                    } else {
+                        FieldElement field = ((DispatchWriter.FieldSetDispatchTarget) dispatchTarget).getField();
+                        statement = target.cast(ClassTypeDef.of(field.getOwningType())).field(field).put(value);
+                    }
+                    switchCases.put(ExpressionDef.constant(index), statement);
+                });
+                return methodParameters.get(0).asStatementSwitch(
+                    TypeDef.VOID,
+                    switchCases,
+                    aThis.superRef().invoke(method, methodParameters.get(0), target, value)
+                );
+            });
+    }
+
     @Nullable
     private MethodDef getFindIndexedProperty() {
         if (indexByAnnotationAndValue.isEmpty()) {
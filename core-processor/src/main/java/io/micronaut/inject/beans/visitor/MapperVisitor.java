@@ -16,6 +16,7 @@
 package io.micronaut.inject.beans.visitor;
 
 import io.micronaut.context.annotation.Mapper;
+import io.micronaut.core.annotation.AnnotationClassValue;
 import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.util.CollectionUtils;
@@ -23,10 +24,14 @@ import io.micronaut.inject.ast.ClassElement;
 import io.micronaut.inject.ast.MethodElement;
 import io.micronaut.inject.ast.ParameterElement;
 import io.micronaut.inject.ast.PropertyElementQuery;
+import io.micronaut.inject.beans.GeneratedMapper;
 import io.micronaut.inject.processing.ProcessingException;
+import io.micronaut.inject.writer.ClassGenerationException;
 import io.micronaut.inject.visitor.TypeElementVisitor;
 import io.micronaut.inject.visitor.VisitorContext;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -34,11 +39,14 @@ import java.util.Map;
 import java.util.Set;
 
 /**
- * The mapper visitor.
+ * The mapper visitor. Single argument mapper methods without custom mappings get a
+ * {@link GeneratedMapper} written by {@link MapperWriter} when all properties can be resolved.
  * @since 4.1.0
  */
 public final class MapperVisitor implements TypeElementVisitor<Object, Mapper> {
+    private final List<MapperWriter> writers = new ArrayList<>();
     private ClassElement lastClassElement;
+    private int mapperIndex;
 
     @Override
     public Set<String> getSupportedAnnotationNames() {
@@ -48,6 +56,7 @@ public final class MapperVisitor implements TypeElementVisitor<Object, Mapper> {
     @Override
     public void visitClass(ClassElement element, VisitorContext context) {
         lastClassElement = element;
+        mapperIndex = 0;
     }
 
     @Override
@@ -67,7 +76,36 @@ public final class MapperVisitor implements TypeElementVisitor<Object, Mapper> {
             }
             if (lastClassElement != null) {
                 lastClassElement.annotate(Mapper.class);
+                if (CollectionUtils.isEmpty(values)) {
+                    writeGeneratedMapper(lastClassElement, element);
+                }
+            }
+        }
+    }
+
+    private void writeGeneratedMapper(ClassElement mapperType, MethodElement element) {
+        String packageName = mapperType.getPackageName();
+        String simpleName = packageName.isEmpty() ? mapperType.getName() : mapperType.getName().substring(packageName.length() + 1);
+        String className = (packageName.isEmpty() ? "" : packageName + '.')
+            + '$' + simpleName + '$' + element.getName() + mapperIndex++ + MapperWriter.CLASS_SUFFIX;
+        MapperWriter writer = MapperWriter.create(mapperType, element, className);
+        if (writer != null) {
+            // an instantiated class value, so that the annotation metadata creates the mapper without reflection
+            element.annotate(GeneratedMapper.ANNOTATION_GENERATED, builder -> builder.value(new AnnotationClassValue<>(className, true)));
+            writers.add(writer);
+        }
+    }
+
+    @Override
+    public void finish(VisitorContext visitorContext) {
+        try {
+            for (MapperWriter writer : writers) {
+                writer.accept(visitorContext);
             }
+        } catch (IOException e) {
+            throw new ClassGenerationException("I/O error occurred during mapper generation: " + e.getMessage(), e);
+        } finally {
+            writers.clear();
         }
     }
 
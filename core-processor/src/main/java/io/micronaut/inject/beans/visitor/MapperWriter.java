@@ -0,0 +1,354 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.inject.beans.visitor;
+
+import io.micronaut.context.annotation.Mapper;
+import io.micronaut.core.annotation.AnnotationUtil;
+import io.micronaut.core.annotation.Generated;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Introspected;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.bind.annotation.Bindable;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.reflect.ReflectionUtils;
+import io.micronaut.core.type.Argument;
+import io.micronaut.inject.ast.ClassElement;
+import io.micronaut.inject.ast.FieldElement;
+import io.micronaut.inject.ast.MemberElement;
+import io.micronaut.inject.ast.MethodElement;
+import io.micronaut.inject.ast.ParameterElement;
+import io.micronaut.inject.ast.PropertyElement;
+import io.micronaut.inject.ast.PropertyElementQuery;
+import io.micronaut.inject.ast.TypedElement;
+import io.micronaut.inject.beans.GeneratedMapper;
+import io.micronaut.inject.writer.ClassOutputWriter;
+import io.micronaut.inject.writer.ClassWriterOutputVisitor;
+import io.micronaut.inject.writer.MethodGenUtils;
+import io.micronaut.sourcegen.bytecode.ByteCodeWriter;
+import io.micronaut.sourcegen.model.AnnotationDef;
+import io.micronaut.sourcegen.model.ClassDef;
+import io.micronaut.sourcegen.model.ClassTypeDef;
+import io.micronaut.sourcegen.model.ExpressionDef;
+import io.micronaut.sourcegen.model.MethodDef;
+import io.micronaut.sourcegen.model.StatementDef;
+import io.micronaut.sourcegen.model.TypeDef;
+import io.micronaut.sourcegen.model.VariableDef;
+
+import javax.lang.model.element.Modifier;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes a {@link GeneratedMapper} for a single argument {@link Mapper} method without custom mappings.
+ * The mapping invokes the getters of the source and the constructor and setters of the target directly,
+ * mirroring what {@code MapperIntroduction} does at runtime through the bean introspections.
+ *
+ * <p>A mapping is only written when every property can be resolved at compilation time, otherwise
+ * {@link #create(ClassElement, MethodElement, String)} returns {@code null} and the method is mapped at runtime.</p>
+ *
+ * @since 4.8.0
+ */
+@Internal
+final class MapperWriter implements ClassOutputWriter {
+
+    /**
+     * Suffix for generated mapper classes.
+     */
+    static final String CLASS_SUFFIX = "$GeneratedMapper";
+
+    private static final Method MAP_METHOD = ReflectionUtils.getRequiredMethod(
+        GeneratedMapper.class,
+        "map",
+        Object.class,
+        ConversionService.class
+    );
+
+    private static final Method CONVERT_METHOD = ReflectionUtils.getRequiredMethod(
+        GeneratedMapper.class,
+        "convert",
+        ConversionService.class,
+        Object.class,
+        Argument.class
+    );
+
+    private static final Method ARGUMENT_OF_METHOD = ReflectionUtils.getRequiredMethod(
+        Argument.class,
+        "of",
+        Class.class,
+        String.class
+    );
+
+    /**
+     * Annotations of a target property that do not change how its value is converted.
+     */
+    private static final Set<String> NULLABILITY_ANNOTATIONS = Set.of(
+        AnnotationUtil.NULLABLE,
+        AnnotationUtil.NON_NULL,
+        Nullable.class.getName(),
+        NonNull.class.getName()
+    );
+
+    private static final Method REQUIRE_NON_NULL_METHOD = ReflectionUtils.getRequiredMethod(
+        GeneratedMapper.class,
+        "requireNonNull",
+        Object.class,
+        String.class
+    );
+
+    private final String className;
+    private final ClassElement originatingElement;
+    private final ClassElement fromType;
+    private final MethodElement constructor;
+    private final List<PropertyMapping> constructorMappings;
+    private final List<PropertyMapping> writeMappings;
+
+    private MapperWriter(String className,
+                         ClassElement originatingElement,
+                         ClassElement fromType,
+                         MethodElement constructor,
+                         List<PropertyMapping> constructorMappings,
+                         List<PropertyMapping> writeMappings) {
+        this.className = className;
+        this.originatingElement = originatingElement;
+        this.fromType = fromType;
+        this.constructor = constructor;
+        this.constructorMappings = constructorMappings;
+        this.writeMappings = writeMappings;
+    }
+
+    /**
+     * Creates the writer for the given mapper method.
+     *
+     * @param mapperType The type declaring the method
+     * @param method     The mapper method
+     * @param className  The name of the class to generate, in the package of the mapper type
+     * @return The writer or {@code null} if the method cannot be mapped at compilation time
+     */
+    @Nullable
+    static MapperWriter create(@NonNull ClassElement mapperType, @NonNull MethodElement method, @NonNull String className) {
+        ParameterElement[] parameters = method.getParameters();
+        if (parameters.length != 1) {
+            return null;
+        }
+        ClassElement fromType = parameters[0].getGenericType();
+        ClassElement toType = method.getGenericReturnType();
+        if (!isMappableType(mapperType, fromType) || !isMappableType(mapperType, toType) || toType.isAbstract()
+            || fromType.isAssignable(Map.class)
+            || toType.isPresent(Introspected.class, "builder")) {
+            return null;
+        }
+        MethodElement constructor = toType.getPrimaryConstructor().orElse(null);
+        if (constructor == null || !constructor.isAccessible(mapperType, false)) {
+            return null;
+        }
+        boolean convert = method.enumValue(Mapper.class, "conflictStrategy", Mapper.ConflictStrategy.class)
+            .orElse(Mapper.ConflictStrategy.CONVERT) == Mapper.ConflictStrategy.CONVERT;
+
+        Map<String, PropertyElement> readProperties = new LinkedHashMap<>();
+        for (PropertyElement property : fromType.getBeanProperties(PropertyElementQuery.of(fromType))) {
+            if (!property.isExcluded() && !property.isWriteOnly()) {
+                readProperties.put(property.getName(), property);
+            }
+        }
+
+        Set<String> constructorNames = new HashSet<>();
+        List<PropertyMapping> constructorMappings = new ArrayList<>();
+        for (ParameterElement parameter : constructor.getParameters()) {
+            constructorNames.add(parameter.getName());
+            PropertyMapping mapping = createMapping(mapperType, readProperties.get(parameter.getName()), parameter, parameter.getGenericType(), null, convert);
+            if (mapping == null) {
+                return null;
+            }
+            constructorMappings.add(mapping);
+        }
+
+        List<PropertyMapping> writeMappings = new ArrayList<>();
+        for (PropertyElement property : toType.getBeanProperties(PropertyElementQuery.of(toType))) {
+            if (property.isExcluded() || property.isReadOnly() || constructorNames.contains(property.getName())) {
+                continue;
+            }
+            MemberElement writeMember = property.getWriteMember().orElse(null);
+            if (writeMember == null || !writeMember.isAccessible(mapperType, false)) {
+                return null;
+            }
+            ClassElement writeType = property.getWriteType().orElse(property.getGenericType());
+            PropertyMapping mapping = createMapping(mapperType, readProperties.get(property.getName()), property, writeType, writeMember, convert);
+            if (mapping == null) {
+                return null;
+            }
+            writeMappings.add(mapping);
+        }
+        return new MapperWriter(className, mapperType, fromType, constructor, constructorMappings, writeMappings);
+    }
+
+    @Nullable
+    private static PropertyMapping createMapping(ClassElement mapperType,
+                                                 @Nullable PropertyElement readProperty,
+                                                 TypedElement target,
+                                                 ClassElement targetType,
+                                                 @Nullable MemberElement writeMember,
+                                                 boolean convert) {
+        if (target.isPresent(Bindable.class, "defaultValue") || targetType.isGenericPlaceholder()) {
+            // defaults and type variables are resolved by the introspection at runtime
+            return null;
+        }
+        boolean required = targetType.isPrimitive() || target.isDeclaredNonNull();
+        if (readProperty == null) {
+            // the introspection builder passes null for missing properties, which fails for required ones
+            return required ? null : new PropertyMapping(target.getName(), null, targetType, writeMember, false, false);
+        }
+        MemberElement readMember = readProperty.getReadMember().orElse(null);
+        if (readMember == null || !readMember.isAccessible(mapperType, false)) {
+            return null;
+        }
+        ClassElement readType = readProperty.getReadType().orElse(readProperty.getGenericType());
+        if (readType.isGenericPlaceholder()) {
+            return null;
+        }
+        if (readType.isPrimitive() || targetType.isPrimitive()) {
+            if (readType.isPrimitive() && targetType.isPrimitive()
+                && readType.getName().equals(targetType.getName())
+                && readType.getArrayDimensions() == targetType.getArrayDimensions()) {
+                return new PropertyMapping(target.getName(), readMember, targetType, writeMember, false, false);
+            }
+            return null;
+        }
+        if (readType.isAssignable(targetType)) {
+            return new PropertyMapping(target.getName(), readMember, targetType, writeMember, false, required);
+        }
+        if (convert && !targetType.isArray() && targetType.getTypeArguments().isEmpty() && !hasConversionAnnotations(target)) {
+            return new PropertyMapping(target.getName(), readMember, targetType, writeMember, true, required);
+        }
+        return null;
+    }
+
+    /**
+     * The runtime converts with the introspected argument, whose annotations (for example {@code @Format})
+     * are visible to the type converters. Only properties without such annotations get a generated conversion.
+     */
+    private static boolean hasConversionAnnotations(TypedElement target) {
+        for (String annotationName : target.getAnnotationNames()) {
+            if (!NULLABILITY_ANNOTATIONS.contains(annotationName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isMappableType(ClassElement mapperType, ClassElement type) {
+        if (type.isPrimitive() || type.isArray() || type.isGenericPlaceholder() || !type.hasStereotype(Introspected.class)) {
+            return false;
+        }
+        return type.isPublic() || (!type.isPrivate() && type.getPackageName().equals(mapperType.getPackageName()));
+    }
+
+    @Override
+    public void accept(ClassWriterOutputVisitor classWriterOutputVisitor) throws IOException {
+        try (OutputStream outputStream = classWriterOutputVisitor.visitClass(className, originatingElement)) {
+            outputStream.write(generateClassBytes());
+        }
+    }
+
+    private byte[] generateClassBytes() {
+        ClassDef classDef = ClassDef.builder(className).synthetic()
+            .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+            .addAnnotation(AnnotationDef.builder(Generated.class).build())
+            .addSuperinterface(TypeDef.of(GeneratedMapper.class))
+            .addMethod(MethodDef.constructor().addModifiers(Modifier.PUBLIC).build((aThis, methodParameters)
+                -> aThis.superRef().invokeConstructor()))
+            .addMethod(MethodDef.override(MAP_METHOD).build((aThis, methodParameters) ->
+                methodParameters.get(0).cast(ClassTypeDef.of(fromType)).newLocal("source", sourceVar -> {
+                    VariableDef.MethodParameter conversionService = methodParameters.get(1);
+                    List<ExpressionDef> values = new ArrayList<>(constructorMappings.size());
+                    for (PropertyMapping mapping : constructorMappings) {
+                        values.add(mapping.value(sourceVar, conversionService));
+                    }
+                    ExpressionDef instance = MethodGenUtils.invokeBeanConstructor(constructor, false, values);
+                    if (writeMappings.isEmpty()) {
+                        return instance.returning();
+                    }
+                    return instance.newLocal("target", targetVar -> {
+                        List<StatementDef> statements = new ArrayList<>(writeMappings.size() + 1);
+                        for (PropertyMapping mapping : writeMappings) {
+                            ExpressionDef value = mapping.value(sourceVar, conversionService);
+                            if (mapping.writeMember instanceof MethodElement writeMethod) {
+                                statements.add(targetVar.invoke(writeMethod, value));
+                            } else {
+                                statements.add(targetVar.field((FieldElement) mapping.writeMember).assign(value));
+                            }
+                        }
+                        statements.add(targetVar.returning());
+                        return StatementDef.multi(statements);
+                    });
+                })
+            ))
+            .build();
+        return new ByteCodeWriter().write(classDef);
+    }
+
+    /**
+     * The mapping of a single property.
+     *
+     * @param name        The name of the target property or constructor argument
+     * @param readMember  The member reading the source property, null if the source has no such property
+     * @param targetType  The type of the target property
+     * @param writeMember The member writing the target property, null for constructor arguments
+     * @param convert     Whether the value is converted with the conversion service
+     * @param required    Whether the target property is declared non-null
+     */
+    private record PropertyMapping(String name,
+                                   @Nullable MemberElement readMember,
+                                   ClassElement targetType,
+                                   @Nullable MemberElement writeMember,
+                                   boolean convert,
+                                   boolean required) {
+
+        ExpressionDef value(VariableDef source, VariableDef conversionService) {
+            TypeDef type = TypeDef.erasure(targetType);
+            if (readMember == null) {
+                return ExpressionDef.nullValue().cast(type);
+            }
+            ExpressionDef value;
+            if (readMember instanceof MethodElement readMethod) {
+                value = source.invoke(readMethod);
+            } else {
+                value = source.field((FieldElement) readMember);
+            }
+            if (convert) {
+                // the same conversion context as the runtime mapping, an argument named after the target property
+                ExpressionDef argument = ClassTypeDef.of(Argument.class)
+                    .invokeStatic(ARGUMENT_OF_METHOD, ExpressionDef.constant(type), ExpressionDef.constant(name));
+                value = ClassTypeDef.of(GeneratedMapper.class)
+                    .invokeStatic(CONVERT_METHOD, conversionService, value, argument)
+                    .cast(type);
+            }
+            if (required) {
+                value = ClassTypeDef.of(GeneratedMapper.class)
+                    .invokeStatic(REQUIRE_NON_NULL_METHOD, value, ExpressionDef.constant(name))
+                    .cast(type);
+            }
+            return value;
+        }
+    }
+}
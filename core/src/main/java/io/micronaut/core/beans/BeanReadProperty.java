@@ -66,6 +66,62 @@ public interface BeanReadProperty<B, T> extends AnnotatedElement, AnnotationMeta
     @Nullable
     T get(@NonNull B bean);
 
+    /**
+     * Read an {@code int} property. Generated introspections read {@code int} properties without boxing the value.
+     *
+     * @param bean The bean to read from
+     * @return The value
+     * @throws IllegalArgumentException If the bean instance if not of the correct type
+     * @throws NullPointerException If the value is null
+     * @throws ClassCastException If the property is not numeric
+     * @since 4.8.0
+     */
+    default int getInt(@NonNull B bean) {
+        return ((Number) get(bean)).intValue();
+    }
+
+    /**
+     * Read a {@code long} property. Generated introspections read {@code long} properties without boxing the value.
+     *
+     * @param bean The bean to read from
+     * @return The value
+     * @throws IllegalArgumentException If the bean instance if not of the correct type
+     * @throws NullPointerException If the value is null
+     * @throws ClassCastException If the property is not numeric
+     * @since 4.8.0
+     */
+    default long getLong(@NonNull B bean) {
+        return ((Number) get(bean)).longValue();
+    }
+
+    /**
+     * Read a {@code double} property. Generated introspections read {@code double} properties without boxing the value.
+     *
+     * @param bean The bean to read from
+     * @return The value
+     * @throws IllegalArgumentException If the bean instance if not of the correct type
+     * @throws NullPointerException If the value is null
+     * @throws ClassCastException If the property is not numeric
+     * @since 4.8.0
+     */
+    default double getDouble(@NonNull B bean) {
+        return ((Number) get(bean)).doubleValue();
+    }
+
+    /**
+     * Read a {@code boolean} property. Generated introspections read {@code boolean} properties without boxing the value.
+     *
+     * @param bean The bean to read from
+     * @return The value
+     * @throws IllegalArgumentException If the bean instance if not of the correct type
+     * @throws NullPointerException If the value is null
+     * @throws ClassCastException If the property is not a boolean
+     * @since 4.8.0
+     */
+    default boolean getBoolean(@NonNull B bean) {
+        return (Boolean) get(bean);
+    }
+
     /**
      * Read the value and try to convert it to the given type.
      * @param bean The bean
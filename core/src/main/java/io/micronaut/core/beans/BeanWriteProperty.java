@@ -84,6 +84,58 @@ public interface BeanWriteProperty<B, T> extends AnnotatedElement, AnnotationMet
      */
     void set(@NonNull B bean, @Nullable T value);
 
+    /**
+     * Write an {@code int} property. Generated introspections write {@code int} properties without boxing the value.
+     *
+     * @param bean The bean
+     * @param value The value to write
+     * @throws IllegalArgumentException If either the bean type or value type are not correct
+     * @since 4.8.0
+     */
+    @SuppressWarnings("unchecked")
+    default void setInt(@NonNull B bean, int value) {
+        set(bean, (T) Integer.valueOf(value));
+    }
+
+    /**
+     * Write a {@code long} property. Generated introspections write {@code long} properties without boxing the value.
+     *
+     * @param bean The bean
+     * @param value The value to write
+     * @throws IllegalArgumentException If either the bean type or value type are not correct
+     * @since 4.8.0
+     */
+    @SuppressWarnings("unchecked")
+    default void setLong(@NonNull B bean, long value) {
+        set(bean, (T) Long.valueOf(value));
+    }
+
+    /**
+     * Write a {@code double} property. Generated introspections write {@code double} properties without boxing the value.
+     *
+     * @param bean The bean
+     * @param value The value to write
+     * @throws IllegalArgumentException If either the bean type or value type are not correct
+     * @since 4.8.0
+     */
+    @SuppressWarnings("unchecked")
+    default void setDouble(@NonNull B bean, double value) {
+        set(bean, (T) Double.valueOf(value));
+    }
+
+    /**
+     * Write a {@code boolean} property. Generated introspections write {@code boolean} properties without boxing the value.
+     *
+     * @param bean The bean
+     * @param value The value to write
+     * @throws IllegalArgumentException If either the bean type or value type are not correct
+     * @since 4.8.0
+     */
+    @SuppressWarnings("unchecked")
+    default void setBoolean(@NonNull B bean, boolean value) {
+        set(bean, (T) Boolean.valueOf(value));
+    }
+
     /**
      * Convert the value and set if on the bean using the default conversion service.
      *
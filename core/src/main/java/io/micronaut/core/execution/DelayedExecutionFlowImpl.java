@@ -20,6 +20,8 @@ import io.micronaut.core.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
@@ -106,23 +108,73 @@ final class DelayedExecutionFlowImpl<T> implements DelayedExecutionFlow<T> {
         return (ExecutionFlow<R>) this;
     }
 
+    /**
+     * The output of the last step, if this flow has already completed up to it. Once the output of the tail is
+     * published the completing thread does not touch the tail again, so further operators can be applied to the
+     * output directly instead of allocating a {@link Step} for each of them.
+     *
+     * @return The output of the tail step or {@code null} if the flow has not completed yet
+     */
+    @Nullable
+    private ExecutionFlow<Object> completedOutput() {
+        Step t = tail;
+        // steps can't be added after cancellation, let next() report it
+        return t instanceof DelayedExecutionFlowImpl.Cancel<?> ? null : t.output;
+    }
+
+    /**
+     * Replace the output of the completed tail step with the result of an operator applied directly to it.
+     *
+     * @param output The new output
+     * @param <R> The return type of the flow for generics support
+     * @return This flow
+     */
+    @SuppressWarnings("unchecked")
+    private <R> ExecutionFlow<R> replaceOutput(ExecutionFlow<?> output) {
+        tail.output = (ExecutionFlow<Object>) output;
+        return (ExecutionFlow<R>) this;
+    }
+
+    @SuppressWarnings("unchecked")
     @Override
     public <R> ExecutionFlow<R> map(Function<? super T, ? extends R> transformer) {
+        ExecutionFlow<Object> output = completedOutput();
+        if (output != null) {
+            return replaceOutput(Map.map(output, (Function<Object, Object>) transformer));
+        }
+        if (tail instanceof DelayedExecutionFlowImpl.Map<?, ?> previous && previous.fuse(transformer)) {
+            // consecutive maps share a single step
+            return (ExecutionFlow<R>) this;
+        }
         return next(new Map<>(transformer));
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public <R> ExecutionFlow<R> flatMap(Function<? super T, ? extends ExecutionFlow<? extends R>> transformer) {
+        ExecutionFlow<Object> output = completedOutput();
+        if (output != null) {
+            return replaceOutput(FlatMap.flatMap(output, (Function<Object, ExecutionFlow<?>>) transformer));
+        }
         return next(new FlatMap<>(transformer));
     }
 
     @Override
     public <R> ExecutionFlow<R> then(Supplier<? extends ExecutionFlow<? extends R>> supplier) {
+        ExecutionFlow<Object> output = completedOutput();
+        if (output != null) {
+            return replaceOutput(Then.then(output, supplier));
+        }
         return next(new Then<>(supplier));
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public ExecutionFlow<T> onErrorResume(Function<? super Throwable, ? extends ExecutionFlow<? extends T>> fallback) {
+        ExecutionFlow<Object> output = completedOutput();
+        if (output != null) {
+            return replaceOutput(OnErrorResume.onErrorResume(output, (Function<Throwable, ExecutionFlow<?>>) (Function) fallback));
+        }
         return next(new OnErrorResume<>(fallback));
     }
 
@@ -131,13 +183,25 @@ final class DelayedExecutionFlowImpl<T> implements DelayedExecutionFlow<T> {
         return this;
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public void onComplete(BiConsumer<? super T, Throwable> fn) {
+        ExecutionFlow<Object> output = completedOutput();
+        if (output != null) {
+            OnComplete.onComplete(output, (BiConsumer<Object, Throwable>) fn);
+            return;
+        }
         next(new OnComplete<>(fn));
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public void completeTo(CompletableFuture<T> completableFuture) {
+        ExecutionFlow<Object> output = completedOutput();
+        if (output != null) {
+            OnCompleteToFuture.completeTo(output, (CompletableFuture<Object>) completableFuture);
+            return;
+        }
         next(new OnCompleteToFuture<>(completableFuture));
     }
 
@@ -274,16 +338,6 @@ final class DelayedExecutionFlowImpl<T> implements DelayedExecutionFlow<T> {
             // no output yet.
             return null;
         }
-
-        /**
-         * Return an immediate failed value from this step (e.g. from map).
-         *
-         * @param e The exception to return
-         * @return The value to return from {@link #work}
-         */
-        final <O> ExecutionFlow<O> returnError(Throwable e) {
-            return ExecutionFlow.error(e);
-        }
     }
 
     /**
@@ -299,18 +353,50 @@ final class DelayedExecutionFlowImpl<T> implements DelayedExecutionFlow<T> {
     }
 
     private static final class Map<I, O> extends Step<I, O> {
-        private final Function<? super I, ? extends O> transformer;
+        private static final VarHandle TRANSFORMER;
+
+        static {
+            try {
+                TRANSFORMER = MethodHandles.lookup().findVarHandle(Map.class, "transformer", Function.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        /**
+         * The transformer, or {@code null} once the step has started and can no longer be fused.
+         */
+        @SuppressWarnings("unused")
+        private volatile Function<? super I, ? extends O> transformer;
 
         private Map(Function<? super I, ? extends O> transformer) {
             this.transformer = transformer;
         }
 
+        /**
+         * Append the given transformer to this step, if it has not started yet.
+         *
+         * @param next The transformer to apply to the output of this step
+         * @return Whether the transformer was fused into this step
+         */
+        @SuppressWarnings("unchecked")
+        boolean fuse(Function next) {
+            Function<? super I, ? extends O> current = transformer;
+            return current != null && TRANSFORMER.compareAndSet(this, current, current.andThen(next));
+        }
+
+        @SuppressWarnings("unchecked")
         @Override
         ExecutionFlow<O> apply(ExecutionFlow<I> executionFlow) {
+            // claim the transformer so that no further maps are fused while it runs
+            return map(executionFlow, (Function<? super I, ? extends O>) TRANSFORMER.getAndSet(this, (Function) null));
+        }
+
+        static <I, O> ExecutionFlow<O> map(ExecutionFlow<I> executionFlow, Function<? super I, ? extends O> transformer) {
             try {
                 return executionFlow.map(transformer);
             } catch (Exception e) {
-                return returnError(e);
+                return ExecutionFlow.error(e);
             }
         }
     }
@@ -324,10 +410,14 @@ final class DelayedExecutionFlowImpl<T> implements DelayedExecutionFlow<T> {
 
         @Override
         ExecutionFlow<O> apply(ExecutionFlow<I> executionFlow) {
+            return flatMap(executionFlow, transformer);
+        }
+
+        static <I, O> ExecutionFlow<O> flatMap(ExecutionFlow<I> executionFlow, Function<? super I, ? extends ExecutionFlow<? extends O>> transformer) {
             try {
                 return executionFlow.flatMap(transformer);
             } catch (Exception e) {
-                return returnError(e);
+                return ExecutionFlow.error(e);
             }
         }
     }
@@ -341,10 +431,14 @@ final class DelayedExecutionFlowImpl<T> implements DelayedExecutionFlow<T> {
 
         @Override
         ExecutionFlow<O> apply(ExecutionFlow<I> executionFlow) {
+            return then(executionFlow, transformer);
+        }
+
+        static <I, O> ExecutionFlow<O> then(ExecutionFlow<I> executionFlow, Supplier<? extends ExecutionFlow<? extends O>> transformer) {
             try {
                 return executionFlow.then(transformer);
             } catch (Exception e) {
-                return returnError(e);
+                return ExecutionFlow.error(e);
             }
         }
     }
@@ -358,10 +452,14 @@ final class DelayedExecutionFlowImpl<T> implements DelayedExecutionFlow<T> {
 
         @Override
         ExecutionFlow<I> apply(ExecutionFlow<I> executionFlow) {
+            return onErrorResume(executionFlow, fallback);
+        }
+
+        static <I> ExecutionFlow<I> onErrorResume(ExecutionFlow<I> executionFlow, Function<? super Throwable, ? extends ExecutionFlow<? extends I>> fallback) {
             try {
                 return executionFlow.onErrorResume(fallback);
             } catch (Exception e) {
-                return returnError(e);
+                return ExecutionFlow.error(e);
             }
         }
     }
@@ -375,12 +473,16 @@ final class DelayedExecutionFlowImpl<T> implements DelayedExecutionFlow<T> {
 
         @Override
         ExecutionFlow<E> apply(ExecutionFlow<E> executionFlow) {
+            onComplete(executionFlow, consumer);
+            return executionFlow;
+        }
+
+        static <E> void onComplete(ExecutionFlow<E> executionFlow, BiConsumer<? super E, Throwable> consumer) {
             try {
                 executionFlow.onComplete(consumer);
             } catch (Exception e) {
                 LOG.error("Failed to execute onComplete", e);
             }
-            return executionFlow;
         }
     }
 
@@ -393,12 +495,16 @@ final class DelayedExecutionFlowImpl<T> implements DelayedExecutionFlow<T> {
 
         @Override
         ExecutionFlow<E> apply(ExecutionFlow<E> executionFlow) {
+            completeTo(executionFlow, future);
+            return executionFlow;
+        }
+
+        static <E> void completeTo(ExecutionFlow<E> executionFlow, CompletableFuture<E> future) {
             try {
                 executionFlow.completeTo(future);
             } catch (Exception e) {
                 LOG.error("Failed to execute onComplete", e);
             }
-            return executionFlow;
         }
     }
 
@@ -132,7 +132,13 @@ public class DefaultClassPathResourceLoader implements ClassPathResourceLoader {
             if (startsWithBase(url)) {
                 try {
                     URI uri = url.toURI();
-                    if (uri.getScheme().equals("jar")) {
+                    Boolean isJarDirectory = JarDirectoryIndex.isDirectory(uri);
+                    if (isJarDirectory != null) {
+                        if (isJarDirectory) {
+                            return Optional.empty();
+                        }
+                        return Optional.of(url.openStream());
+                    } else if (uri.getScheme().equals("jar")) {
                         synchronized (DefaultClassPathResourceLoader.class) {
                             FileSystem fileSystem = null;
                             try {
@@ -322,7 +328,10 @@ public class DefaultClassPathResourceLoader implements ClassPathResourceLoader {
                 try {
                     URI uri = url.toURI();
                     Path pathObject;
-                    if (uri.getScheme().equals("jar")) {
+                    Boolean isJarDirectory = JarDirectoryIndex.isDirectory(uri);
+                    if (isJarDirectory != null) {
+                        return isJarDirectory;
+                    } else if (uri.getScheme().equals("jar")) {
                         synchronized (DefaultClassPathResourceLoader.class) {
                             FileSystem fileSystem = null;
                             try {
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.core.io.scan;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * A sorted table of the directories of a JAR file on the file system. The table is read once from the central
+ * directory of the JAR file, so {@link DefaultClassPathResourceLoader} can tell whether a resource is a directory
+ * without opening a file system for the JAR file on every lookup. The table is read again if the JAR file changes.
+ *
+ * @since 4.8.0
+ */
+@Internal
+final class JarDirectoryIndex {
+
+    private static final String JAR_SCHEME = "jar";
+    private static final String FILE_SCHEME = "file";
+    private static final String SEPARATOR = "!/";
+    private static final Map<File, JarDirectoryIndex> INDEXES = new ConcurrentHashMap<>();
+
+    private final long lastModified;
+    private final long length;
+    private final String[] directories;
+
+    private JarDirectoryIndex(long lastModified, long length, String[] directories) {
+        this.lastModified = lastModified;
+        this.length = length;
+        this.directories = directories;
+    }
+
+    /**
+     * Whether the entry of a JAR file is a directory.
+     *
+     * @param uri The URI of the entry, for example {@code jar:file:/app.jar!/META-INF}
+     * @return Whether the entry is a directory, or {@code null} if the URI doesn't point into a JAR file on the file system
+     */
+    @Nullable
+    static Boolean isDirectory(URI uri) {
+        if (!JAR_SCHEME.equals(uri.getScheme())) {
+            return null;
+        }
+        String rawPart = uri.getRawSchemeSpecificPart();
+        int separator = rawPart.indexOf(SEPARATOR);
+        if (separator == -1 || rawPart.indexOf(SEPARATOR, separator + SEPARATOR.length()) != -1) {
+            // nested JAR files are not indexed
+            return null;
+        }
+        JarDirectoryIndex index;
+        try {
+            URI jarUri = URI.create(rawPart.substring(0, separator));
+            if (!FILE_SCHEME.equals(jarUri.getScheme())) {
+                return null;
+            }
+            index = forFile(new File(jarUri));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (index == null) {
+            return null;
+        }
+        String part = uri.getSchemeSpecificPart();
+        String entry = part.substring(part.indexOf(SEPARATOR) + SEPARATOR.length());
+        if (entry.endsWith("/")) {
+            entry = entry.substring(0, entry.length() - 1);
+        }
+        return entry.isEmpty() || Arrays.binarySearch(index.directories, entry) >= 0;
+    }
+
+    @Nullable
+    private static JarDirectoryIndex forFile(File file) {
+        long lastModified = file.lastModified();
+        long length = file.length();
+        JarDirectoryIndex index = INDEXES.get(file);
+        if (index != null && index.lastModified == lastModified && index.length == length) {
+            return index;
+        }
+        try (ZipFile zipFile = new ZipFile(file)) {
+            Set<String> directories = new HashSet<>();
+            Enumeration<? extends ZipEntry> entries = zipFile.entries();
+            while (entries.hasMoreElements()) {
+                String name = entries.nextElement().getName();
+                // not all JAR files have entries for their directories, add the parents of every entry
+                int slash = name.indexOf('/');
+                while (slash != -1) {
+                    directories.add(name.substring(0, slash));
+                    slash = name.indexOf('/', slash + 1);
+                }
+            }
+            String[] sorted = directories.toArray(new String[0]);
+            Arrays.sort(sorted);
+            index = new JarDirectoryIndex(lastModified, length, sorted);
+            INDEXES.put(file, index);
+            return index;
+        } catch (IOException | SecurityException e) {
+            return null;
+        }
+    }
+}
@@ -39,29 +39,31 @@ import java.util.stream.Stream;
 @Internal
 final class PropagatedContextImpl implements PropagatedContext {
 
-    static final PropagatedContextImpl EMPTY = new PropagatedContextImpl(new PropagatedContextElement[0], false);
+    static final PropagatedContextImpl EMPTY = new PropagatedContextImpl(new PropagatedContextElement[0], 0);
 
     private static final Scope CLEANUP = ThreadContext::remove;
+    private static final Scope NOOP = () -> { };
 
     private final PropagatedContextElement[] elements;
-    private final boolean containsThreadElements;
+    private final int threadElementCount;
 
     private PropagatedContextImpl(PropagatedContextElement[] elements) {
-        this(elements, containsThreadElements(elements));
+        this(elements, countThreadElements(elements));
     }
 
-    private PropagatedContextImpl(PropagatedContextElement[] elements, boolean containsThreadElements) {
+    private PropagatedContextImpl(PropagatedContextElement[] elements, int threadElementCount) {
         this.elements = elements;
-        this.containsThreadElements = containsThreadElements;
+        this.threadElementCount = threadElementCount;
     }
 
-    private static boolean containsThreadElements(PropagatedContextElement[] elements) {
+    private static int countThreadElements(PropagatedContextElement[] elements) {
+        int count = 0;
         for (PropagatedContextElement element : elements) {
             if (isThreadElement(element)) {
-                return true;
+                count++;
             }
         }
-        return false;
+        return count;
     }
 
     private static boolean isThreadElement(PropagatedContextElement element) {
@@ -102,7 +104,7 @@ final class PropagatedContextImpl implements PropagatedContext {
         PropagatedContextElement[] newElements = new PropagatedContextElement[elements.length + 1];
         System.arraycopy(elements, 0, newElements, 0, elements.length);
         newElements[newElements.length - 1] = element;
-        return new PropagatedContextImpl(newElements, containsThreadElements || isThreadElement(element));
+        return new PropagatedContextImpl(newElements, isThreadElement(element) ? threadElementCount + 1 : threadElementCount);
     }
 
     @Override
@@ -181,6 +183,9 @@ final class PropagatedContextImpl implements PropagatedContext {
         Scope restore;
         if (prevCtx == null && elements.length == 0) {
             return CLEANUP;
+        } else if (prevCtx == this && threadElementCount == 0) {
+            // already the current context and there is no thread state to apply
+            return NOOP;
         } else if (prevCtx == null) {
             restore = CLEANUP;
         } else { // elements.length == 0
@@ -198,8 +203,8 @@ final class PropagatedContextImpl implements PropagatedContext {
 
         PropagatedContextImpl ctx = this;
         ThreadContext.set(ctx);
-        if (containsThreadElements) {
-            ThreadState[] threadState = ctx.updateThreadState();
+        if (threadElementCount != 0) {
+            Object[] threadState = ctx.updateThreadState();
             return new Scope() { // Keep the anonymous class to avoid lambda in hot path
                 @Override
                 public void close() {
@@ -215,34 +220,30 @@ final class PropagatedContextImpl implements PropagatedContext {
         return restore;
     }
 
-    private ThreadState[] updateThreadState() {
-        ThreadState[] threadState = new ThreadState[elements.length];
+    /**
+     * Apply the thread elements of this context to the current thread.
+     *
+     * @return The previous thread state of each thread element, in the order of the elements
+     */
+    private Object[] updateThreadState() {
+        Object[] threadState = new Object[threadElementCount];
         int index = 0;
         for (PropagatedContextElement element : elements) {
             if (isThreadElement(element)) {
-                ThreadPropagatedContextElement<Object> threadPropagatedContextElement = (ThreadPropagatedContextElement<Object>) element;
-                Object state = threadPropagatedContextElement.updateThreadContext();
-                threadState[index++] = new ThreadState(threadPropagatedContextElement, state);
+                threadState[index++] = ((ThreadPropagatedContextElement<Object>) element).updateThreadContext();
             }
         }
         return threadState;
     }
 
-    private void restoreState(ThreadState[] threadState) {
-        for (int i = threadState.length - 1; i >= 0; i--) {
-            ThreadState s = threadState[i];
-            if (s != null) {
-                s.restore();
+    private void restoreState(Object[] threadState) {
+        int index = threadState.length;
+        for (int i = elements.length - 1; i >= 0; i--) {
+            PropagatedContextElement element = elements[i];
+            if (isThreadElement(element)) {
+                ((ThreadPropagatedContextElement<Object>) element).restoreThreadContext(threadState[--index]);
             }
         }
     }
 
-    private record ThreadState(ThreadPropagatedContextElement<Object> element, Object state) {
-
-        void restore() {
-            element.restoreThreadContext(state);
-        }
-
-    }
-
 }
@@ -109,4 +109,49 @@ class DelayedExecutionFlowSpec extends Specification {
         then:"result is still forwarded"
         result == "foobarbazfizz"
     }
+
+    def 'consecutive maps'() {
+        given:
+        def delayed = DelayedExecutionFlow.<Integer>create()
+        def calls = []
+        def out = delayed
+                .map { calls << 1; it + 1 }
+                .map { calls << 2; it * 2 }
+                .map { calls << 3; throw new RuntimeException("fail" + it) }
+                .map { calls << 4; it }
+                .onErrorResume { ExecutionFlow.just(it.message) }
+
+        when:
+        delayed.complete(1)
+
+        then:
+        out.tryComplete().value == "fail4"
+        calls == [1, 2, 3]
+    }
+
+    def 'steps added after completion'() {
+        given:
+        def delayed = DelayedExecutionFlow.<String>create()
+        def inner = DelayedExecutionFlow.<String>create()
+        delayed.complete("foo")
+        Object result = null
+
+        when:
+        def out = delayed
+                .map { it + "bar" }
+                .flatMap { a -> inner.map { b -> a + b } }
+                .map { it + "!" }
+        out.onComplete((v, t) -> result = v)
+
+        then:
+        result == null
+        out.tryComplete() == null
+
+        when:
+        inner.complete("baz")
+
+        then:
+        result == "foobarbaz!"
+        out.tryComplete().value == "foobarbaz!"
+    }
 }
@@ -2,8 +2,14 @@ package io.micronaut.core.io.scan
 
 import spock.lang.Specification
 import spock.lang.Subject
+import spock.lang.TempDir
 import spock.mock.MockFactory
 
+import java.nio.file.Files
+import java.nio.file.Path
+import java.util.zip.ZipEntry
+import java.util.zip.ZipOutputStream
+
 class DefaultClassPathResourceLoaderSpec extends Specification {
 
     ClassLoader parent = Mock() {
@@ -29,4 +35,41 @@ class DefaultClassPathResourceLoaderSpec extends Specification {
         then:
         input.empty
     }
+
+    @TempDir
+    Path tempDir
+
+    def 'resources and directories in a jar file without directory entries'() {
+        given:
+        Path jar = tempDir.resolve("resources.jar")
+        new ZipOutputStream(Files.newOutputStream(jar)).withCloseable { zip ->
+            zip.putNextEntry(new ZipEntry("config/app.yml"))
+            zip.write("foo: bar".bytes)
+            zip.closeEntry()
+            zip.putNextEntry(new ZipEntry("static/nested/index.html"))
+            zip.write("<html/>".bytes)
+            zip.closeEntry()
+        }
+        URLClassLoader classLoader = new URLClassLoader([jar.toUri().toURL()] as URL[], (ClassLoader) null)
+        def jarLoader = new DefaultClassPathResourceLoader(classLoader)
+
+        expect:
+        jarLoader.getResourceAsStream("config/app.yml").get().text == "foo: bar"
+        jarLoader.getResourceAsStream("classpath:static/nested/index.html").get().text == "<html/>"
+        jarLoader.getResourceAsStream("static/nested").empty
+        jarLoader.getResourceAsStream("config/missing.yml").empty
+        jarLoader.getResource("static/nested/index.html").present
+        !jarLoader.getResource("static/nested").present
+        !jarLoader.getResource("static").present
+
+        and:
+        JarDirectoryIndex.isDirectory(URI.create("jar:" + jar.toUri() + "!/static/nested"))
+        JarDirectoryIndex.isDirectory(URI.create("jar:" + jar.toUri() + "!/static/"))
+        !JarDirectoryIndex.isDirectory(URI.create("jar:" + jar.toUri() + "!/config/app.yml"))
+        JarDirectoryIndex.isDirectory(URI.create("jar:" + jar.toUri() + "!/WEB-INF/classes!/app.yml")) == null
+        JarDirectoryIndex.isDirectory(jar.toUri()) == null
+
+        cleanup:
+        classLoader?.close()
+    }
 }
@@ -217,6 +217,44 @@ class PropagatedContextSpec extends Specification {
         strict << [false, true]
     }
 
+    def "test restoring multiple thread elements in reverse order"() {
+        given:
+        CONTEXT_NAME_HOLDER.set('')
+        def context = PropagatedContext.empty()
+                .plus(new SetContextName('first', true))
+                .plus(new PropagatedElement())
+                .plus(new SetContextName('second', true))
+
+        when:
+        String inside
+        try (def ignore = context.propagate()) {
+            inside = currentContextName
+        }
+
+        then:
+        inside == 'second'
+        currentContextName == ''
+        !PropagatedContext.find().isPresent()
+    }
+
+    def "test propagating the current context again"() {
+        given:
+        def context = PropagatedContext.empty().plus(new PropagatedElement())
+
+        when:
+        PropagatedContext nested
+        try (def ignore1 = context.propagate()) {
+            try (def ignore2 = context.propagate()) {
+                nested = PropagatedContext.get()
+            }
+            assert PropagatedContext.get() == context
+        }
+
+        then:
+        nested == context
+        !PropagatedContext.find().isPresent()
+    }
+
     static class PropagatedElement implements PropagatedContextElement {
     }
 
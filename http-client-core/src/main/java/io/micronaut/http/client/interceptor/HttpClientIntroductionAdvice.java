@@ -40,7 +40,6 @@ import io.micronaut.core.type.Argument;
 import io.micronaut.core.type.MutableArgumentValue;
 import io.micronaut.core.type.ReturnType;
 import io.micronaut.core.util.ArrayUtils;
-import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.core.version.annotation.Version;
 import io.micronaut.http.HttpAttributes;
@@ -61,6 +60,7 @@ import io.micronaut.http.client.HttpClientRegistry;
 import io.micronaut.http.client.ReactiveClientResultTransformer;
 import io.micronaut.http.client.StreamingHttpClient;
 import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.client.bind.AnnotatedClientRequestBinder;
 import io.micronaut.http.client.bind.ClientArgumentRequestBinder;
 import io.micronaut.http.client.bind.ClientRequestUriContext;
 import io.micronaut.http.client.bind.HttpClientBinderRegistry;
@@ -69,6 +69,7 @@ import io.micronaut.http.client.sse.SseClient;
 import io.micronaut.http.sse.Event;
 import io.micronaut.http.uri.UriBuilder;
 import io.micronaut.http.uri.UriMatchTemplate;
+import io.micronaut.inject.ExecutableMethod;
 import io.micronaut.json.codec.JsonMediaTypeCodec;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscription;
@@ -91,6 +92,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 /**
@@ -116,6 +118,7 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
     private final JsonMediaTypeCodec jsonMediaTypeCodec;
     private final HttpClientRegistry<?> clientFactory;
     private final ConversionService conversionService;
+    private final Map<ExecutableMethod<?, ?>, CallPlan> callPlans = new ConcurrentHashMap<>();
 
     /**
      * Constructor for advice class to set up things like Headers, Cookies, Parameters for Clients.
@@ -160,24 +163,18 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
             return null;
         }
 
-        Optional<Class<? extends Annotation>> httpMethodMapping = context.getAnnotationTypeByStereotype(HttpMethodMapping.class);
-        HttpClient httpClient = clientFactory.getClient(annotationMetadata);
-        if (httpMethodMapping.isPresent() && context.hasStereotype(HttpMethodMapping.class) && httpClient != null) {
-            AnnotationValue<HttpMethodMapping> mapping = context.getAnnotation(HttpMethodMapping.class);
-            String uri = mapping.getRequiredValue(String.class);
-            if (StringUtils.isEmpty(uri)) {
-                uri = "/" + context.getMethodName();
+        ExecutableMethod<Object, Object> executableMethod = context.getExecutableMethod();
+        CallPlan plan = callPlans.get(executableMethod);
+        if (plan == null) {
+            plan = createCallPlan(context);
+            if (plan != null) {
+                callPlans.put(executableMethod, plan);
             }
-
-            Class<? extends Annotation> annotationType = httpMethodMapping.get();
-            HttpMethod httpMethod = HttpMethod.parse(annotationType.getSimpleName().toUpperCase(Locale.ENGLISH));
-            String httpMethodName = context.stringValue(CustomHttpMethod.class, "method").orElse(httpMethod.name());
-
+        }
+        if (plan != null) {
+            HttpClient httpClient = plan.httpClient(clientFactory);
             InterceptedMethod interceptedMethod = InterceptedMethod.of(context, conversionService);
 
-            Argument<?> errorType = annotationMetadata.classValue(Client.class, "errorType")
-                    .map(errorClass -> Argument.of(errorClass)).orElse(HttpClient.DEFAULT_ERROR_TYPE);
-
             ReturnType<?> returnType = context.getReturnType();
 
             try {
@@ -185,14 +182,11 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
                 Class<?> reactiveValueType = valueType.getType();
                 return switch (interceptedMethod.resultType()) {
                     case PUBLISHER ->
-                            handlePublisher(context, returnType, reactiveValueType, httpMethod, httpMethodName,
-                                uri, interceptedMethod, annotationMetadata, httpClient, errorType, valueType, declaringType);
+                            handlePublisher(context, plan, returnType, reactiveValueType, interceptedMethod, httpClient, valueType, declaringType);
                     case COMPLETION_STAGE ->
-                            handleCompletionStage(context, httpMethod, httpMethodName, uri, interceptedMethod,
-                                annotationMetadata, httpClient, returnType, errorType, valueType, reactiveValueType, declaringType);
+                            handleCompletionStage(context, plan, interceptedMethod, httpClient, returnType, valueType, reactiveValueType, declaringType);
                     case SYNCHRONOUS ->
-                            handleSynchronous(context, returnType, httpClient, httpMethod, httpMethodName, uri,
-                                interceptedMethod, annotationMetadata, errorType, declaringType);
+                            handleSynchronous(context, plan, returnType, httpClient, interceptedMethod, declaringType);
                 };
             } catch (Exception e) {
                 return interceptedMethod.handleException(e);
@@ -202,21 +196,95 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
         return context.proceed();
     }
 
+    /**
+     * Resolve everything about a client method that does not depend on the argument values.
+     *
+     * @param context The first invocation of the method
+     * @return The call plan, or {@code null} if this advice does not handle the method
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private CallPlan createCallPlan(MethodInvocationContext<Object, Object> context) {
+        Optional<Class<? extends Annotation>> httpMethodMapping = context.getAnnotationTypeByStereotype(HttpMethodMapping.class);
+        if (httpMethodMapping.isEmpty() || !context.hasStereotype(HttpMethodMapping.class)) {
+            return null;
+        }
+        AnnotationMetadata annotationMetadata = context.getAnnotationMetadata();
+        HttpClient httpClient = clientFactory.getClient(annotationMetadata);
+        if (httpClient == null) {
+            return null;
+        }
+        AnnotationValue<HttpMethodMapping> mapping = context.getAnnotation(HttpMethodMapping.class);
+        String uri = mapping.getRequiredValue(String.class);
+        if (StringUtils.isEmpty(uri)) {
+            uri = "/" + context.getMethodName();
+        }
+
+        Class<? extends Annotation> annotationType = httpMethodMapping.get();
+        HttpMethod httpMethod = HttpMethod.parse(annotationType.getSimpleName().toUpperCase(Locale.ENGLISH));
+        String httpMethodName = context.stringValue(CustomHttpMethod.class, "method").orElse(httpMethod.name());
+
+        Argument<?> errorType = annotationMetadata.classValue(Client.class, "errorType")
+                .map(errorClass -> Argument.of(errorClass)).orElse(HttpClient.DEFAULT_ERROR_TYPE);
+
+        UriMatchTemplate uriTemplate = UriMatchTemplate.of("");
+        if (!(uri.length() == 1 && uri.charAt(0) == '/')) {
+            uriTemplate = uriTemplate.nest(uri);
+        }
+
+        List<AnnotatedClientRequestBinder<?>> methodBinders = new ArrayList<>();
+        List<Class<? extends Annotation>> methodBinderTypes = context.getAnnotationTypesByStereotype(Bindable.class);
+        // @Version is not a bindable, so it needs to looked for separately
+        methodBinderTypes.addAll(context.getAnnotationTypesByStereotype(Version.class));
+        for (Class<? extends Annotation> binderType : methodBinderTypes) {
+            binderRegistry.findAnnotatedBinder(binderType).ifPresent(methodBinders::add);
+        }
+
+        Argument<?>[] arguments = context.getArguments();
+        ClientArgumentRequestBinder<Object>[] argumentBinders = new ClientArgumentRequestBinder[arguments.length];
+        for (int i = 0; i < arguments.length; i++) {
+            argumentBinders[i] = (ClientArgumentRequestBinder<Object>) binderRegistry
+                .findArgumentBinder((Argument<Object>) arguments[i])
+                .orElse(null);
+        }
+
+        var definitionType = annotationMetadata.enumValue(Client.class, "definitionType", Client.DefinitionType.class)
+            .orElse(Client.DefinitionType.CLIENT);
+        String[] consumesMediaType = context.stringValues(definitionType.isClient() ? Consumes.class : Produces.class);
+        MediaType[] acceptTypes = ArrayUtils.isEmpty(consumesMediaType) ? DEFAULT_ACCEPT_TYPES : MediaType.of(consumesMediaType);
+        MediaType[] contentTypes = MediaType.of(context.stringValues(definitionType.isClient() ? Produces.class : Consumes.class));
+        if (ArrayUtils.isEmpty(contentTypes)) {
+            contentTypes = DEFAULT_ACCEPT_TYPES;
+        }
+
+        return new CallPlan(
+            annotationMetadata,
+            httpClient,
+            httpMethod,
+            httpMethodName,
+            uriTemplate,
+            resolveTemplate(annotationMetadata, uriTemplate.toString()),
+            errorType,
+            methodBinders.toArray(new AnnotatedClientRequestBinder[0]),
+            argumentBinders,
+            acceptTypes,
+            contentTypes[0]
+        );
+    }
+
     @Nullable
     private Object handleSynchronous(MethodInvocationContext<Object, Object> context,
+                                     CallPlan plan,
                                      ReturnType<?> returnType,
                                      HttpClient httpClient,
-                                     HttpMethod httpMethod,
-                                     String httpMethodName,
-                                     String uriToBind,
                                      InterceptedMethod interceptedMethod,
-                                     AnnotationMetadata annotationMetadata,
-                                     Argument<?> errorType,
                                      Class<?> declaringType) {
 
         Class<?> javaReturnType = returnType.getType();
+        HttpMethod httpMethod = plan.httpMethod;
+        Argument<?> errorType = plan.errorType;
         BlockingHttpClient blockingHttpClient = httpClient.toBlocking();
-        RequestBinderResult binderResult = bindRequest(context, httpMethod, httpMethodName, uriToBind, interceptedMethod, annotationMetadata);
+        RequestBinderResult binderResult = bindRequest(context, plan, interceptedMethod);
         String clientName = declaringType.getName();
 
         if (binderResult.isError()) {
@@ -245,21 +313,17 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
     }
 
     private Object handleCompletionStage(MethodInvocationContext<Object, Object> context,
-                                         HttpMethod httpMethod,
-                                         String httpMethodName,
-                                         String uriToBind,
+                                         CallPlan plan,
                                          InterceptedMethod interceptedMethod,
-                                         AnnotationMetadata annotationMetadata,
                                          HttpClient httpClient,
                                          ReturnType<?> returnType,
-                                         Argument<?> errorType,
                                          Argument<?> valueType,
                                          Class<?> reactiveValueType,
                                          Class<?> declaringType) {
 
         Publisher<RequestBinderResult> csRequestPublisher = Mono.fromCallable(() ->
-            bindRequest(context, httpMethod, httpMethodName, uriToBind, interceptedMethod, annotationMetadata));
-        Publisher<?> csPublisher = httpClientResponsePublisher(httpClient, csRequestPublisher, returnType, errorType, valueType);
+            bindRequest(context, plan, interceptedMethod));
+        Publisher<?> csPublisher = httpClientResponsePublisher(httpClient, csRequestPublisher, returnType, plan.errorType, valueType);
         CompletableFuture<Object> future = new CompletableFuture<>();
         csPublisher.subscribe(new CompletionAwareSubscriber<Object>() {
             Object message;
@@ -313,15 +377,11 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
     }
 
     private Object handlePublisher(MethodInvocationContext<Object, Object> context,
+                                   CallPlan plan,
                                    ReturnType<?> returnType,
                                    Class<?> reactiveValueType,
-                                   HttpMethod httpMethod,
-                                   String httpMethodName,
-                                   String uriToBind,
                                    InterceptedMethod interceptedMethod,
-                                   AnnotationMetadata annotationMetadata,
                                    HttpClient httpClient,
-                                   Argument<?> errorType,
                                    Argument<?> valueType,
                                    Class<?> declaringType) {
         boolean isSingle = returnType.isSingleResult() ||
@@ -330,12 +390,12 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
                 HttpStatus.class == reactiveValueType;
 
         Publisher<RequestBinderResult> requestPublisher = Mono.fromCallable(() ->
-            bindRequest(context, httpMethod, httpMethodName, uriToBind, interceptedMethod, annotationMetadata));
+            bindRequest(context, plan, interceptedMethod));
         Publisher<?> publisher;
         if (!isSingle && httpClient instanceof StreamingHttpClient client) {
-            publisher = httpClientResponseStreamingPublisher(client, context, requestPublisher, errorType, valueType);
+            publisher = httpClientResponseStreamingPublisher(client, context, requestPublisher, plan.errorType, valueType);
         } else {
-            publisher = httpClientResponsePublisher(httpClient, requestPublisher, returnType, errorType, valueType);
+            publisher = httpClientResponsePublisher(httpClient, requestPublisher, returnType, plan.errorType, valueType);
         }
 
         if (LOG.isDebugEnabled()) {
@@ -353,40 +413,30 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
 
     @NonNull
     private RequestBinderResult bindRequest(MethodInvocationContext<Object, Object> context,
-                                            HttpMethod httpMethod,
-                                            String httpMethodName,
-                                            String uri,
-                                            InterceptedMethod interceptedMethod,
-                                            AnnotationMetadata annotationMetadata) {
-        MutableHttpRequest<?> request = HttpRequest.create(httpMethod, "", httpMethodName);
+                                            CallPlan plan,
+                                            InterceptedMethod interceptedMethod) {
+        HttpMethod httpMethod = plan.httpMethod;
+        MutableHttpRequest<?> request = HttpRequest.create(httpMethod, "", plan.httpMethodName);
 
-        UriMatchTemplate uriTemplate = UriMatchTemplate.of("");
-        if (!(uri.length() == 1 && uri.charAt(0) == '/')) {
-            uriTemplate = uriTemplate.nest(uri);
-        }
+        UriMatchTemplate uriTemplate = plan.uriTemplate;
 
         Map<String, Object> pathParams = new HashMap<>();
         Map<String, List<String>> queryParams = new LinkedHashMap<>();
         ClientRequestUriContext uriContext = new ClientRequestUriContext(uriTemplate, pathParams, queryParams);
         List<Argument<?>> bodyArguments = new ArrayList<>();
 
-        List<String> uriVariables = uriTemplate.getVariableNames();
+        List<String> uriVariables = plan.uriVariables;
         Map<String, MutableArgumentValue<?>> parameters = context.getParameters();
 
         ClientArgumentRequestBinder<Object> defaultBinder = buildDefaultBinder(pathParams, bodyArguments);
 
         // Apply all the method binders
-        List<Class<? extends Annotation>> methodBinderTypes = context.getAnnotationTypesByStereotype(Bindable.class);
-        // @Version is not a bindable, so it needs to looked for separately
-        methodBinderTypes.addAll(context.getAnnotationTypesByStereotype(Version.class));
-        if (!CollectionUtils.isEmpty(methodBinderTypes)) {
-            for (Class<? extends Annotation> binderType : methodBinderTypes) {
-                binderRegistry.findAnnotatedBinder(binderType).ifPresent(b -> b.bind(context, uriContext, request));
-            }
+        for (AnnotatedClientRequestBinder<?> methodBinder : plan.methodBinders) {
+            methodBinder.bind(context, uriContext, request);
         }
 
         // Apply all the argument binders
-        Optional<Object> bindingErrorResult = bindArguments(context, parameters, defaultBinder, uriContext, request, interceptedMethod);
+        Optional<Object> bindingErrorResult = bindArguments(context, plan, parameters, defaultBinder, uriContext, request, interceptedMethod);
 
         if (bindingErrorResult.isPresent()) {
             return RequestBinderResult.withErrorResult(bindingErrorResult.get());
@@ -402,7 +452,7 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
             body = null;
         }
 
-        uri = uriTemplate.expand(pathParams);
+        String uri = uriTemplate.expand(pathParams);
         // Remove all the pathParams that have already been used.
         // Other path parameters are added to query
         uriVariables.forEach(pathParams::remove);
@@ -411,33 +461,17 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
         // The original query can be added by getting it from the request.getUri() and appending
         request.uri(URI.create(appendQuery(uri, uriContext.getQueryParameters())));
 
-        final MediaType[] acceptTypes;
-        Collection<MediaType> accept = request.accept();
-        var definitionType = annotationMetadata.enumValue(Client.class, "definitionType", Client.DefinitionType.class)
-            .orElse(Client.DefinitionType.CLIENT);
-        if (accept.isEmpty()) {
-            String[] consumesMediaType = context.stringValues(definitionType.isClient() ? Consumes.class : Produces.class);
-            if (ArrayUtils.isEmpty(consumesMediaType)) {
-                acceptTypes = DEFAULT_ACCEPT_TYPES;
-            } else {
-                acceptTypes = MediaType.of(consumesMediaType);
-            }
-            request.accept(acceptTypes);
+        if (request.accept().isEmpty()) {
+            request.accept(plan.acceptTypes);
         }
 
         if (body != null && request.getContentType().isEmpty()) {
-            MediaType[] contentTypes = MediaType.of(context.stringValues(definitionType.isClient() ? Produces.class : Consumes.class));
-            if (ArrayUtils.isEmpty(contentTypes)) {
-                contentTypes = DEFAULT_ACCEPT_TYPES;
-            }
-            if (ArrayUtils.isNotEmpty(contentTypes)) {
-                request.contentType(contentTypes[0]);
-            }
+            request.contentType(plan.contentType);
         }
 
         request.setAttribute(HttpAttributes.INVOCATION_CONTEXT, context);
         // Set the URI template used to make the request for tracing purposes
-        request.setAttribute(HttpAttributes.URI_TEMPLATE, resolveTemplate(annotationMetadata, uriTemplate.toString()));
+        request.setAttribute(HttpAttributes.URI_TEMPLATE, plan.resolvedTemplate);
 
         return RequestBinderResult.withRequest(request);
     }
@@ -511,6 +545,7 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
 
     @NonNull
     private Optional<Object> bindArguments(MethodInvocationContext<Object, Object> context,
+                                           CallPlan plan,
                                            Map<String, MutableArgumentValue<?>> parameters,
                                            ClientArgumentRequestBinder<Object> defaultBinder,
                                            ClientRequestUriContext uriContext,
@@ -518,13 +553,15 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
                                            InterceptedMethod interceptedMethod) {
         Optional<Object> bindingErrorResult = Optional.empty();
         Argument<?>[] arguments = context.getArguments();
-        for (Argument<?> argument : arguments) {
+        for (int i = 0; i < arguments.length; i++) {
+            Argument<?> argument = arguments[i];
             Object definedValue = getValue(argument, context, parameters);
 
             if (definedValue != null) {
-                final ClientArgumentRequestBinder<Object> binder = (ClientArgumentRequestBinder<Object>) binderRegistry
-                    .findArgumentBinder((Argument<Object>) argument)
-                    .orElse(defaultBinder);
+                ClientArgumentRequestBinder<Object> binder = plan.argumentBinders[i];
+                if (binder == null) {
+                    binder = defaultBinder;
+                }
                 ArgumentConversionContext conversionContext = ConversionContext.of(argument);
                 binder.bind(conversionContext, uriContext, definedValue, request);
                 if (conversionContext.hasErrors()) {
@@ -703,6 +740,72 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
         return uri;
     }
 
+    /**
+     * The parts of a client method invocation that do not depend on the argument values, resolved on the first
+     * invocation of the method.
+     */
+    private static final class CallPlan {
+        final AnnotationMetadata annotationMetadata;
+        final HttpMethod httpMethod;
+        final String httpMethodName;
+        final UriMatchTemplate uriTemplate;
+        final List<String> uriVariables;
+        final String resolvedTemplate;
+        final Argument<?> errorType;
+        final AnnotatedClientRequestBinder<?>[] methodBinders;
+        /**
+         * The binder of each argument, {@code null} for arguments bound by the default binder.
+         */
+        final ClientArgumentRequestBinder<Object>[] argumentBinders;
+        final MediaType[] acceptTypes;
+        final MediaType contentType;
+        private volatile HttpClient httpClient;
+
+        CallPlan(AnnotationMetadata annotationMetadata,
+                 HttpClient httpClient,
+                 HttpMethod httpMethod,
+                 String httpMethodName,
+                 UriMatchTemplate uriTemplate,
+                 String resolvedTemplate,
+                 Argument<?> errorType,
+                 AnnotatedClientRequestBinder<?>[] methodBinders,
+                 ClientArgumentRequestBinder<Object>[] argumentBinders,
+                 MediaType[] acceptTypes,
+                 MediaType contentType) {
+            this.annotationMetadata = annotationMetadata;
+            this.httpClient = httpClient;
+            this.httpMethod = httpMethod;
+            this.httpMethodName = httpMethodName;
+            this.uriTemplate = uriTemplate;
+            this.uriVariables = uriTemplate.getVariableNames();
+            this.resolvedTemplate = resolvedTemplate;
+            this.errorType = errorType;
+            this.methodBinders = methodBinders;
+            this.argumentBinders = argumentBinders;
+            this.acceptTypes = acceptTypes;
+            this.contentType = contentType;
+        }
+
+        /**
+         * The client of this method. A client that has been closed, e.g. by {@link Closeable#close()} on another
+         * method of the interface, is replaced by the client the registry now provides.
+         *
+         * @param clientFactory The client registry
+         * @return The client
+         */
+        HttpClient httpClient(HttpClientRegistry<?> clientFactory) {
+            HttpClient client = httpClient;
+            if (!client.isRunning()) {
+                HttpClient newClient = clientFactory.getClient(annotationMetadata);
+                if (newClient != null) {
+                    client = newClient;
+                    httpClient = newClient;
+                }
+            }
+            return client;
+        }
+    }
+
     private record RequestBinderResult(
         @Nullable MutableHttpRequest<?> request,
         @Nullable Object errorResult,
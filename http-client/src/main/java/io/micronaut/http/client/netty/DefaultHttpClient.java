@@ -34,7 +34,6 @@ import io.micronaut.core.io.buffer.ByteBufferFactory;
 import io.micronaut.core.io.buffer.ReferenceCounted;
 import io.micronaut.core.propagation.PropagatedContext;
 import io.micronaut.core.type.Argument;
-import io.micronaut.core.util.ArrayUtils;
 import io.micronaut.core.util.ObjectUtils;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.core.util.functional.ThrowingFunction;
@@ -115,6 +114,7 @@ import io.micronaut.json.JsonMapper;
 import io.micronaut.json.codec.JsonMediaTypeCodec;
 import io.micronaut.json.codec.JsonStreamMediaTypeCodec;
 import io.micronaut.runtime.ApplicationConfiguration;
+import io.micronaut.scheduling.LoomSupport;
 import io.micronaut.websocket.WebSocketClient;
 import io.micronaut.websocket.annotation.ClientWebSocket;
 import io.micronaut.websocket.annotation.OnMessage;
@@ -172,9 +172,7 @@ import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
-import reactor.core.publisher.FluxSink;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
@@ -187,7 +185,6 @@ import java.net.InetSocketAddress;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.Charset;
-import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
@@ -195,6 +192,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeoutException;
@@ -610,6 +609,9 @@ public class DefaultHttpClient implements
                         here.""");
                 }
                 BlockHint blockHint = BlockHint.willBlockThisThread();
+                if (LoomSupport.isVirtual(blockHint.blockedThread())) {
+                    return awaitResponse(exchangeFlow(request, bodyType, errorType, blockHint, PropagatedContext.getOrEmpty()));
+                }
                 return DefaultHttpClient.this.exchange(request, bodyType, errorType, blockHint).block();
                 // We don't have to release client response buffer
             }
@@ -672,118 +674,21 @@ public class DefaultHttpClient implements
             httpRequest.accept(MediaType.TEXT_EVENT_STREAM_TYPE);
         }
 
-        return Flux.create(emitter ->
-                dataStream(request, errorType).subscribe(new Subscriber<>() {
-                    private Subscription dataSubscription;
-                    private CurrentEvent currentEvent;
-
-                    @Override
-                    public void onSubscribe(Subscription s) {
-                        this.dataSubscription = s;
-                        Disposable cancellable = () -> dataSubscription.cancel();
-                        emitter.onCancel(cancellable);
-                        if (!emitter.isCancelled() && emitter.requestedFromDownstream() > 0) {
-                            // request the first chunk
-                            dataSubscription.request(1);
-                        }
-                    }
-
-                    @Override
-                    public void onNext(ByteBuffer<?> buffer) {
-
-                        try {
-                            int len = buffer.readableBytes();
-
-                            // a length of zero indicates the start of a new event
-                            // emit the current event
-                            if (len == 0) {
-                                try {
-                                    Event event = Event.of(byteBufferFactory.wrap(currentEvent.data))
-                                            .name(currentEvent.name)
-                                            .retry(currentEvent.retry)
-                                            .id(currentEvent.id);
-                                    emitter.next(
-                                            event
-                                    );
-                                } finally {
-                                    currentEvent = null;
-                                }
-                            } else {
-                                if (currentEvent == null) {
-                                    currentEvent = new CurrentEvent();
-                                }
-                                int colonIndex = buffer.indexOf((byte) ':');
-                                // SSE comments start with colon, so skip
-                                if (colonIndex > 0) {
-                                    // obtain the type
-                                    String type = buffer.slice(0, colonIndex).toString(StandardCharsets.UTF_8).trim();
-                                    int fromIndex = colonIndex + 1;
-                                    // skip the white space before the actual data
-                                    if (buffer.getByte(fromIndex) == ((byte) ' ')) {
-                                        fromIndex++;
-                                    }
-                                    if (fromIndex < len) {
-                                        int toIndex = len - fromIndex;
-                                        switch (type) {
-                                            case "data" -> {
-                                                ByteBuffer<?> content = buffer.slice(fromIndex, toIndex);
-                                                byte[] d = currentEvent.data;
-                                                if (d == null) {
-                                                    currentEvent.data = content.toByteArray();
-                                                } else {
-                                                    currentEvent.data = ArrayUtils.concat(d, content.toByteArray());
-                                                }
-                                            }
-                                            case "id" -> {
-                                                ByteBuffer<?> id = buffer.slice(fromIndex, toIndex);
-                                                currentEvent.id = id.toString(StandardCharsets.UTF_8).trim();
-                                            }
-                                            case "event" -> {
-                                                ByteBuffer<?> event = buffer.slice(fromIndex, toIndex);
-                                                currentEvent.name = event.toString(StandardCharsets.UTF_8).trim();
-                                            }
-                                            case "retry" -> {
-                                                ByteBuffer<?> retry = buffer.slice(fromIndex, toIndex);
-                                                String text = retry.toString(StandardCharsets.UTF_8);
-                                                if (!StringUtils.isEmpty(text)) {
-                                                    currentEvent.retry = Duration.ofMillis(Long.parseLong(text));
-                                                }
-                                            }
-                                            default -> {
-                                                // ignore message
-                                            }
-                                        }
-                                    }
-                                }
-                            }
-
-                            if (emitter.requestedFromDownstream() > 0 && !emitter.isCancelled()) {
-                                dataSubscription.request(1);
-                            }
-                        } catch (Throwable e) {
-                            onError(e);
-                        } finally {
-                            if (buffer instanceof ReferenceCounted counted) {
-                                counted.release();
-                            }
-                        }
-                    }
-
-                    @Override
-                    public void onError(Throwable t) {
-                        dataSubscription.cancel();
-                        if (t instanceof HttpClientException) {
-                            emitter.error(t);
-                        } else {
-                            emitter.error(decorate(new HttpClientException("Error consuming Server Sent Events: " + t.getMessage(), t)));
+        PropagatedContext propagatedContext = PropagatedContext.getOrEmpty();
+        return toMono(resolveRequestURI(request), propagatedContext)
+            .flatMapMany(requestURI -> {
+                // the raw body is decoded in place, the lines are not split into their own buffers
+                SseEventDecoder decoder = new SseEventDecoder(byteBufferFactory, sizeLimits());
+                return dataStreamImpl(toMutableRequest(request), errorType, propagatedContext, requestURI, false)
+                    .concatMapIterable(buffer -> decoder.decode((ByteBuf) buffer.asNativeBuffer()), 1)
+                    .doOnDiscard(ByteBuffer.class, buffer -> {
+                        if (buffer instanceof ReferenceCounted counted) {
+                            counted.release();
                         }
-                    }
-
-                    @Override
-                    public void onComplete() {
-                        emitter.complete();
-                    }
-                }), FluxSink.OverflowStrategy.BUFFER);
+                    })
+                    .doFinally(signal -> decoder.release());
+            })
+            .onErrorMap(t -> !(t instanceof HttpClientException), t -> decorate(new HttpClientException("Error consuming Server Sent Events: " + t.getMessage(), t)));
     }
 
     private static <T> Mono<T> toMono(ExecutionFlow<T> flow, PropagatedContext context) {
@@ -820,7 +725,7 @@ public class DefaultHttpClient implements
         setupConversionService(request);
         PropagatedContext propagatedContext = PropagatedContext.getOrEmpty();
         return new MicronautFlux<>(toMono(resolveRequestURI(request), propagatedContext)
-                .flatMapMany(requestURI -> dataStreamImpl(toMutableRequest(request), errorType, propagatedContext, requestURI)))
+                .flatMapMany(requestURI -> dataStreamImpl(toMutableRequest(request), errorType, propagatedContext, requestURI, true)))
                 .doAfterNext(buffer -> {
                     Object o = buffer.asNativeBuffer();
                     if (o instanceof ByteBuf byteBuf) {
@@ -884,8 +789,42 @@ public class DefaultHttpClient implements
 
     @NonNull
     private <I, O, E> Mono<HttpResponse<O>> exchange(io.micronaut.http.HttpRequest<I> request, Argument<O> bodyType, Argument<E> errorType, @Nullable BlockHint blockHint) {
-        setupConversionService(request);
         PropagatedContext propagatedContext = PropagatedContext.getOrEmpty();
+        return toMono(exchangeFlow(request, bodyType, errorType, blockHint, propagatedContext), propagatedContext);
+    }
+
+    /**
+     * Wait for the response of a blocking exchange without going through reactor. The calling virtual thread is
+     * parked until the response arrives.
+     *
+     * @param flow The exchange
+     * @param <O>  The body type
+     * @return The response
+     */
+    private static <O> HttpResponse<O> awaitResponse(ExecutionFlow<HttpResponse<O>> flow) {
+        CompletableFuture<HttpResponse<O>> future = new CompletableFuture<>();
+        flow.completeTo(future);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            flow.cancel();
+            Thread.currentThread().interrupt();
+            throw new HttpClientException("Interrupted while waiting for the response", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            } else if (cause instanceof Error error) {
+                throw error;
+            } else {
+                throw new HttpClientException(cause.getMessage(), cause);
+            }
+        }
+    }
+
+    @NonNull
+    private <I, O, E> ExecutionFlow<HttpResponse<O>> exchangeFlow(io.micronaut.http.HttpRequest<I> request, Argument<O> bodyType, Argument<E> errorType, @Nullable BlockHint blockHint, PropagatedContext propagatedContext) {
+        setupConversionService(request);
         ExecutionFlow<HttpResponse<O>> mono = resolveRequestURI(request).flatMap(uri -> {
             MutableHttpRequest<?> mutableRequest = toMutableRequest(request).uri(uri);
             //noinspection unchecked
@@ -917,7 +856,7 @@ public class DefaultHttpClient implements
                     });
             }
         }
-        return toMono(mono, propagatedContext);
+        return mono;
     }
 
     private <O, E> @NonNull ExecutionFlow<FullNettyClientHttpResponse<O>> handleExchangeResponse(Argument<O> bodyType, Argument<E> errorType, NettyClientByteBodyResponse resp, CloseableAvailableByteBody av) {
@@ -1080,7 +1019,7 @@ public class DefaultHttpClient implements
     }
 
     private <I> Flux<HttpResponse<ByteBuffer<?>>> exchangeStreamImpl(PropagatedContext propagatedContext, MutableHttpRequest<I> request, Argument<?> errorType, URI requestURI) {
-        Flux<HttpResponse<?>> streamResponsePublisher = toMono(buildStreamExchange(propagatedContext, request, requestURI, errorType), propagatedContext).flux();
+        Flux<HttpResponse<?>> streamResponsePublisher = toMono(buildStreamExchange(propagatedContext, request, requestURI, errorType, true), propagatedContext).flux();
         return streamResponsePublisher.switchMap(response -> {
             StreamedHttpResponse streamedHttpResponse = NettyHttpResponseBuilder.toStreamResponse(response);
             Flux<HttpContent> httpContentReactiveSequence = Flux.from(streamedHttpResponse);
@@ -1102,7 +1041,7 @@ public class DefaultHttpClient implements
     }
 
     private <I, O> Flux<O> jsonStreamImpl(PropagatedContext propagatedContext, MutableHttpRequest<I> request, Argument<O> type, Argument<?> errorType, URI requestURI) {
-        return toMono(buildStreamExchange(propagatedContext, request, requestURI, errorType), propagatedContext).flux().switchMap(response -> {
+        return toMono(buildStreamExchange(propagatedContext, request, requestURI, errorType, true), propagatedContext).flux().switchMap(response -> {
             if (!(response instanceof NettyStreamedHttpResponse)) {
                 throw new IllegalStateException("Response has been wrapped in non streaming type. Do not wrap the response in client filters for stream requests");
             }
@@ -1116,8 +1055,8 @@ public class DefaultHttpClient implements
         });
     }
 
-    private <I> Flux<ByteBuffer<?>> dataStreamImpl(MutableHttpRequest<I> request, Argument<?> errorType, PropagatedContext propagatedContext, URI requestURI) {
-        Flux<HttpResponse<?>> streamResponsePublisher = toMono(buildStreamExchange(propagatedContext, request, requestURI, errorType), propagatedContext).flux();
+    private <I> Flux<ByteBuffer<?>> dataStreamImpl(MutableHttpRequest<I> request, Argument<?> errorType, PropagatedContext propagatedContext, URI requestURI, boolean splitEvents) {
+        Flux<HttpResponse<?>> streamResponsePublisher = toMono(buildStreamExchange(propagatedContext, request, requestURI, errorType, splitEvents), propagatedContext).flux();
         Function<HttpContent, ByteBuffer<?>> contentMapper = message -> {
             ByteBuf byteBuf = message.content();
             return byteBufferFactory.wrap(byteBuf);
@@ -1142,7 +1081,8 @@ public class DefaultHttpClient implements
             @Nullable PropagatedContext propagatedContext,
             @NonNull MutableHttpRequest<I> request,
             @NonNull URI requestURI,
-            @Nullable Argument<?> errorType) {
+            @Nullable Argument<?> errorType,
+            boolean splitEvents) {
         return this.sendRequestWithRedirects(
             propagatedContext,
             null,
@@ -1154,7 +1094,7 @@ public class DefaultHttpClient implements
                     resp.close();
                     body = Flux.empty();
                 } else {
-                    if (isAcceptEvents(req)) {
+                    if (splitEvents && isAcceptEvents(req)) {
                         if (bb instanceof AvailableNettyByteBody anbb) {
                             // same semantics as the streaming branch, but this is eager so it's more
                             // lax wrt unclosed responses.
@@ -2202,14 +2142,4 @@ public class DefaultHttpClient implements
             return HttpClientExceptionUtils.populateServiceId(exc, ctx.informationalServiceId, ctx.configuration);
         }
     }
-
-    /**
-     * Used as a holder for the current SSE event.
-     */
-    private static final class CurrentEvent {
-        byte[] data;
-        String id;
-        String name;
-        Duration retry;
-    }
 }
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client.netty;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.io.buffer.ByteBuffer;
+import io.micronaut.core.io.buffer.ByteBufferFactory;
+import io.micronaut.http.body.stream.BodySizeLimits;
+import io.micronaut.http.client.exceptions.ContentLengthExceededException;
+import io.micronaut.http.sse.Event;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Decodes the raw body of a Server Sent Event stream into events. Unlike {@link SseSplitter}, the lines are not
+ * copied into their own buffers: the fields are read in place from the received buffers, and only the bytes of the
+ * {@code data} fields are copied. The data lines of an event are joined once, when the event is dispatched. A line
+ * that spans several buffers is kept as a composite of retained slices of those buffers until it is complete.
+ *
+ * @since 4.8.0
+ */
+@Internal
+final class SseEventDecoder {
+    private static final byte[] DATA = "data".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ID = "id".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] EVENT = "event".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] RETRY = "retry".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] EMPTY_DATA = new byte[0];
+
+    private final ByteBufferFactory<?, ?> byteBufferFactory;
+    private final BodySizeLimits limits;
+
+    @Nullable
+    private CompositeByteBuf pending;
+    private boolean released;
+
+    private boolean inEvent;
+    @Nullable
+    private List<byte[]> data;
+    private int dataLength;
+    @Nullable
+    private String id;
+    @Nullable
+    private String name;
+    @Nullable
+    private Duration retry;
+
+    /**
+     * @param byteBufferFactory The factory used to wrap the data of the events
+     * @param limits            Buffer limits
+     */
+    SseEventDecoder(@NonNull ByteBufferFactory<?, ?> byteBufferFactory, @NonNull BodySizeLimits limits) {
+        this.byteBufferFactory = byteBufferFactory;
+        this.limits = limits;
+    }
+
+    /**
+     * Decode the next buffer of the stream. All events completed by this buffer are returned together.
+     *
+     * @param buf The buffer, released by this method
+     * @return The completed events, possibly empty
+     */
+    @NonNull
+    synchronized List<Event<ByteBuffer<?>>> decode(@NonNull ByteBuf buf) {
+        if (released) {
+            buf.release();
+            return List.of();
+        }
+        ByteBuf joined;
+        if (pending == null) {
+            joined = buf;
+        } else {
+            long combinedLength = (long) pending.readableBytes() + buf.readableBytes();
+            if (combinedLength > limits.maxBufferSize()) {
+                buf.release();
+                throw new ContentLengthExceededException(limits.maxBufferSize(), combinedLength);
+            }
+            joined = pending.addComponent(true, buf);
+            pending = null;
+        }
+        List<Event<ByteBuffer<?>>> events = List.of();
+        try {
+            while (true) {
+                int start = joined.readerIndex();
+                int eol = joined.indexOf(start, joined.writerIndex(), (byte) '\n');
+                if (eol == -1) {
+                    break;
+                }
+                int end = eol;
+                if (end > start && joined.getByte(end - 1) == '\r') {
+                    end--;
+                }
+                Event<ByteBuffer<?>> event = line(joined, start, end);
+                if (event != null) {
+                    if (events.isEmpty()) {
+                        events = new ArrayList<>(2);
+                    }
+                    events.add(event);
+                }
+                joined.readerIndex(eol + 1);
+            }
+            if (joined.isReadable()) {
+                // keep the unterminated line for the next buffer
+                if (joined instanceof CompositeByteBuf composite) {
+                    composite.discardReadComponents();
+                    pending = composite.retain();
+                } else {
+                    pending = joined.alloc().compositeBuffer().addComponent(true, joined.retainedSlice());
+                }
+            }
+        } finally {
+            joined.release();
+        }
+        return events;
+    }
+
+    /**
+     * Release the unterminated line, if any. Buffers passed to {@link #decode} afterwards are released immediately.
+     */
+    synchronized void release() {
+        released = true;
+        if (pending != null) {
+            pending.release();
+            pending = null;
+        }
+    }
+
+    @Nullable
+    private Event<ByteBuffer<?>> line(ByteBuf buf, int start, int end) {
+        if (start == end) {
+            // an empty line dispatches the current event
+            return inEvent ? dispatch() : null;
+        }
+        int colon = buf.indexOf(start, end, (byte) ':');
+        // SSE comments start with colon, so skip
+        if (colon <= start) {
+            return null;
+        }
+        inEvent = true;
+        int from = colon + 1;
+        // skip the white space before the actual data
+        if (from < end && buf.getByte(from) == ' ') {
+            from++;
+        }
+        if (from == end) {
+            return null;
+        }
+        int length = end - from;
+        if (fieldIs(buf, start, colon, DATA)) {
+            // the lines are joined once the event is dispatched
+            byte[] line = new byte[length];
+            buf.getBytes(from, line);
+            if (data == null) {
+                data = new ArrayList<>(1);
+            }
+            data.add(line);
+            dataLength += length;
+        } else if (fieldIs(buf, start, colon, ID)) {
+            id = buf.toString(from, length, StandardCharsets.UTF_8).trim();
+        } else if (fieldIs(buf, start, colon, EVENT)) {
+            name = buf.toString(from, length, StandardCharsets.UTF_8).trim();
+        } else if (fieldIs(buf, start, colon, RETRY)) {
+            retry = Duration.ofMillis(Long.parseLong(buf.toString(from, length, StandardCharsets.US_ASCII)));
+        }
+        return null;
+    }
+
+    private Event<ByteBuffer<?>> dispatch() {
+        Event<ByteBuffer<?>> event = Event.<ByteBuffer<?>>of(byteBufferFactory.wrap(joinData()))
+            .name(name)
+            .retry(retry)
+            .id(id);
+        inEvent = false;
+        data = null;
+        dataLength = 0;
+        id = null;
+        name = null;
+        retry = null;
+        return event;
+    }
+
+    private byte[] joinData() {
+        List<byte[]> lines = data;
+        if (lines == null) {
+            return EMPTY_DATA;
+        }
+        if (lines.size() == 1) {
+            return lines.get(0);
+        }
+        byte[] joined = new byte[dataLength];
+        int offset = 0;
+        for (byte[] line : lines) {
+            System.arraycopy(line, 0, joined, offset, line.length);
+            offset += line.length;
+        }
+        return joined;
+    }
+
+    private static boolean fieldIs(ByteBuf buf, int start, int end, byte[] field) {
+        if (end - start != field.length) {
+            return false;
+        }
+        for (int i = 0; i < field.length; i++) {
+            if (buf.getByte(start + i) != field[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,82 @@
+package io.micronaut.http.client
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpResponse
+import io.micronaut.http.HttpStatus
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.client.annotation.Client
+import io.micronaut.http.client.exceptions.HttpClientResponseException
+import io.micronaut.scheduling.LoomSupport
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.ExecutorService
+
+@Property(name = 'spec.name', value = 'VirtualThreadBlockingSpec')
+@MicronautTest
+@spock.lang.Requires({ LoomSupport.isSupported() })
+class VirtualThreadBlockingSpec extends Specification {
+
+    @Inject
+    @Client("/")
+    HttpClient client
+
+    ExecutorService executor = LoomSupport.newThreadPerTaskExecutor(LoomSupport.newVirtualThreadFactory("blocking-client"))
+
+    def cleanup() {
+        executor.shutdown()
+    }
+
+    void "test virtual thread detection"() {
+        expect:
+        !LoomSupport.isVirtual(Thread.currentThread())
+        executor.submit({ LoomSupport.isVirtual(Thread.currentThread()) } as Callable<Boolean>).get()
+    }
+
+    void "test blocking exchange on a virtual thread"() {
+        when:
+        HttpResponse<String> response = executor.submit({
+            client.toBlocking().exchange(HttpRequest.GET("/virtual-thread"), String)
+        } as Callable<HttpResponse<String>>).get()
+
+        then:
+        response.status() == HttpStatus.OK
+        response.body() == 'success'
+
+        when:
+        String body = executor.submit({
+            client.toBlocking().retrieve(HttpRequest.GET("/virtual-thread"))
+        } as Callable<String>).get()
+
+        then:
+        body == 'success'
+    }
+
+    void "test blocking error response on a virtual thread"() {
+        when:
+        executor.submit({
+            client.toBlocking().retrieve(HttpRequest.GET("/virtual-thread/missing"))
+        } as Callable<String>).get()
+
+        then:
+        def e = thrown(ExecutionException)
+        e.cause instanceof HttpClientResponseException
+        ((HttpClientResponseException) e.cause).status == HttpStatus.NOT_FOUND
+    }
+
+    @Requires(property = 'spec.name', value = 'VirtualThreadBlockingSpec')
+    @Controller('/virtual-thread')
+    static class VirtualThreadController {
+
+        @Get
+        String index() {
+            'success'
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package io.micronaut.http.client.netty
+
+import io.micronaut.buffer.netty.NettyByteBufferFactory
+import io.micronaut.core.io.buffer.ByteBuffer
+import io.micronaut.http.body.stream.BodySizeLimits
+import io.micronaut.http.client.exceptions.ContentLengthExceededException
+import io.micronaut.http.sse.Event
+import io.netty.buffer.ByteBuf
+import io.netty.buffer.Unpooled
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+import java.time.Duration
+
+class SseEventDecoderSpec extends Specification {
+    def decode(List<String> input, List<String> expectedData) {
+        given:
+        def decoder = new SseEventDecoder(NettyByteBufferFactory.DEFAULT, BodySizeLimits.UNLIMITED)
+        List<ByteBuf> buffers = input.collect { Unpooled.copiedBuffer(it, StandardCharsets.UTF_8) }
+
+        when:
+        List<Event<ByteBuffer<?>>> events = buffers.collectMany { decoder.decode(it) }
+        decoder.release()
+
+        then:
+        events.collect { it.data.toString(StandardCharsets.UTF_8) } == expectedData
+        buffers.every { it.refCnt() == 0 }
+
+        where:
+        input                                         | expectedData
+        ['data: foo\n\n']                             | ['foo']
+        ['data: foo\r\n\r\n']                         | ['foo']
+        ['data: foo\n\ndata: bar\n\n']                | ['foo', 'bar']
+        ['da', 'ta: f', 'oo\n', '\n']                 | ['foo']
+        ['data: foo\r', '\n\r\n']                     | ['foo']
+        ['data: foo\ndata: bar\n\n']                  | ['foobar']
+        [': comment\n\n', 'data: foo\n\n']            | ['foo']
+        ['data: foo\n\ndata: ba', 'r\n\ndata: baz\n'] | ['foo', 'bar']
+    }
+
+    def 'fields of the event'() {
+        given:
+        def decoder = new SseEventDecoder(NettyByteBufferFactory.DEFAULT, BodySizeLimits.UNLIMITED)
+
+        when:
+        def events = decoder.decode(Unpooled.copiedBuffer('id: 1\nevent: greeting\nretry: 500\n: hi\ndata: foo\n\n', StandardCharsets.UTF_8))
+
+        then:
+        events.size() == 1
+        events[0].id == '1'
+        events[0].name == 'greeting'
+        events[0].retry == Duration.ofMillis(500)
+        events[0].data.toString(StandardCharsets.UTF_8) == 'foo'
+    }
+
+    def 'unterminated line exceeding the limit'() {
+        given:
+        def decoder = new SseEventDecoder(NettyByteBufferFactory.DEFAULT, new BodySizeLimits(Long.MAX_VALUE, 8))
+        ByteBuf second = Unpooled.copiedBuffer('o bar baz', StandardCharsets.UTF_8)
+
+        when:
+        decoder.decode(Unpooled.copiedBuffer('data: fo', StandardCharsets.UTF_8))
+        decoder.decode(second)
+
+        then:
+        thrown ContentLengthExceededException
+        second.refCnt() == 0
+
+        cleanup:
+        decoder.release()
+    }
+
+    def 'many data lines of one event'() {
+        given:
+        def decoder = new SseEventDecoder(NettyByteBufferFactory.DEFAULT, BodySizeLimits.UNLIMITED)
+        String input = (0..<1000).collect { "data: line$it\n" }.join('') + '\n'
+
+        when:
+        def events = decoder.decode(Unpooled.copiedBuffer(input, StandardCharsets.UTF_8))
+
+        then:
+        events.size() == 1
+        events[0].data.toString(StandardCharsets.UTF_8) == (0..<1000).collect { "line$it" }.join('')
+
+        cleanup:
+        decoder.release()
+    }
+}
@@ -28,6 +28,7 @@ import io.micronaut.http.server.netty.handler.PipeliningServerHandler;
 import io.micronaut.http.server.netty.handler.RequestHandler;
 import io.micronaut.http.server.netty.handler.accesslog.Http2AccessLogManager;
 import io.micronaut.http.server.netty.handler.accesslog.HttpAccessLogHandler;
+import io.micronaut.http.server.netty.ssl.SessionTicketKeyRotation;
 import io.micronaut.http.server.netty.websocket.NettyServerWebSocketUpgradeHandler;
 import io.micronaut.http.server.util.HttpHostResolver;
 import io.micronaut.http.ssl.ServerSslConfiguration;
@@ -120,6 +121,8 @@ final class HttpPipelineBuilder implements Closeable {
     private final LoggingHandler loggingHandler;
     private final SslContext sslContext;
     private final QuicSslContext quicSslContext;
+    @Nullable
+    private final SessionTicketKeyRotation sessionTicketKeyRotation;
     private final HttpAccessLogHandler accessLogHandler;
     private final Http2AccessLogManager.Factory accessLogManagerFactory;
 
@@ -140,6 +143,10 @@ final class HttpPipelineBuilder implements Closeable {
         loggingHandler = logLevel.map(level -> new LoggingHandler(NettyHttpServer.class, level)).orElse(null);
         sslContext = embeddedServices.getServerSslBuilder() != null && !quic ? embeddedServices.getServerSslBuilder().build().orElse(null) : null;
         quicSslContext = quic ? embeddedServices.getServerSslBuilder().buildQuic().orElse(null) : null;
+        sessionTicketKeyRotation = sslContext != null ? embeddedServices.getApplicationContext().findBean(SessionTicketKeyRotation.class).orElse(null) : null;
+        if (sessionTicketKeyRotation != null) {
+            sessionTicketKeyRotation.register(sslContext);
+        }
 
         NettyHttpServerConfiguration.AccessLogger accessLogger = server.getServerConfiguration().getAccessLogger();
         if (accessLogger != null && accessLogger.isEnabled()) {
@@ -160,6 +167,9 @@ final class HttpPipelineBuilder implements Closeable {
 
     @Override
     public void close() {
+        if (sessionTicketKeyRotation != null) {
+            sessionTicketKeyRotation.unregister(sslContext);
+        }
         ReferenceCountUtil.release(sslContext);
     }
 
@@ -438,6 +448,8 @@ final class HttpPipelineBuilder implements Closeable {
                 .bodySizeLimits(bodySizeLimits())
                 .accessLogManagerFactory(accessLogManagerFactory)
                 .validateHeaders(server.getServerConfiguration().isValidateHeaders())
+                .priorityHeader(server.getServerConfiguration().getHttp2().isPriorityHeader())
+                .allocationQuantum(server.getServerConfiguration().getHttp2().getAllocationQuantum())
                 .initialSettings(server.getServerConfiguration().getHttp2().http2Settings());
             server.getServerConfiguration().getLogLevel().ifPresent(logLevel ->
                 builder.frameLogger(new Http2FrameLogger(logLevel, NettyHttpServer.class)));
@@ -688,6 +700,7 @@ final class HttpPipelineBuilder implements Closeable {
             PipeliningServerHandler pipeliningServerHandler = new PipeliningServerHandler(requestHandler);
             pipeliningServerHandler.setCompressionStrategy(embeddedServices.getHttpCompressionStrategy());
             pipeliningServerHandler.setBodySizeLimits(bodySizeLimits());
+            pipeliningServerHandler.setFileRegionEnabled(server.getServerConfiguration().isFileRegionEnabled());
             pipeline.addLast(ChannelPipelineCustomizer.HANDLER_MICRONAUT_INBOUND, pipeliningServerHandler);
         }
 
@@ -468,6 +468,20 @@ public final class RoutingInBoundHandler implements RequestHandler {
         httpContentPublisher = httpContentPublisher
             .contextWrite(reactorContext -> reactorContext.put(ServerRequestContext.KEY, request));
 
+        if (mediaType != null && mediaType.matches(MediaType.TEXT_EVENT_STREAM_TYPE)) {
+            NettyHttpServerConfiguration.SseSettings sse = serverConfiguration.getSse();
+            if (sse.getFlushWindow() != null || sse.getHeartbeatInterval() != null) {
+                httpContentPublisher = Flux.from(new SseCoalescer(
+                    httpContentPublisher,
+                    context.channel().eventLoop(),
+                    context.alloc(),
+                    sse.getFlushWindow(),
+                    sse.getFlushMaxBytes(),
+                    sse.getHeartbeatInterval()
+                ));
+            }
+        }
+
         return httpContentPublisher;
     }
 
@@ -0,0 +1,312 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.netty.EventLoopFlow;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.EventLoop;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.util.concurrent.ScheduledFuture;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesces the encoded events of a {@code text/event-stream} response. The events emitted
+ * within the flush window are copied into one pooled buffer, so that they are written with a
+ * single flush. The buffer is passed on early once it reaches the byte budget. Optionally, an
+ * empty comment is sent after the response has been idle for the heartbeat interval.
+ * <p>
+ * All state is only accessed on the event loop of the connection.
+ *
+ * @since 4.8.0
+ */
+@Internal
+final class SseCoalescer implements Publisher<HttpContent>, Subscriber<HttpContent>, Subscription {
+    /**
+     * Shared heartbeat comment, only duplicates of it are sent.
+     */
+    private static final ByteBuf HEARTBEAT = Unpooled.unreleasableBuffer(
+        Unpooled.directBuffer(3).writeBytes(":\n\n".getBytes(StandardCharsets.UTF_8)).asReadOnly());
+
+    private final Publisher<HttpContent> source;
+    private final EventLoop eventLoop;
+    private final EventLoopFlow flow;
+    private final ByteBufAllocator alloc;
+    private final long windowNanos;
+    private final int maxBytes;
+    private final long heartbeatNanos;
+
+    private Subscriber<? super HttpContent> downstream;
+    private Subscription upstream;
+    private long demand;
+    private boolean upstreamRequested;
+    /**
+     * Bytes that were received from upstream but not passed on yet.
+     */
+    @Nullable
+    private ByteBuf pending;
+    /**
+     * {@code true} iff {@link #pending} should be passed on as soon as there is demand.
+     */
+    private boolean flushNow;
+    @Nullable
+    private ScheduledFuture<?> flushTask;
+    @Nullable
+    private ScheduledFuture<?> heartbeatTask;
+    private long lastWrite;
+    private boolean done;
+    @Nullable
+    private Throwable error;
+    private boolean terminated;
+    private boolean cancelled;
+    private boolean draining;
+    private boolean redrain;
+
+    /**
+     * @param source            The encoded events
+     * @param eventLoop         The event loop of the connection
+     * @param alloc             The allocator for the coalesced buffers
+     * @param flushWindow       The time events are held back, or {@code null} to pass every event on immediately
+     * @param maxBytes          The number of held back bytes that are passed on before the window is over
+     * @param heartbeatInterval The idle time after which a heartbeat is sent, or {@code null} for no heartbeats
+     */
+    SseCoalescer(@NonNull Publisher<HttpContent> source,
+                 @NonNull EventLoop eventLoop,
+                 @NonNull ByteBufAllocator alloc,
+                 @Nullable Duration flushWindow,
+                 int maxBytes,
+                 @Nullable Duration heartbeatInterval) {
+        this.source = source;
+        this.eventLoop = eventLoop;
+        this.flow = new EventLoopFlow(eventLoop);
+        this.alloc = alloc;
+        this.windowNanos = flushWindow == null ? 0 : flushWindow.toNanos();
+        this.maxBytes = maxBytes;
+        this.heartbeatNanos = heartbeatInterval == null ? 0 : heartbeatInterval.toNanos();
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super HttpContent> s) {
+        if (downstream != null) {
+            throw new IllegalStateException("Only one subscriber allowed");
+        }
+        downstream = s;
+        source.subscribe(this);
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+        upstream = s;
+        downstream.onSubscribe(this);
+    }
+
+    @Override
+    public void request(long n) {
+        onLoop(() -> {
+            if (cancelled || terminated) {
+                return;
+            }
+            // clamping add
+            demand = demand + n < demand ? Long.MAX_VALUE : demand + n;
+            if (heartbeatNanos > 0 && heartbeatTask == null) {
+                lastWrite = System.nanoTime();
+                heartbeatTask = eventLoop.schedule(this::heartbeat, heartbeatNanos, TimeUnit.NANOSECONDS);
+            }
+            drain();
+        });
+    }
+
+    @Override
+    public void cancel() {
+        onLoop(() -> {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            cancelTasks();
+            if (pending != null) {
+                pending.release();
+                pending = null;
+            }
+            upstream.cancel();
+        });
+    }
+
+    @Override
+    public void onNext(HttpContent content) {
+        if (flow.executeNow(() -> onNext0(content))) {
+            onNext0(content);
+        }
+    }
+
+    private void onNext0(HttpContent content) {
+        upstreamRequested = false;
+        if (cancelled) {
+            content.release();
+            return;
+        }
+        ByteBuf buf = content.content();
+        if (pending == null) {
+            if (windowNanos == 0 || buf.readableBytes() >= maxBytes) {
+                // nothing to coalesce
+                pending = buf;
+                flushNow = true;
+            } else {
+                pending = alloc.buffer(maxBytes);
+                pending.writeBytes(buf);
+                buf.release();
+                flushTask = eventLoop.schedule(this::flushWindowOver, windowNanos, TimeUnit.NANOSECONDS);
+            }
+        } else {
+            // pending is our own buffer here, flushNow is false
+            pending.writeBytes(buf);
+            buf.release();
+            if (pending.readableBytes() >= maxBytes) {
+                flushNow = true;
+            }
+        }
+        drain();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        if (flow.executeNow(() -> onError0(t))) {
+            onError0(t);
+        }
+    }
+
+    private void onError0(Throwable t) {
+        error = t;
+        onComplete0();
+    }
+
+    @Override
+    public void onComplete() {
+        if (flow.executeNow(this::onComplete0)) {
+            onComplete0();
+        }
+    }
+
+    private void onComplete0() {
+        upstreamRequested = false;
+        done = true;
+        // pass on what is left before terminating
+        flushNow = true;
+        drain();
+    }
+
+    private void flushWindowOver() {
+        flushTask = null;
+        if (pending != null) {
+            flushNow = true;
+            drain();
+        }
+    }
+
+    private void heartbeat() {
+        heartbeatTask = null;
+        if (cancelled || terminated) {
+            return;
+        }
+        long now = System.nanoTime();
+        long idle = now - lastWrite;
+        if (idle >= heartbeatNanos && pending == null && demand > 0 && !done) {
+            demand--;
+            lastWrite = now;
+            idle = 0;
+            downstream.onNext(new DefaultHttpContent(HEARTBEAT.duplicate()));
+        }
+        if (!cancelled && !terminated) {
+            heartbeatTask = eventLoop.schedule(this::heartbeat, Math.max(heartbeatNanos - idle, 1), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void drain() {
+        if (draining) {
+            // called from a nested onNext or request, let the outer loop continue
+            redrain = true;
+            return;
+        }
+        draining = true;
+        try {
+            do {
+                redrain = false;
+                if (cancelled || terminated) {
+                    return;
+                }
+                if (pending != null && flushNow && demand > 0) {
+                    ByteBuf out = pending;
+                    pending = null;
+                    flushNow = false;
+                    if (flushTask != null) {
+                        flushTask.cancel(false);
+                        flushTask = null;
+                    }
+                    demand--;
+                    lastWrite = System.nanoTime();
+                    downstream.onNext(new DefaultHttpContent(out));
+                }
+                if (pending == null && done) {
+                    terminated = true;
+                    cancelTasks();
+                    if (error != null) {
+                        downstream.onError(error);
+                    } else {
+                        downstream.onComplete();
+                    }
+                    return;
+                }
+                if (!upstreamRequested && !done && (pending == null ? demand > 0 : !flushNow && pending.readableBytes() < maxBytes)) {
+                    // while events are held back, keep reading until the byte budget is reached
+                    upstreamRequested = true;
+                    upstream.request(1);
+                }
+            } while (redrain);
+        } finally {
+            draining = false;
+        }
+    }
+
+    private void cancelTasks() {
+        if (flushTask != null) {
+            flushTask.cancel(false);
+            flushTask = null;
+        }
+        if (heartbeatTask != null) {
+            heartbeatTask.cancel(false);
+            heartbeatTask = null;
+        }
+    }
+
+    private void onLoop(Runnable task) {
+        if (eventLoop.inEventLoop()) {
+            task.run();
+        } else {
+            eventLoop.execute(task);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty.body;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.execution.ExecutionFlow;
+import io.micronaut.core.io.buffer.ByteBuffer;
+import io.micronaut.http.body.CloseableAvailableByteBody;
+import io.micronaut.http.body.CloseableByteBody;
+import io.micronaut.http.body.InternalByteBody;
+import io.netty.channel.DefaultFileRegion;
+import org.reactivestreams.Publisher;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.OptionalLong;
+
+/**
+ * {@link io.micronaut.http.body.ByteBody} for a section of a file. The body behaves like the
+ * stream-based delegate, but as long as it has not been consumed, the HTTP/1.1 server can
+ * instead claim it as a {@link DefaultFileRegion} and let the transport write the file without
+ * copying it to user space ({@code sendfile}).
+ *
+ * @since 4.8.0
+ */
+@Internal
+public final class FileByteBody implements CloseableByteBody, InternalByteBody {
+    private final File file;
+    private final long position;
+    private final long length;
+    private final CloseableByteBody delegate;
+    /**
+     * {@code true} iff the file region has not been claimed, and the delegate has not been
+     * consumed, split or closed.
+     */
+    private boolean regionAvailable = true;
+
+    /**
+     * @param file     The file
+     * @param position The position of the first byte of the body in the file
+     * @param length   The number of bytes of the body
+     * @param delegate The stream-based body for the same bytes, used when no file region is claimed
+     */
+    public FileByteBody(@NonNull File file, long position, long length, @NonNull CloseableByteBody delegate) {
+        this.file = file;
+        this.position = position;
+        this.length = length;
+        this.delegate = delegate;
+    }
+
+    /**
+     * Claim this body as a file region. This closes the stream-based delegate. The caller takes
+     * ownership of the returned region.
+     *
+     * @return The file region, or {@code null} if this body has already been consumed
+     */
+    @Nullable
+    public DefaultFileRegion claimFileRegion() {
+        if (!regionAvailable) {
+            return null;
+        }
+        regionAvailable = false;
+        delegate.close();
+        return new DefaultFileRegion(file, position, length);
+    }
+
+    @Override
+    public @NonNull CloseableByteBody allowDiscard() {
+        delegate.allowDiscard();
+        return this;
+    }
+
+    @Override
+    public void close() {
+        regionAvailable = false;
+        delegate.close();
+    }
+
+    @Override
+    public @NonNull CloseableByteBody split(@NonNull SplitBackpressureMode backpressureMode) {
+        // both halves share the stream now
+        regionAvailable = false;
+        return delegate.split(backpressureMode);
+    }
+
+    @Override
+    public @NonNull OptionalLong expectedLength() {
+        return OptionalLong.of(length);
+    }
+
+    @Override
+    public @NonNull InputStream toInputStream() {
+        regionAvailable = false;
+        return delegate.toInputStream();
+    }
+
+    @Override
+    public @NonNull Publisher<byte[]> toByteArrayPublisher() {
+        regionAvailable = false;
+        return delegate.toByteArrayPublisher();
+    }
+
+    @Override
+    public @NonNull Publisher<ByteBuffer<?>> toByteBufferPublisher() {
+        regionAvailable = false;
+        return delegate.toByteBufferPublisher();
+    }
+
+    @Override
+    public @NonNull ExecutionFlow<? extends CloseableAvailableByteBody> bufferFlow() {
+        regionAvailable = false;
+        return InternalByteBody.bufferFlow(delegate);
+    }
+
+    @Override
+    public @NonNull CloseableByteBody move() {
+        FileByteBody moved = new FileByteBody(file, position, length, delegate.move());
+        moved.regionAvailable = regionAvailable;
+        regionAvailable = false;
+        return moved;
+    }
+}
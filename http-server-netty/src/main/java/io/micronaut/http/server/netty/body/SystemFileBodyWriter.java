@@ -31,6 +31,7 @@ import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpStatus;
 import io.micronaut.http.MediaType;
 import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.http.body.CloseableByteBody;
 import io.micronaut.http.body.ResponseBodyWriter;
 import io.micronaut.http.body.stream.InputStreamByteBody;
 import io.micronaut.http.codec.CodecException;
@@ -132,7 +133,12 @@ public final class SystemFileBodyWriter extends AbstractFileBodyWriter implement
             }
 
             @NonNull InputStream stream = new RangeInputStream(is, position, contentLength);
-            return ByteBodyHttpResponseWrapper.wrap(response, InputStreamByteBody.create(stream, OptionalLong.of(contentLength), ioExecutor, NettyByteBufferFactory.DEFAULT));
+            CloseableByteBody body = InputStreamByteBody.create(stream, OptionalLong.of(contentLength), ioExecutor, NettyByteBufferFactory.DEFAULT);
+            if (fileLength > -1) {
+                // allow the server to send the file without copying it to user space
+                body = new FileByteBody(file, position, contentLength, body);
+            }
+            return ByteBodyHttpResponseWrapper.wrap(response, body);
         }
     }
 
@@ -183,6 +183,20 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
      */
     public static final int DEFAULT_FORM_MAX_BUFFERED_BYTES = 1024;
 
+    /**
+     * Default value for {@link SseSettings#getFlushMaxBytes()}.
+     *
+     * @since 4.8.0
+     */
+    public static final int DEFAULT_SSE_FLUSH_MAX_BYTES = 8192;
+
+    /**
+     * Default value for {@link #isFileRegionEnabled()}.
+     *
+     * @since 4.8.0
+     */
+    public static final boolean DEFAULT_FILE_REGION_ENABLED = false;
+
     private static final Logger LOG = LoggerFactory.getLogger(NettyHttpServerConfiguration.class);
 
     private final List<ChannelPipelineListener> pipelineCustomizers;
@@ -212,6 +226,7 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
     private AccessLogger accessLogger;
     private Http2Settings http2Settings = new Http2Settings();
     private Http3Settings http3Settings = new Http3Settings();
+    private SseSettings sseSettings = new SseSettings();
     private boolean keepAliveOnServerError = DEFAULT_KEEP_ALIVE_ON_SERVER_ERROR;
     private String pcapLoggingPathPattern = null;
     private List<NettyListenerConfiguration> listeners = null;
@@ -220,6 +235,7 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
     private boolean legacyMultiplexHandlers = false;
     private int formMaxFields = DEFAULT_FORM_MAX_FIELDS;
     private int formMaxBufferedBytes = DEFAULT_FORM_MAX_BUFFERED_BYTES;
+    private boolean fileRegionEnabled = DEFAULT_FILE_REGION_ENABLED;
 
     /**
      * Default empty constructor.
@@ -345,6 +361,28 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
         }
     }
 
+    /**
+     * Returns the settings for {@code text/event-stream} responses.
+     *
+     * @return The SseSettings
+     * @since 4.8.0
+     */
+    public SseSettings getSse() {
+        return sseSettings;
+    }
+
+    /**
+     * Sets the settings for {@code text/event-stream} responses.
+     *
+     * @param sseSettings The SseSettings
+     * @since 4.8.0
+     */
+    public void setSse(SseSettings sseSettings) {
+        if (sseSettings != null) {
+            this.sseSettings = sseSettings;
+        }
+    }
+
     /**
      * @return The pipeline customizers
      */
@@ -848,12 +886,44 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
         this.formMaxBufferedBytes = formMaxBufferedBytes;
     }
 
+    /**
+     * Whether file responses on plaintext HTTP/1.1 connections may be written as a
+     * {@link io.netty.channel.FileRegion}, letting the transport send the file without copying it
+     * through user space. Outbound handlers added to the pipeline, e.g. by a
+     * {@link io.micronaut.http.server.netty.NettyServerCustomizer}, then receive the
+     * {@link io.netty.channel.FileRegion} instead of the content buffers, so this is disabled by
+     * default. Default value ({@value #DEFAULT_FILE_REGION_ENABLED}).
+     *
+     * @return Whether file regions are enabled
+     * @since 4.8.0
+     */
+    public boolean isFileRegionEnabled() {
+        return fileRegionEnabled;
+    }
+
+    /**
+     * Whether file responses on plaintext HTTP/1.1 connections may be written as a
+     * {@link io.netty.channel.FileRegion}, letting the transport send the file without copying it
+     * through user space. Outbound handlers added to the pipeline, e.g. by a
+     * {@link io.micronaut.http.server.netty.NettyServerCustomizer}, then receive the
+     * {@link io.netty.channel.FileRegion} instead of the content buffers, so this is disabled by
+     * default. Default value ({@value #DEFAULT_FILE_REGION_ENABLED}).
+     *
+     * @param fileRegionEnabled Whether file regions are enabled
+     * @since 4.8.0
+     */
+    public void setFileRegionEnabled(boolean fileRegionEnabled) {
+        this.fileRegionEnabled = fileRegionEnabled;
+    }
+
     /**
      * Http2 settings.
      */
     @ConfigurationProperties("http2")
     public static class Http2Settings {
         private final io.netty.handler.codec.http2.Http2Settings settings = io.netty.handler.codec.http2.Http2Settings.defaultSettings();
+        private boolean priorityHeader = false;
+        private Integer allocationQuantum;
 
         /**
          * Returns netty's http2 settings.
@@ -995,6 +1065,55 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
                 settings.maxHeaderListSize(value);
             }
         }
+
+        /**
+         * Whether the urgency of the RFC 9218 {@code priority} request header weights the share of the connection
+         * that the response of a stream gets. Defaults to {@code false}.
+         *
+         * @return Whether the priority header is used
+         * @since 4.8.0
+         */
+        public boolean isPriorityHeader() {
+            return priorityHeader;
+        }
+
+        /**
+         * Whether the urgency of the RFC 9218 {@code priority} request header weights the share of the connection
+         * that the response of a stream gets. Each urgency level above or below the default of {@code 3} doubles or
+         * halves the stream weight. Defaults to {@code false}.
+         *
+         * @param priorityHeader Whether the priority header is used
+         * @since 4.8.0
+         */
+        public void setPriorityHeader(boolean priorityHeader) {
+            this.priorityHeader = priorityHeader;
+        }
+
+        /**
+         * The number of bytes a stream may write before the next stream gets its turn when the connection cannot
+         * send the data of all streams at once. If unavailable, returns {@code null}.
+         *
+         * @return The allocation quantum in bytes or {@code null}
+         * @since 4.8.0
+         */
+        public Integer getAllocationQuantum() {
+            return allocationQuantum;
+        }
+
+        /**
+         * The number of bytes a stream may write before the next stream gets its turn when the connection cannot
+         * send the data of all streams at once. Smaller values interleave concurrent responses more finely. Defaults
+         * to the netty default of 1024 bytes.
+         *
+         * @param allocationQuantum The allocation quantum in bytes
+         * @since 4.8.0
+         */
+        public void setAllocationQuantum(Integer allocationQuantum) {
+            if (allocationQuantum != null && allocationQuantum <= 0) {
+                throw new IllegalArgumentException("allocationQuantum must be > 0");
+            }
+            this.allocationQuantum = allocationQuantum;
+        }
     }
 
     /**
@@ -1081,6 +1200,85 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
         }
     }
 
+    /**
+     * Configuration for {@code text/event-stream} responses.
+     *
+     * @since 4.8.0
+     */
+    @ConfigurationProperties("sse")
+    public static final class SseSettings {
+        private Duration flushWindow;
+        private int flushMaxBytes = DEFAULT_SSE_FLUSH_MAX_BYTES;
+        private Duration heartbeatInterval;
+
+        /**
+         * The time the events of a {@code text/event-stream} response are held back, so that the
+         * events emitted within this window are written and flushed together. {@code null} (the
+         * default) flushes every event on its own.
+         *
+         * @return The flush window
+         */
+        @Nullable
+        public Duration getFlushWindow() {
+            return flushWindow;
+        }
+
+        /**
+         * The time the events of a {@code text/event-stream} response are held back, so that the
+         * events emitted within this window are written and flushed together. {@code null} (the
+         * default) flushes every event on its own.
+         *
+         * @param flushWindow The flush window
+         */
+        public void setFlushWindow(@Nullable Duration flushWindow) {
+            this.flushWindow = flushWindow;
+        }
+
+        /**
+         * The number of held back bytes that triggers a flush before the {@link #getFlushWindow()
+         * flush window} is over. Default value ({@value NettyHttpServerConfiguration#DEFAULT_SSE_FLUSH_MAX_BYTES}).
+         *
+         * @return The maximum number of bytes to hold back
+         */
+        public int getFlushMaxBytes() {
+            return flushMaxBytes;
+        }
+
+        /**
+         * The number of held back bytes that triggers a flush before the {@link #getFlushWindow()
+         * flush window} is over. Default value ({@value NettyHttpServerConfiguration#DEFAULT_SSE_FLUSH_MAX_BYTES}).
+         *
+         * @param flushMaxBytes The maximum number of bytes to hold back
+         */
+        public void setFlushMaxBytes(@ReadableBytes int flushMaxBytes) {
+            if (flushMaxBytes <= 0) {
+                throw new IllegalArgumentException("flushMaxBytes must be > 0");
+            }
+            this.flushMaxBytes = flushMaxBytes;
+        }
+
+        /**
+         * The interval after which an empty comment is written to an idle {@code text/event-stream}
+         * response, to keep the connection open. {@code null} (the default) disables the heartbeat.
+         *
+         * @return The heartbeat interval
+         */
+        @Nullable
+        public Duration getHeartbeatInterval() {
+            return heartbeatInterval;
+        }
+
+        /**
+         * The interval after which an empty comment is written to an idle {@code text/event-stream}
+         * response, to keep the connection open. {@code null} (the default) disables the heartbeat.
+         *
+         * @param heartbeatInterval The heartbeat interval
+         */
+        public void setHeartbeatInterval(@Nullable Duration heartbeatInterval) {
+            this.heartbeatInterval = heartbeatInterval;
+        }
+    }
+
     /**
      * Access logger configuration.
      */
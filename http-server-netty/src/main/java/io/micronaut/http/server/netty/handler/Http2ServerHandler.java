@@ -31,6 +31,7 @@ import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpServerUpgradeHandler;
 import io.netty.handler.codec.http2.AbstractHttp2ConnectionHandlerBuilder;
 import io.netty.handler.codec.http2.DefaultHttp2Connection;
+import io.netty.handler.codec.http2.DefaultHttp2RemoteFlowController;
 import io.netty.handler.codec.http2.DelegatingDecompressorFrameListener;
 import io.netty.handler.codec.http2.Http2CodecUtil;
 import io.netty.handler.codec.http2.Http2Connection;
@@ -45,6 +46,8 @@ import io.netty.handler.codec.http2.Http2FrameLogger;
 import io.netty.handler.codec.http2.Http2Headers;
 import io.netty.handler.codec.http2.Http2Settings;
 import io.netty.handler.codec.http2.HttpConversionUtil;
+import io.netty.handler.codec.http2.WeightedFairQueueByteDistributor;
+import io.netty.util.AsciiString;
 
 import java.nio.channels.ClosedChannelException;
 import java.util.EnumMap;
@@ -59,11 +62,15 @@ import java.util.Map;
 @Internal
 public final class Http2ServerHandler extends MultiplexedServerHandler implements Http2FrameListener {
     private static final Map<Http2Error, Exception> HTTP2_ERRORS = new EnumMap<>(Http2Error.class);
+    private static final AsciiString PRIORITY = AsciiString.cached("priority");
+    private static final int DEFAULT_URGENCY = 3;
+    private static final int MAX_URGENCY = 7;
 
     private Http2ConnectionHandler connectionHandler;
     private Http2Connection.PropertyKey streamKey;
     private boolean reading = false;
     private boolean upgradedFromHttp1 = false;
+    private boolean priorityHeader = false;
 
     static {
         for (Http2Error value : Http2Error.values()) {
@@ -119,9 +126,74 @@ public final class Http2ServerHandler extends MultiplexedServerHandler implement
             str.setProperty(streamKey, existing);
             return;
         }
+        if (priorityHeader) {
+            CharSequence priority = headers.get(PRIORITY);
+            if (priority != null) {
+                int urgency = parseUrgency(priority);
+                if (urgency != DEFAULT_URGENCY) {
+                    connectionHandler.encoder().flowController().updateDependencyTree(streamId, Http2CodecUtil.CONNECTION_STREAM_ID, urgencyWeight(urgency), false);
+                }
+            }
+        }
         stream.onHeadersRead(HttpConversionUtil.toHttpRequest(streamId, headers, true), endOfStream);
     }
 
+    /**
+     * Parse the urgency of an RFC 9218 {@code priority} header, e.g. {@code u=1, i}.
+     *
+     * @param priority The header value
+     * @return The urgency between 0 (most urgent) and 7, or the default urgency 3 if the header does not specify a
+     * valid urgency
+     */
+    static int parseUrgency(CharSequence priority) {
+        int length = priority.length();
+        int i = 0;
+        while (i < length) {
+            // skip whitespace between dictionary members
+            while (i < length && (priority.charAt(i) == ' ' || priority.charAt(i) == '\t')) {
+                i++;
+            }
+            if (i + 2 < length && priority.charAt(i) == 'u' && priority.charAt(i + 1) == '=') {
+                char digit = priority.charAt(i + 2);
+                boolean end = i + 3 == length || priority.charAt(i + 3) == ',' || priority.charAt(i + 3) == ' ' || priority.charAt(i + 3) == ';';
+                if (end && digit >= '0' && digit <= '0' + MAX_URGENCY) {
+                    return digit - '0';
+                }
+                return DEFAULT_URGENCY;
+            }
+            int next = indexOf(priority, ',', i);
+            if (next == -1) {
+                break;
+            }
+            i = next + 1;
+        }
+        return DEFAULT_URGENCY;
+    }
+
+    private static int indexOf(CharSequence s, char c, int from) {
+        for (int i = from; i < s.length(); i++) {
+            if (s.charAt(i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Map an RFC 9218 urgency to an HTTP/2 stream weight. The default urgency maps to the default weight, and every
+     * urgency level above or below doubles or halves it.
+     *
+     * @param urgency The urgency between 0 and 7
+     * @return The stream weight
+     */
+    static short urgencyWeight(int urgency) {
+        if (urgency <= DEFAULT_URGENCY) {
+            return (short) (Http2CodecUtil.DEFAULT_PRIORITY_WEIGHT << (DEFAULT_URGENCY - urgency));
+        } else {
+            return (short) Math.max(Http2CodecUtil.MIN_WEIGHT, Http2CodecUtil.DEFAULT_PRIORITY_WEIGHT >> (urgency - DEFAULT_URGENCY));
+        }
+    }
+
     @Override
     public void onPriorityRead(ChannelHandlerContext ctx, int streamId, int streamDependency, short weight, boolean exclusive) {
         // frame deprecated by HTTP/2 spec
@@ -281,6 +353,8 @@ public final class Http2ServerHandler extends MultiplexedServerHandler implement
         private final Http2ServerHandler frameListener;
         private Http2AccessLogManager.Factory accessLogManagerFactory;
         private Http2AccessLogManager accessLogManager;
+        @Nullable
+        private Integer allocationQuantum;
 
         public ConnectionHandlerBuilder(RequestHandler requestHandler) {
             frameListener = new Http2ServerHandler(requestHandler);
@@ -318,9 +392,39 @@ public final class Http2ServerHandler extends MultiplexedServerHandler implement
             return this;
         }
 
+        /**
+         * Weight the response data of each stream by the urgency of the RFC 9218 {@code priority} request header.
+         *
+         * @param priorityHeader Whether the priority header should be used
+         * @return This builder
+         * @since 4.8.0
+         */
+        public ConnectionHandlerBuilder priorityHeader(boolean priorityHeader) {
+            frameListener.priorityHeader = priorityHeader;
+            return this;
+        }
+
+        /**
+         * The number of bytes a stream may write before the next stream with pending data gets its turn, when the
+         * connection cannot write the data of all streams at once.
+         *
+         * @param allocationQuantum The quantum in bytes, or {@code null} for the netty default
+         * @return This builder
+         * @since 4.8.0
+         */
+        public ConnectionHandlerBuilder allocationQuantum(@Nullable Integer allocationQuantum) {
+            this.allocationQuantum = allocationQuantum;
+            return this;
+        }
+
         @Override
         public ConnectionHandler build() {
             connection(new DefaultHttp2Connection(isServer(), maxReservedStreams()));
+            if (allocationQuantum != null) {
+                WeightedFairQueueByteDistributor distributor = new WeightedFairQueueByteDistributor(connection());
+                distributor.allocationQuantum(allocationQuantum);
+                connection().remote().flowController(new DefaultHttp2RemoteFlowController(connection(), distributor));
+            }
             Http2FrameListener fl = new DelegatingDecompressorFrameListener(connection(), frameListener, false);
             if (accessLogManagerFactory != null) {
                 accessLogManager = new Http2AccessLogManager(accessLogManagerFactory, connection());
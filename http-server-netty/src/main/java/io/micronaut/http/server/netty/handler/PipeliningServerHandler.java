@@ -29,12 +29,15 @@ import io.micronaut.http.netty.body.NettyByteBody;
 import io.micronaut.http.netty.body.StreamingNettyByteBody;
 import io.micronaut.http.netty.stream.StreamedHttpResponse;
 import io.micronaut.http.server.netty.HttpCompressionStrategy;
+import io.micronaut.http.server.netty.body.FileByteBody;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.DefaultFileRegion;
 import io.netty.channel.EventLoop;
 import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.handler.codec.compression.Brotli;
@@ -58,9 +61,11 @@ import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpServerCodec;
 import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.HttpVersion;
 import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.timeout.IdleState;
 import io.netty.handler.timeout.IdleStateEvent;
 import org.slf4j.Logger;
@@ -94,6 +99,7 @@ public final class PipeliningServerHandler extends ChannelInboundHandlerAdapter
 
     private Compressor compressor;
     private BodySizeLimits bodySizeLimits = BodySizeLimits.UNLIMITED;
+    private boolean fileRegionEnabled = false;
 
     /**
      * Current handler for inbound messages.
@@ -124,7 +130,8 @@ public final class PipeliningServerHandler extends ChannelInboundHandlerAdapter
      */
     private boolean removed = false;
     /**
-     * {@code true} iff we should flush on {@link #channelReadComplete}.
+     * {@code true} iff we should flush on {@link #channelReadComplete}, or at the end of
+     * {@link #writeSome()}.
      */
     private boolean flushPending = false;
     /**
@@ -148,6 +155,10 @@ public final class PipeliningServerHandler extends ChannelInboundHandlerAdapter
         this.bodySizeLimits = bodySizeLimits;
     }
 
+    public void setFileRegionEnabled(boolean fileRegionEnabled) {
+        this.fileRegionEnabled = fileRegionEnabled;
+    }
+
     public static boolean canHaveBody(HttpResponseStatus status) {
         // All 1xx (Informational), 204 (No Content), and 304 (Not Modified)
         // responses do not include a message body
@@ -173,6 +184,22 @@ public final class PipeliningServerHandler extends ChannelInboundHandlerAdapter
         return contentLength != 0 || HttpUtil.isTransferEncodingChunked(request);
     }
 
+    /**
+     * Check whether a {@link FileByteBody} can be written as a {@link DefaultFileRegion}. This is
+     * only the case for plaintext HTTP/1.1 when enabled in the configuration: TLS and the HTTP/2
+     * and HTTP/3 framing need the bytes in user space, and so may user outbound handlers. The
+     * incubator io_uring transport does not support file regions either.
+     */
+    private boolean canWriteFileRegion() {
+        if (!fileRegionEnabled) {
+            return false;
+        }
+        ChannelPipeline pipeline = ctx.pipeline();
+        return pipeline.get(HttpServerCodec.class) != null
+            && pipeline.get(SslHandler.class) == null
+            && !ctx.channel().getClass().getName().startsWith("io.netty.incubator.channel.uring.");
+    }
+
     /**
      * Call {@code ctx.read()} if necessary.
      */
@@ -266,8 +293,9 @@ public final class PipeliningServerHandler extends ChannelInboundHandlerAdapter
             ctx.writeAndFlush(message).addListener(ChannelFutureListener.CLOSE);
         } else {
             if (flush) {
-                // delay flush until readComplete if possible
-                if (reading) {
+                // delay flush until readComplete if possible. Inside writeSome, delay it until all
+                // responses that are ready have been written, so pipelined responses share a flush
+                if (reading || writing) {
                     ctx.write(message, ctx.voidPromise());
                     flushPending = true;
                 } else {
@@ -310,6 +338,10 @@ public final class PipeliningServerHandler extends ChannelInboundHandlerAdapter
             }
         } finally {
             writing = false;
+            if (flushPending && !reading) {
+                ctx.flush();
+                flushPending = false;
+            }
         }
     }
 
@@ -861,6 +893,10 @@ public final class PipeliningServerHandler extends ChannelInboundHandlerAdapter
 
         @Override
         public void write(@NonNull HttpResponse response, @NonNull ByteBody body) {
+            if (body instanceof FileByteBody fileBody && canHaveBody(response.status()) && canWriteFileRegion()) {
+                writeFile(response, fileBody);
+                return;
+            }
             NettyByteBody nbb = NettyBodyAdapter.adapt(body, ctx.channel().eventLoop());
             if (nbb instanceof AvailableNettyByteBody available) {
                 writeFull(new DefaultFullHttpResponse(response.protocolVersion(), response.status(), AvailableNettyByteBody.toByteBuf(available), response.headers(), EmptyHttpHeaders.INSTANCE), false);
@@ -889,6 +925,27 @@ public final class PipeliningServerHandler extends ChannelInboundHandlerAdapter
             }
         }
 
+        private void writeFile(HttpResponse response, FileByteBody body) {
+            long length = body.expectedLength().getAsLong();
+            response.headers().remove(HttpHeaderNames.TRANSFER_ENCODING);
+            response.headers().set(HttpHeaderNames.CONTENT_LENGTH, length);
+            preprocess(response);
+            FileRegionOutboundHandler oh = new FileRegionOutboundHandler(this, response);
+            prepareCompression(response, oh, length);
+            if (oh.compressionSession == null) {
+                oh.region = body.claimFileRegion();
+                if (oh.region != null) {
+                    write(oh);
+                    return;
+                }
+            }
+            // the body has to go through the compressor, stream it instead
+            StreamingOutboundHandler streaming = new StreamingOutboundHandler(this, response);
+            streaming.compressionSession = oh.compressionSession;
+            streaming.upstream = ((StreamingNettyByteBody) NettyBodyAdapter.adapt(body, ctx.channel().eventLoop())).primary(streaming);
+            write(streaming);
+        }
+
         private void prepareCompression(HttpResponse response, OutboundHandler outboundHandler, long contentLength) {
             if (compressor == null) {
                 return;
@@ -1043,6 +1100,43 @@ public final class PipeliningServerHandler extends ChannelInboundHandlerAdapter
         }
     }
 
+    /**
+     * Handler that writes a response with a {@link DefaultFileRegion} body, so that the transport
+     * can send the file without copying it to user space.
+     */
+    private final class FileRegionOutboundHandler extends OutboundHandler {
+        private final HttpResponse response;
+        private DefaultFileRegion region;
+
+        FileRegionOutboundHandler(OutboundAccessImpl outboundAccess, HttpResponse response) {
+            super(outboundAccess);
+            this.response = response;
+        }
+
+        @Override
+        void writeSome() {
+            write(response, false, false);
+            write(region, false, false);
+            region = null;
+            write(LastHttpContent.EMPTY_LAST_CONTENT, true, outboundAccess.closeAfterWrite);
+            outboundHandler = null;
+            requestHandler.responseWritten(outboundAccess.attachment);
+            PipeliningServerHandler.this.writeSome();
+        }
+
+        @Override
+        void discardOutbound() {
+            super.discardOutbound();
+            outboundHandler = null;
+            // pretend we wrote to clean up resources
+            requestHandler.responseWritten(outboundAccess.attachment);
+            if (region != null) {
+                region.release();
+                region = null;
+            }
+        }
+    }
+
     /**
      * Handler that writes a {@link StreamedHttpResponse}.
      */
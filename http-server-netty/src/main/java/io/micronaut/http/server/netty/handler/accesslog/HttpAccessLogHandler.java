@@ -25,6 +25,7 @@ import io.netty.channel.ChannelDuplexHandler;
 import io.netty.channel.ChannelHandler.Sharable;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
+import io.netty.channel.FileRegion;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponse;
@@ -165,6 +166,8 @@ public class HttpAccessLogHandler extends ChannelDuplexHandler {
                     accessLogger.onResponseWrite(holder.content().readableBytes());
                 } else if (msg instanceof ByteBuf buf) {
                     accessLogger.onResponseWrite(buf.readableBytes());
+                } else if (msg instanceof FileRegion region) {
+                    accessLogger.onResponseWrite((int) Math.min(region.count(), Integer.MAX_VALUE));
                 }
             }
         }
@@ -126,6 +126,11 @@ public abstract class AbstractServerSslBuilder extends SslBuilder<SslContext> im
             }
         }
 
+        if (ssl instanceof ServerSslConfiguration serverSsl) {
+            serverSsl.getSessionCacheSize().ifPresent(sslBuilder::sessionCacheSize);
+            serverSsl.getSessionTimeout().ifPresent(timeout -> sslBuilder.sessionTimeout(timeout.toSeconds()));
+        }
+
         if (isHttp2) {
             sslBuilder.applicationProtocolConfig(new ApplicationProtocolConfig(
                 ApplicationProtocolConfig.Protocol.ALPN,
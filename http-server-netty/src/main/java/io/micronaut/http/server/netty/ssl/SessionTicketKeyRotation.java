@@ -0,0 +1,134 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty.ssl;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.ssl.ServerSslConfiguration;
+import io.micronaut.scheduling.TaskScheduler;
+import io.netty.handler.ssl.OpenSsl;
+import io.netty.handler.ssl.OpenSslSessionContext;
+import io.netty.handler.ssl.OpenSslSessionTicketKey;
+import io.netty.handler.ssl.SslContext;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Generates the TLS session ticket keys of the server and rotates them on a schedule. The newest key encrypts new
+ * tickets, the previous key is kept so that tickets issued during the last interval can still be resumed.
+ * Only contexts backed by OpenSSL expose their ticket keys, other contexts are left to the TLS provider.
+ *
+ * @since 4.8.0
+ */
+@Internal
+@Singleton
+@Requires(property = ServerSslConfiguration.SESSION_TICKET_KEY_ROTATION)
+public final class SessionTicketKeyRotation {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SessionTicketKeyRotation.class);
+    private static final int KEY_PART_LENGTH = 16;
+
+    private final SecureRandom random = new SecureRandom();
+    private final Set<OpenSslSessionContext> contexts = new LinkedHashSet<>();
+    @Nullable
+    private final ScheduledFuture<?> rotation;
+    private OpenSslSessionTicketKey[] keys;
+
+    /**
+     * @param sslConfiguration The server SSL configuration
+     * @param taskScheduler    The scheduler used for the rotation
+     */
+    SessionTicketKeyRotation(ServerSslConfiguration sslConfiguration, TaskScheduler taskScheduler) {
+        if (OpenSsl.isAvailable()) {
+            Duration interval = sslConfiguration.getSessionTicketKeyRotation().orElseThrow();
+            this.keys = new OpenSslSessionTicketKey[]{newKey()};
+            this.rotation = taskScheduler.scheduleAtFixedRate(interval, interval, this::rotate);
+        } else {
+            LOG.warn("Session ticket key rotation is configured, but OpenSSL is not available. Session ticket keys are managed by the TLS provider.");
+            this.rotation = null;
+        }
+    }
+
+    /**
+     * Install the current keys on the given context and keep them up to date until {@link #unregister} is called.
+     *
+     * @param sslContext The context, may be null
+     */
+    public synchronized void register(@Nullable SslContext sslContext) {
+        if (keys == null || sslContext == null) {
+            return;
+        }
+        if (sslContext.sessionContext() instanceof OpenSslSessionContext sessionContext) {
+            sessionContext.setTicketKeys(keys);
+            contexts.add(sessionContext);
+        } else if (LOG.isDebugEnabled()) {
+            LOG.debug("Session ticket key rotation is only supported by the OpenSSL provider");
+        }
+    }
+
+    /**
+     * Stop updating the keys of the given context. Must be called before the context is released.
+     *
+     * @param sslContext The context, may be null
+     */
+    public synchronized void unregister(@Nullable SslContext sslContext) {
+        if (sslContext != null && sslContext.sessionContext() instanceof OpenSslSessionContext sessionContext) {
+            contexts.remove(sessionContext);
+        }
+    }
+
+    /**
+     * Generate a new encryption key, keeping the previous one for decryption only.
+     */
+    synchronized void rotate() {
+        if (keys == null) {
+            return;
+        }
+        keys = new OpenSslSessionTicketKey[]{newKey(), keys[0]};
+        for (OpenSslSessionContext context : contexts) {
+            context.setTicketKeys(keys);
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Rotated session ticket keys of {} SSL context(s)", contexts.size());
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        if (rotation != null) {
+            rotation.cancel(false);
+        }
+    }
+
+    private OpenSslSessionTicketKey newKey() {
+        return new OpenSslSessionTicketKey(randomBytes(), randomBytes(), randomBytes());
+    }
+
+    private byte[] randomBytes() {
+        byte[] bytes = new byte[KEY_PART_LENGTH];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+}
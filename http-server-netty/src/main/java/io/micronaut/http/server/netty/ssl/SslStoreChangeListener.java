@@ -0,0 +1,89 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty.ssl;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.ApplicationEventListener;
+import io.micronaut.context.event.ApplicationEventPublisher;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.http.ssl.ServerSslConfiguration;
+import io.micronaut.http.ssl.SslConfiguration;
+import io.micronaut.runtime.context.scope.refresh.RefreshEvent;
+import io.micronaut.scheduling.io.watch.event.FileChangedEvent;
+import io.micronaut.scheduling.io.watch.event.WatchEventType;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Reloads the server certificates when the key store or trust store file changes. The change is published as a
+ * {@link RefreshEvent} for the store path, so {@link CertificateProvidedSslBuilder} drops its cached stores and the
+ * server builds a new {@link io.netty.handler.ssl.SslContext} for new connections. Existing connections keep
+ * using the context they were accepted with.
+ *
+ * @since 4.8.0
+ */
+@Internal
+@Singleton
+@Requires(condition = SslEnabledCondition.class)
+@Requires(property = ServerSslConfiguration.RELOAD_ON_CHANGE, value = StringUtils.TRUE, defaultValue = StringUtils.FALSE)
+final class SslStoreChangeListener implements ApplicationEventListener<FileChangedEvent> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SslStoreChangeListener.class);
+    private static final String FILE_PREFIX = "file:";
+
+    private final ServerSslConfiguration sslConfiguration;
+    private final ApplicationEventPublisher<RefreshEvent> refreshEventPublisher;
+
+    SslStoreChangeListener(ServerSslConfiguration sslConfiguration, ApplicationEventPublisher<RefreshEvent> refreshEventPublisher) {
+        this.sslConfiguration = sslConfiguration;
+        this.refreshEventPublisher = refreshEventPublisher;
+    }
+
+    @Override
+    public boolean supports(FileChangedEvent event) {
+        return event.getEventType() != WatchEventType.DELETE && (
+            isStore(event.getPath(), sslConfiguration.getKeyStore().getPath())
+                || isStore(event.getPath(), sslConfiguration.getTrustStore().getPath())
+        );
+    }
+
+    @Override
+    public void onApplicationEvent(FileChangedEvent event) {
+        if (LOG.isInfoEnabled()) {
+            LOG.info("SSL store {} changed, reloading certificates for new connections", event.getPath());
+        }
+        String key = isStore(event.getPath(), sslConfiguration.getKeyStore().getPath())
+            ? ServerSslConfiguration.PREFIX + "." + SslConfiguration.KeyStoreConfiguration.PREFIX + ".path"
+            : ServerSslConfiguration.PREFIX + "." + SslConfiguration.TrustStoreConfiguration.PREFIX + ".path";
+        refreshEventPublisher.publishEvent(new RefreshEvent(Map.of(key, event.getPath().toString())));
+    }
+
+    private static boolean isStore(Path changed, Optional<String> storePath) {
+        if (storePath.isEmpty() || !storePath.get().startsWith(FILE_PREFIX)) {
+            // only files on the file system can be watched
+            return false;
+        }
+        Path store = Paths.get(storePath.get().substring(FILE_PREFIX.length())).toAbsolutePath().normalize();
+        return store.equals(changed.toAbsolutePath().normalize());
+    }
+}
@@ -0,0 +1,90 @@
+package io.micronaut.http.server.netty
+
+import io.netty.buffer.ByteBufAllocator
+import io.netty.buffer.Unpooled
+import io.netty.channel.DefaultEventLoop
+import io.netty.channel.EventLoop
+import io.netty.handler.codec.http.DefaultHttpContent
+import io.netty.handler.codec.http.HttpContent
+import reactor.core.publisher.Flux
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+import java.time.Duration
+
+class SseCoalescerSpec extends Specification {
+    EventLoop eventLoop = new DefaultEventLoop()
+
+    def cleanup() {
+        eventLoop.shutdownGracefully()
+    }
+
+    def 'events within the window are passed on together'() {
+        given:
+        def coalescer = new SseCoalescer(events('a', 'b', 'c', 'd', 'e'), eventLoop, ByteBufAllocator.DEFAULT, Duration.ofHours(1), maxBytes, null)
+
+        expect:
+        collect(coalescer) == expected
+
+        where:
+        maxBytes | expected
+        100      | ['abcde']
+        2        | ['ab', 'cd', 'e']
+    }
+
+    def 'events are passed on after the window'() {
+        given:
+        def source = Flux.concat(events('a', 'b'), Flux.never())
+        def coalescer = new SseCoalescer(source, eventLoop, ByteBufAllocator.DEFAULT, Duration.ofMillis(10), 100, null)
+
+        expect:
+        Flux.from(coalescer).map { toString(it) }.blockFirst(Duration.ofSeconds(10)) == 'ab'
+    }
+
+    def 'every event is passed on without a window'() {
+        given:
+        def coalescer = new SseCoalescer(events('a', 'b', 'c'), eventLoop, ByteBufAllocator.DEFAULT, null, 100, Duration.ofHours(1))
+
+        expect:
+        collect(coalescer) == ['a', 'b', 'c']
+    }
+
+    def 'heartbeats are sent while the stream is idle'() {
+        given:
+        def coalescer = new SseCoalescer(Flux.never(), eventLoop, ByteBufAllocator.DEFAULT, null, 100, Duration.ofMillis(10))
+
+        expect:
+        Flux.from(coalescer).map { toString(it) }.take(2).collectList().block(Duration.ofSeconds(10)) == [':\n\n', ':\n\n']
+    }
+
+    def 'errors are forwarded after the held back events'() {
+        given:
+        def source = Flux.concat(events('a', 'b'), Flux.error(new IllegalStateException('foo')))
+        def coalescer = new SseCoalescer(source, eventLoop, ByteBufAllocator.DEFAULT, Duration.ofHours(1), 100, null)
+        List<String> received = []
+
+        when:
+        Flux.from(coalescer).doOnNext { received << toString(it) }.blockLast(Duration.ofSeconds(10))
+
+        then:
+        def e = thrown(IllegalStateException)
+        e.message == 'foo'
+        received == ['ab']
+    }
+
+    private static Flux<HttpContent> events(String... events) {
+        return Flux.fromArray(events).map { new DefaultHttpContent(Unpooled.copiedBuffer(it, StandardCharsets.UTF_8)) }
+    }
+
+    private static List<String> collect(SseCoalescer coalescer) {
+        return Flux.from(coalescer).map { toString(it) }.collectList().block(Duration.ofSeconds(10))
+    }
+
+    private static String toString(HttpContent content) {
+        try {
+            return content.content().toString(StandardCharsets.UTF_8)
+        } finally {
+            content.release()
+        }
+    }
+}
@@ -474,6 +474,28 @@ class NettyHttpServerConfigurationSpec extends Specification {
         beanContext.close()
     }
 
+    void "test netty server sse configuration"() {
+        given:
+        ApplicationContext beanContext = new DefaultApplicationContext("test")
+        beanContext.environment.addPropertySource(PropertySource.of("test",
+              ['micronaut.server.netty.sse.flush-window': '5ms',
+               'micronaut.server.netty.sse.flush-max-bytes': '16KB',
+               'micronaut.server.netty.sse.heartbeat-interval': '15s']
+        ))
+        beanContext.start()
+
+        when:
+        def sse = beanContext.getBean(NettyHttpServerConfiguration).sse
+
+        then:
+        sse.flushWindow == Duration.ofMillis(5)
+        sse.flushMaxBytes == 16 * 1024
+        sse.heartbeatInterval == Duration.ofSeconds(15)
+
+        cleanup:
+        beanContext.close()
+    }
+
     void "test configuring the parent through event-loops"() {
         given:
         ApplicationContext beanContext = new DefaultApplicationContext("test")
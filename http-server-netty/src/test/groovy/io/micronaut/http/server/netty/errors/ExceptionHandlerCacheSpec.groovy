@@ -0,0 +1,96 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty.errors
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpResponse
+import io.micronaut.http.server.RouteExecutor
+import io.micronaut.http.server.exceptions.ExceptionHandler
+import io.micronaut.inject.qualifiers.Qualifiers
+import jakarta.inject.Singleton
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+class ExceptionHandlerCacheSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext ctx = ApplicationContext.run(['spec.name': 'ExceptionHandlerCacheSpec'])
+
+    void "test the cached exception handler lookup equals a fresh lookup"() {
+        given:
+        RouteExecutor routeExecutor = ctx.getBean(RouteExecutor)
+
+        expect:
+        // twice, so that the second lookup is served from the cache
+        routeExecutor.findExceptionHandler(exception) == freshLookup(exception.class)
+        routeExecutor.findExceptionHandler(exception) == freshLookup(exception.class)
+
+        where:
+        exception << [new ParentException(), new ChildException(), new OtherException(), new IllegalStateException()]
+    }
+
+    void "test the cached exception handler lookup stays correct past the cache capacity"() {
+        given:
+        RouteExecutor routeExecutor = ctx.getBean(RouteExecutor)
+        GroovyClassLoader loader = new GroovyClassLoader(getClass().classLoader)
+        List<Class<?>> exceptionClasses = (0..<250).collect {
+            loader.parseClass("class GeneratedException$it extends ${ParentException.canonicalName} {}")
+        }
+
+        expect:
+        exceptionClasses.every { routeExecutor.findExceptionHandler(it.getDeclaredConstructor().newInstance() as Throwable) == freshLookup(it) }
+        exceptionClasses.every { routeExecutor.findExceptionHandler(it.getDeclaredConstructor().newInstance() as Throwable) == freshLookup(it) }
+        routeExecutor.findExceptionHandler(exceptionClasses[0].getDeclaredConstructor().newInstance() as Throwable).get().beanType == ParentExceptionHandler
+
+        cleanup:
+        loader.close()
+    }
+
+    private Optional<?> freshLookup(Class<?> exceptionClass) {
+        ctx.findBeanDefinition(ExceptionHandler, Qualifiers.byTypeArgumentsClosest(exceptionClass, Object))
+    }
+
+    static class ParentException extends RuntimeException {
+    }
+
+    static class ChildException extends ParentException {
+    }
+
+    static class OtherException extends RuntimeException {
+    }
+
+    @Singleton
+    @Requires(property = 'spec.name', value = 'ExceptionHandlerCacheSpec')
+    static class ParentExceptionHandler implements ExceptionHandler<ParentException, HttpResponse<?>> {
+        @Override
+        HttpResponse<?> handle(HttpRequest request, ParentException exception) {
+            HttpResponse.badRequest()
+        }
+    }
+
+    @Singleton
+    @Requires(property = 'spec.name', value = 'ExceptionHandlerCacheSpec')
+    static class OtherExceptionHandler implements ExceptionHandler<OtherException, HttpResponse<?>> {
+        @Override
+        HttpResponse<?> handle(HttpRequest request, OtherException exception) {
+            HttpResponse.serverError()
+        }
+    }
+}
@@ -42,6 +42,7 @@ import io.netty.handler.codec.http2.Http2HeadersFrame
 import io.netty.handler.codec.http2.Http2PingFrame
 import io.netty.handler.codec.http2.Http2ResetFrame
 import io.netty.handler.codec.http2.Http2SettingsAckFrame
+import io.netty.handler.codec.http2.Http2Settings
 import io.netty.handler.codec.http2.Http2SettingsFrame
 import io.netty.handler.codec.http2.Http2StreamFrame
 import io.netty.util.AsciiString
@@ -50,6 +51,7 @@ import org.reactivestreams.Publisher
 import org.reactivestreams.Subscriber
 import org.reactivestreams.Subscription
 import spock.lang.Specification
+import spock.lang.Unroll
 import spock.util.concurrent.PollingConditions
 
 import java.nio.channels.ClosedChannelException
@@ -821,4 +823,129 @@ class Http2ServerHandlerSpec extends Specification {
         server.finishAndReleaseAll()
         EmbeddedTestUtil.advance(client, server)
     }
+
+    private static class StreamCounter extends Http2ChannelDuplexHandler {
+        Map<Integer, Integer> received = [:]
+        Set<Integer> complete = []
+
+        @Override
+        void channelRead(@NonNull ChannelHandlerContext ctx, @NonNull Object msg) throws Exception {
+            if (msg instanceof Http2DataFrame) {
+                received.merge(msg.stream().id(), msg.content().readableBytes(), Integer::sum)
+                if (msg.isEndStream()) {
+                    complete.add(msg.stream().id())
+                }
+                msg.release()
+            } else {
+                ctx.fireChannelRead(msg)
+            }
+        }
+    }
+
+    @Unroll
+    def "urgent stream is not starved by a large response (priorityHeader=#priorityHeader, allocationQuantum=#allocationQuantum)"() {
+        given:
+        EmbeddedChannel server = new EmbeddedChannel()
+        EmbeddedChannel client = new EmbeddedChannel()
+        EmbeddedTestUtil.connect(server, client)
+        server.pipeline().addLast(new Http2ServerHandler.ConnectionHandlerBuilder(new RequestHandler() {
+            @Override
+            void accept(ChannelHandlerContext ctx, HttpRequest request, CloseableByteBody body, OutboundAccess outboundAccess) {
+                body.close()
+                int size = request.uri() == "/large" ? 200000 : 24576
+                outboundAccess.write(new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK), new AvailableNettyByteBody(randomData(size)))
+            }
+
+            @Override
+            void handleUnboundError(Throwable cause) {
+                cause.printStackTrace()
+            }
+        })
+                .priorityHeader(priorityHeader)
+                .allocationQuantum(allocationQuantum)
+                .build())
+        def counter = new StreamCounter()
+        // large stream windows, so only the connection window limits the response data
+        client.pipeline().addLast(Http2FrameCodecBuilder.forClient()
+                .initialSettings(Http2Settings.defaultSettings().initialWindowSize(1 << 20))
+                .build(), counter)
+
+        when: "a low urgency request exhausts the connection window"
+        def large = counter.newStream()
+        def largeRequest = new DefaultHttp2Headers()
+        largeRequest.method(HttpMethod.GET.asciiName())
+        largeRequest.scheme("http")
+        largeRequest.authority("yawk.at")
+        largeRequest.path("/large")
+        largeRequest.set("priority", "u=7")
+        client.writeOutbound(new DefaultHttp2HeadersFrame(largeRequest, true).stream(large))
+        EmbeddedTestUtil.advance(server, client)
+        then:
+        counter.received[large.id()] == Http2CodecUtil.DEFAULT_WINDOW_SIZE
+
+        when: "an urgent request arrives while the large response is pending"
+        def small = counter.newStream()
+        def smallRequest = new DefaultHttp2Headers()
+        smallRequest.method(HttpMethod.GET.asciiName())
+        smallRequest.scheme("http")
+        smallRequest.authority("yawk.at")
+        smallRequest.path("/small")
+        smallRequest.set("priority", "u=0")
+        client.writeOutbound(new DefaultHttp2HeadersFrame(smallRequest, true).stream(small))
+        EmbeddedTestUtil.advance(server, client)
+        then: "it has to wait for the connection window"
+        counter.received[small.id()] == null
+
+        when: "the client consumes data, opening the connection window by 40000 bytes"
+        client.writeOutbound(new DefaultHttp2WindowUpdateFrame(40000).stream(large))
+        EmbeddedTestUtil.advance(server, client)
+        then: "the window is shared between the streams according to their weights"
+        counter.received[large.id()] + (counter.received[small.id()] ?: 0) == Http2CodecUtil.DEFAULT_WINDOW_SIZE + 40000
+        counter.complete.contains(small.id()) == smallComplete
+        !counter.complete.contains(large.id())
+
+        cleanup:
+        client.checkException()
+        server.checkException()
+        client.finishAndReleaseAll()
+        server.finishAndReleaseAll()
+        EmbeddedTestUtil.advance(client, server)
+
+        where:
+        priorityHeader | allocationQuantum | smallComplete
+        false          | null              | false
+        true           | null              | true
+        true           | 256               | true
+    }
+
+    def "priority header urgency"() {
+        expect:
+        Http2ServerHandler.parseUrgency(header) == urgency
+
+        where:
+        header        | urgency
+        "u=0"         | 0
+        "u=7"         | 7
+        "u=1, i"      | 1
+        "i, u=5"      | 5
+        "i"           | 3
+        ""            | 3
+        "u=8"         | 3
+        "u=10"        | 3
+        "foo=1, u=2"  | 2
+    }
+
+    def "urgency weight"() {
+        expect:
+        Http2ServerHandler.urgencyWeight(urgency) == weight
+
+        where:
+        urgency | weight
+        0       | 128
+        1       | 64
+        2       | 32
+        3       | 16
+        4       | 8
+        7       | 1
+    }
 }
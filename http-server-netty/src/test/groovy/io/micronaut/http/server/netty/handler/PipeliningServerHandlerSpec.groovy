@@ -1,12 +1,15 @@
 package io.micronaut.http.server.netty.handler
 
+import io.micronaut.buffer.netty.NettyByteBufferFactory
 import io.micronaut.core.io.buffer.ByteBuffer
 import io.micronaut.http.body.AvailableByteBody
 import io.micronaut.http.body.ByteBody
 import io.micronaut.http.body.CloseableAvailableByteBody
 import io.micronaut.http.body.CloseableByteBody
+import io.micronaut.http.body.stream.InputStreamByteBody
 import io.micronaut.http.netty.body.AvailableNettyByteBody
 import io.micronaut.http.netty.body.NettyBodyAdapter
+import io.micronaut.http.server.netty.body.FileByteBody
 import io.netty.buffer.ByteBuf
 import io.netty.buffer.CompositeByteBuf
 import io.netty.buffer.Unpooled
@@ -14,6 +17,7 @@ import io.netty.channel.ChannelHandler
 import io.netty.channel.ChannelHandlerContext
 import io.netty.channel.ChannelOutboundHandlerAdapter
 import io.netty.channel.ChannelPromise
+import io.netty.channel.DefaultFileRegion
 import io.netty.channel.embedded.EmbeddedChannel
 import io.netty.handler.codec.compression.SnappyFrameEncoder
 import io.netty.handler.codec.compression.ZlibCodecFactory
@@ -27,14 +31,17 @@ import io.netty.handler.codec.http.DefaultLastHttpContent
 import io.netty.handler.codec.http.EmptyHttpHeaders
 import io.netty.handler.codec.http.FullHttpRequest
 import io.netty.handler.codec.http.FullHttpResponse
+import io.netty.handler.codec.http.HttpContent
 import io.netty.handler.codec.http.HttpHeaderNames
 import io.netty.handler.codec.http.HttpHeaderValues
 import io.netty.handler.codec.http.HttpMethod
 import io.netty.handler.codec.http.HttpRequest
 import io.netty.handler.codec.http.HttpResponse
 import io.netty.handler.codec.http.HttpResponseStatus
+import io.netty.handler.codec.http.HttpServerCodec
 import io.netty.handler.codec.http.HttpVersion
 import io.netty.handler.codec.http.LastHttpContent
+import io.netty.util.ReferenceCountUtil
 import org.reactivestreams.Subscriber
 import org.reactivestreams.Subscription
 import reactor.core.publisher.Flux
@@ -43,6 +50,7 @@ import spock.lang.Issue
 import spock.lang.Specification
 
 import java.nio.charset.StandardCharsets
+import java.util.concurrent.Executor
 import java.util.concurrent.ThreadLocalRandom
 
 class PipeliningServerHandlerSpec extends Specification {
@@ -90,6 +98,59 @@ class PipeliningServerHandlerSpec extends Specification {
         ch.checkException()
     }
 
+    def 'pipelined responses completed outside of a read share a flush'() {
+        given:
+        def mon = new MonitorHandler()
+        def resp = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.NO_CONTENT)
+        List<OutboundAccess> pending = []
+        def ch = new EmbeddedChannel(mon, new PipeliningServerHandler(new RequestHandler() {
+            @Override
+            void accept(ChannelHandlerContext ctx, HttpRequest request, CloseableByteBody body, OutboundAccess outboundAccess) {
+                body.close()
+                pending.add(outboundAccess)
+            }
+
+            @Override
+            void handleUnboundError(Throwable cause) {
+                cause.printStackTrace()
+            }
+        }))
+
+        when:
+        ch.writeOneInbound(new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/"))
+        ch.writeOneInbound(new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/"))
+        ch.writeOneInbound(new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/"))
+        ch.flushInbound()
+        then:
+        pending.size() == 3
+        mon.flush == 0
+
+        when:"the later responses are ready before the first"
+        pending[2].write(resp, AvailableNettyByteBody.empty())
+        pending[1].write(resp, AvailableNettyByteBody.empty())
+        then:
+        mon.flush == 0
+        ch.readOutbound() == null
+
+        when:
+        pending[0].write(resp, AvailableNettyByteBody.empty())
+        then:"they are written in order, with one flush"
+        mon.flush == 1
+        ch.readOutbound() == toFull(resp)
+        ch.readOutbound() == toFull(resp)
+        ch.readOutbound() == toFull(resp)
+        ch.readOutbound() == null
+
+        when:"a lone response is not delayed"
+        ch.writeInbound(new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/"))
+        pending[3].write(resp, AvailableNettyByteBody.empty())
+        then:
+        mon.flush == 2
+        ch.readOutbound() == toFull(resp)
+        ch.readOutbound() == null
+        ch.checkException()
+    }
+
     def 'streaming responses flush after every item'() {
         given:
         def mon = new MonitorHandler()
@@ -644,6 +705,109 @@ class PipeliningServerHandlerSpec extends Specification {
         ch.checkException()
     }
 
+    def 'file bodies are written as file regions on plaintext http/1.1'(boolean fileRegionEnabled) {
+        given:
+        def file = File.createTempFile('pipelining', '.txt')
+        file.text = 'foobarbaz'
+        def handler = new PipeliningServerHandler(new RequestHandler() {
+            @Override
+            void accept(ChannelHandlerContext ctx, HttpRequest request, CloseableByteBody body, OutboundAccess outboundAccess) {
+                body.close()
+                outboundAccess.write(new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK), fileBody(file, 3))
+            }
+
+            @Override
+            void handleUnboundError(Throwable cause) {
+                cause.printStackTrace()
+            }
+        })
+        handler.fileRegionEnabled = fileRegionEnabled
+        def ch = new EmbeddedChannel(new HttpServerCodec(), handler)
+
+        when:
+        ch.writeInbound(Unpooled.copiedBuffer('GET / HTTP/1.1\r\nHost: example.com\r\n\r\n', StandardCharsets.UTF_8))
+        ch.runPendingTasks()
+        List<Object> outbound = []
+        while (true) {
+            def msg = ch.readOutbound()
+            if (msg == null) {
+                break
+            }
+            outbound.add(msg)
+        }
+        def regions = outbound.findAll { it instanceof DefaultFileRegion }
+        def head = ((ByteBuf) outbound[0]).toString(StandardCharsets.UTF_8)
+        def content = outbound.drop(1).findAll { it instanceof ByteBuf }.collect { ((ByteBuf) it).toString(StandardCharsets.UTF_8) }.join('')
+
+        then:
+        head.startsWith('HTTP/1.1 200 OK\r\n')
+        head.toLowerCase().contains('content-length: 6\r\n')
+        if (fileRegionEnabled) {
+            assert regions.size() == 1
+            assert regions[0].position() == 3
+            assert regions[0].count() == 6
+        } else {
+            assert regions.isEmpty()
+            assert content == 'barbaz'
+        }
+
+        cleanup:
+        outbound.each { ReferenceCountUtil.release(it) }
+        ch.finishAndReleaseAll()
+        file.delete()
+
+        where:
+        fileRegionEnabled << [true, false]
+    }
+
+    def 'file bodies are streamed without the http/1.1 codec'() {
+        given:
+        def file = File.createTempFile('pipelining', '.txt')
+        file.text = 'foobarbaz'
+        def ch = new EmbeddedChannel(new PipeliningServerHandler(new RequestHandler() {
+            @Override
+            void accept(ChannelHandlerContext ctx, HttpRequest request, CloseableByteBody body, OutboundAccess outboundAccess) {
+                body.close()
+                outboundAccess.write(new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK), fileBody(file, 3))
+            }
+
+            @Override
+            void handleUnboundError(Throwable cause) {
+                cause.printStackTrace()
+            }
+        }))
+
+        when:
+        ch.writeInbound(new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/"))
+        ch.runPendingTasks()
+        HttpResponse response = ch.readOutbound()
+        def content = new StringBuilder()
+        while (true) {
+            HttpContent c = ch.readOutbound()
+            content.append(c.content().toString(StandardCharsets.UTF_8))
+            c.release()
+            if (c instanceof LastHttpContent) {
+                break
+            }
+        }
+
+        then:
+        response.headers().get(HttpHeaderNames.CONTENT_LENGTH) == '6'
+        content.toString() == 'barbaz'
+
+        cleanup:
+        ch.finishAndReleaseAll()
+        file.delete()
+    }
+
+    private static FileByteBody fileBody(File file, long position) {
+        long length = file.length() - position
+        def stream = new FileInputStream(file)
+        stream.skipNBytes(position)
+        def delegate = InputStreamByteBody.create(stream, OptionalLong.of(length), { Runnable r -> r.run() } as Executor, NettyByteBufferFactory.DEFAULT)
+        return new FileByteBody(file, position, length, delegate)
+    }
+
     static class MonitorHandler extends ChannelOutboundHandlerAdapter {
         int flush = 0
         int read = 0
@@ -1,27 +1,47 @@
 package io.micronaut.http.server.netty.ssl
 
 import io.micronaut.context.ApplicationContext
+import io.micronaut.context.event.ApplicationEventPublisher
 import io.micronaut.core.annotation.NonNull
 import io.micronaut.runtime.server.EmbeddedServer
+import io.micronaut.scheduling.io.watch.event.FileChangedEvent
+import io.micronaut.scheduling.io.watch.event.WatchEventType
 import io.netty.bootstrap.Bootstrap
+import io.netty.channel.Channel
 import io.netty.channel.ChannelHandlerContext
 import io.netty.channel.ChannelInitializer
 import io.netty.channel.ChannelOption
+import io.netty.channel.EventLoopGroup
 import io.netty.channel.nio.NioEventLoopGroup
 import io.netty.channel.socket.SocketChannel
 import io.netty.channel.socket.nio.NioSocketChannel
 import io.netty.handler.codec.http2.Http2SecurityUtil
 import io.netty.handler.ssl.ApplicationProtocolConfig
 import io.netty.handler.ssl.ApplicationProtocolNegotiationHandler
+import io.netty.handler.ssl.OpenSsl
+import io.netty.handler.ssl.ReferenceCountedOpenSslEngine
+import io.netty.handler.ssl.SslContext
 import io.netty.handler.ssl.SslContextBuilder
+import io.netty.handler.ssl.SslProvider
 import io.netty.handler.ssl.SupportedCipherSuiteFilter
 import io.netty.handler.ssl.util.InsecureTrustManagerFactory
+import io.netty.handler.ssl.util.SelfSignedCertificate
+import io.netty.util.ReferenceCountUtil
+import io.netty.util.concurrent.Future
+import io.netty.util.concurrent.GenericFutureListener
+import spock.lang.IgnoreIf
 import spock.lang.Specification
 
 import javax.net.ssl.SSLContext
+import javax.net.ssl.SSLEngine
 import javax.net.ssl.SSLParameters
 import javax.net.ssl.SSLSocket
+import java.nio.file.Files
+import java.nio.file.Path
+import java.security.KeyStore
+import java.security.cert.Certificate
 import java.util.concurrent.CompletableFuture
+import java.util.concurrent.TimeUnit
 
 class SslServerSpec extends Specification {
     def 'unsupported alpn protocol'() {
@@ -117,4 +137,163 @@ class SslServerSpec extends Specification {
         embeddedServer.close()
 
     }
+
+    def 'session cache settings are applied'() {
+        given:
+        def app = ApplicationContext.run([
+                "micronaut.ssl.enabled": true,
+                "micronaut.server.ssl.buildSelfSigned": true,
+                "micronaut.server.ssl.port": -1,
+                "micronaut.server.ssl.session-cache-size": 42,
+                "micronaut.server.ssl.session-timeout": '5m',
+        ])
+
+        when:
+        def sslContext = app.getBean(ServerSslBuilder).build().get()
+
+        then:
+        sslContext.sessionCacheSize() == 42
+        sslContext.sessionTimeout() == 300
+
+        cleanup:
+        ReferenceCountUtil.release(sslContext)
+        app.close()
+    }
+
+    @IgnoreIf({ !OpenSsl.isAvailable() })
+    def 'session ticket keys are rotated'() {
+        given:
+        def app = ApplicationContext.run([
+                "micronaut.ssl.enabled": true,
+                "micronaut.server.ssl.buildSelfSigned": true,
+                "micronaut.server.ssl.port": -1,
+                "micronaut.server.ssl.session-ticket-key-rotation": '1h',
+        ])
+        def embeddedServer = app.getBean(EmbeddedServer)
+        embeddedServer.start()
+        def rotation = app.getBean(SessionTicketKeyRotation)
+        def group = new NioEventLoopGroup(1)
+        // TLS 1.2 so that the ticket is part of the handshake, and the client caches it right away
+        def clientContext = SslContextBuilder.forClient()
+                .sslProvider(SslProvider.OPENSSL)
+                .protocols('TLSv1.2')
+                .trustManager(InsecureTrustManagerFactory.INSTANCE)
+                .build()
+        def sessionReused = { SSLEngine engine -> ((ReferenceCountedOpenSslEngine) engine).isSessionReused() }
+
+        expect: 'the ticket of the first connection resumes the second'
+        !handshake(group, embeddedServer, clientContext, sessionReused)
+        handshake(group, embeddedServer, clientContext, sessionReused)
+
+        when: 'the keys are rotated once'
+        rotation.rotate()
+
+        then: 'the ticket is still accepted with the previous key'
+        handshake(group, embeddedServer, clientContext, sessionReused)
+
+        when: 'the keys are rotated until the keys of every issued ticket are gone'
+        rotation.rotate()
+        rotation.rotate()
+
+        then: 'the ticket is rejected and a full handshake is done'
+        !handshake(group, embeddedServer, clientContext, sessionReused)
+
+        cleanup:
+        ReferenceCountUtil.release(clientContext)
+        group.shutdownGracefully()
+        app.close()
+    }
+
+    def 'a new key store is used for new connections when the file changes'() {
+        given:
+        def keyStorePath = Files.createTempFile("micronaut-test-key-store", "pkcs12")
+        def first = new SelfSignedCertificate()
+        def second = new SelfSignedCertificate()
+        writeKeyStore(keyStorePath, first)
+        def app = ApplicationContext.run([
+                "micronaut.server.ssl.enabled": true,
+                "micronaut.server.ssl.port": -1,
+                "micronaut.server.ssl.buildSelfSigned": false,
+                "micronaut.server.ssl.reload-on-change": true,
+                "micronaut.server.ssl.key-store.path": 'file:' + keyStorePath.toString(),
+                "micronaut.server.ssl.key-store.type": 'PKCS12',
+                "micronaut.server.ssl.key-store.password": '',
+        ])
+        def embeddedServer = app.getBean(EmbeddedServer)
+        embeddedServer.start()
+        def group = new NioEventLoopGroup(1)
+        // a new client context for every connection, so that no session is resumed
+        def connect = {
+            def clientContext = SslContextBuilder.forClient()
+                    .trustManager(InsecureTrustManagerFactory.INSTANCE)
+                    .build()
+            try {
+                return handshake(group, embeddedServer, clientContext, { SSLEngine engine -> engine.session.peerCertificates[0].encoded })
+            } finally {
+                ReferenceCountUtil.release(clientContext)
+            }
+        }
+
+        expect:
+        connect() == first.cert().encoded
+
+        when:
+        writeKeyStore(keyStorePath, second)
+        app.getBean(ApplicationEventPublisher).publishEvent(new FileChangedEvent(keyStorePath, WatchEventType.MODIFY))
+
+        then:
+        connect() == second.cert().encoded
+
+        cleanup:
+        group.shutdownGracefully()
+        app.close()
+        first.delete()
+        second.delete()
+        Files.deleteIfExists(keyStorePath)
+    }
+
+    private static void writeKeyStore(Path path, SelfSignedCertificate certificate) {
+        KeyStore ks = KeyStore.getInstance("PKCS12")
+        ks.load(null, null)
+        ks.setKeyEntry("key", certificate.key(), "".toCharArray(), new Certificate[]{certificate.cert()})
+        try (OutputStream os = Files.newOutputStream(path)) {
+            ks.store(os, "".toCharArray())
+        }
+    }
+
+    /**
+     * Open a new connection, and inspect its engine once the handshake is complete.
+     */
+    private static <T> T handshake(EventLoopGroup group, EmbeddedServer embeddedServer, SslContext clientContext, Closure<T> inspect) {
+        def result = new CompletableFuture<T>()
+        def channel = new Bootstrap()
+                .group(group)
+                .channel(NioSocketChannel.class)
+                .handler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(@NonNull SocketChannel ch) throws Exception {
+                        def sslHandler = clientContext.newHandler(ch.alloc(), embeddedServer.host, embeddedServer.port)
+                        sslHandler.handshakeFuture().addListener(new GenericFutureListener<Future<Channel>>() {
+                            @Override
+                            void operationComplete(Future<Channel> future) throws Exception {
+                                if (future.isSuccess()) {
+                                    result.complete(inspect(sslHandler.engine()))
+                                } else {
+                                    result.completeExceptionally(future.cause())
+                                }
+                            }
+                        })
+                        ch.pipeline().addLast(sslHandler)
+                    }
+                })
+                .connect(embeddedServer.host, embeddedServer.port)
+                .sync()
+                .channel()
+        try {
+            return result.get(10, TimeUnit.SECONDS)
+        } finally {
+            // closing through the SslHandler sends close_notify, so the client keeps the session
+            channel.close().sync()
+        }
+    }
 }
@@ -41,7 +41,6 @@ import io.micronaut.http.server.exceptions.response.ErrorContext;
 import io.micronaut.http.server.types.files.FileCustomizableResponseType;
 import io.micronaut.inject.BeanDefinition;
 import io.micronaut.inject.ExecutableMethod;
-import io.micronaut.inject.qualifiers.Qualifiers;
 import io.micronaut.json.JsonSyntaxException;
 import io.micronaut.web.router.DefaultRouteInfo;
 import io.micronaut.web.router.DefaultUriRouteMatch;
@@ -242,7 +241,7 @@ public class RequestLifecycle {
         if (errorRoute != null) {
             return handleErrorRoute(request, propagatedContext, errorRoute, cause);
         } else {
-            Optional<BeanDefinition<ExceptionHandler>> optionalDefinition = routeExecutor.beanContext.findBeanDefinition(ExceptionHandler.class, Qualifiers.byTypeArgumentsClosest(cause.getClass(), Object.class));
+            Optional<BeanDefinition<ExceptionHandler>> optionalDefinition = routeExecutor.findExceptionHandler(cause);
             if (optionalDefinition.isPresent()) {
                 BeanDefinition<ExceptionHandler> handlerDefinition = optionalDefinition.get();
                 return handlerExceptionHandler(request, propagatedContext, handlerDefinition, cause);
@@ -621,7 +620,7 @@ public class RequestLifecycle {
             @NonNull HttpRequest<?> request,
             @NonNull HttpStatusException cause,
             @NonNull PropagatedContext propagatedContext) {
-        return routeExecutor.beanContext.findBeanDefinition(ExceptionHandler.class, Qualifiers.byTypeArgumentsClosest(cause.getClass(), Object.class))
+        return routeExecutor.findExceptionHandler(cause)
                 .map(handlerDefinition -> handlerExceptionHandler(request, propagatedContext, handlerDefinition, cause))
                 .orElse(null);
     }
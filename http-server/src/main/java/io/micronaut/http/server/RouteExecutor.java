@@ -16,6 +16,7 @@
 package io.micronaut.http.server;
 
 import io.micronaut.context.BeanContext;
+import io.micronaut.context.event.ApplicationEventListener;
 import io.micronaut.context.exceptions.BeanCreationException;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
@@ -30,6 +31,7 @@ import io.micronaut.core.io.buffer.ReferenceCounted;
 import io.micronaut.core.propagation.PropagatedContext;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.type.ReturnType;
+import io.micronaut.core.util.clhm.ConcurrentLinkedHashMap;
 import io.micronaut.http.HttpAttributes;
 import io.micronaut.http.HttpHeaders;
 import io.micronaut.http.HttpMethod;
@@ -47,10 +49,14 @@ import io.micronaut.http.context.ServerRequestContext;
 import io.micronaut.http.exceptions.HttpStatusException;
 import io.micronaut.http.reactive.execution.ReactiveExecutionFlow;
 import io.micronaut.http.server.binding.RequestArgumentSatisfier;
+import io.micronaut.http.server.exceptions.ExceptionHandler;
 import io.micronaut.http.server.exceptions.response.ErrorContext;
 import io.micronaut.http.server.exceptions.response.ErrorResponseProcessor;
+import io.micronaut.inject.BeanDefinition;
 import io.micronaut.inject.BeanType;
 import io.micronaut.inject.MethodReference;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.runtime.context.scope.refresh.RefreshEvent;
 import io.micronaut.scheduling.executor.ExecutorSelector;
 import io.micronaut.scheduling.instrument.InstrumentedExecutorService;
 import io.micronaut.scheduling.instrument.InstrumentedScheduledExecutorService;
@@ -75,6 +81,7 @@ import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
@@ -94,7 +101,7 @@ import static io.micronaut.inject.beans.KotlinExecutableMethodUtils.isKotlinFunc
  * @since 3.0.0
  */
 @Singleton
-public final class RouteExecutor {
+public final class RouteExecutor implements ApplicationEventListener<RefreshEvent> {
 
     private static final Logger LOG = LoggerFactory.getLogger(RouteExecutor.class);
     /**
@@ -102,6 +109,7 @@ public final class RouteExecutor {
      */
     private static final Pattern IGNORABLE_ERROR_MESSAGE = Pattern.compile(
         "^.*(?:connection (?:reset|closed|abort|broken)|broken pipe).*$", Pattern.CASE_INSENSITIVE);
+    private static final long EXCEPTION_HANDLER_CACHE_MAX_SIZE = 100;
 
     final Router router;
     final BeanContext beanContext;
@@ -111,6 +119,13 @@ public final class RouteExecutor {
     private final ExecutorSelector executorSelector;
     private final Optional<CoroutineHelper> coroutineHelper;
     private final ConversionService conversionService;
+    /**
+     * The closest {@link ExceptionHandler} for each exception class, resolved on first use. The cache is bounded
+     * because the exception classes come from the application and its libraries, not from the handler definitions.
+     */
+    @SuppressWarnings("rawtypes")
+    private final Map<Class<?>, Optional<BeanDefinition<ExceptionHandler>>> exceptionHandlers =
+        new ConcurrentLinkedHashMap.Builder<Class<?>, Optional<BeanDefinition<ExceptionHandler>>>().maximumWeightedCapacity(EXCEPTION_HANDLER_CACHE_MAX_SIZE).build();
 
     /**
      * Default constructor.
@@ -342,6 +357,26 @@ public final class RouteExecutor {
         return errorRoute;
     }
 
+    /**
+     * Find the {@link ExceptionHandler} closest to the type of the given exception. The lookup ranks all the
+     * exception handler definitions, so the result is cached per exception class
+     * (for a bounded number of classes) until the context is refreshed.
+     *
+     * @param cause The exception
+     * @return The exception handler definition, if any
+     */
+    @SuppressWarnings("rawtypes")
+    Optional<BeanDefinition<ExceptionHandler>> findExceptionHandler(Throwable cause) {
+        return exceptionHandlers.computeIfAbsent(cause.getClass(), exceptionClass ->
+            beanContext.findBeanDefinition(ExceptionHandler.class, Qualifiers.byTypeArgumentsClosest(exceptionClass, Object.class))
+        );
+    }
+
+    @Override
+    public void onApplicationEvent(RefreshEvent event) {
+        exceptionHandlers.clear();
+    }
+
     RouteMatch<Object> findStatusRoute(HttpRequest<?> incomingRequest, int status, RouteInfo<?> finalRoute) {
         Class<?> declaringType = finalRoute.getDeclaringType();
         // handle re-mapping of errors
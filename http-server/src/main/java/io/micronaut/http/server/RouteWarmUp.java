@@ -0,0 +1,128 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.ApplicationEventListener;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.http.bind.RequestBinderRegistry;
+import io.micronaut.runtime.server.event.ServerStartupEvent;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.web.router.MethodBasedRouteInfo;
+import io.micronaut.web.router.Router;
+import io.micronaut.web.router.UriRouteInfo;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Prepares the routes of the server for their first request once the server has started. The request argument
+ * binders of each route are resolved and stored on the route. A route that reads its whole body into the body
+ * argument also gets its body reader replaced with one specialized for the body type, which makes codecs such as
+ * Jackson build their deserializers ahead of time. Response body writers are already specialized when the route
+ * is created.
+ *
+ * <p>The warm-up runs on the {@link TaskExecutors#BLOCKING} executor and does not delay the startup of the server,
+ * {@link #isComplete()} tells whether it has finished.</p>
+ *
+ * @since 4.8.0
+ */
+@Singleton
+@Requires(property = RouteWarmUp.ENABLED, value = StringUtils.TRUE, defaultValue = StringUtils.FALSE)
+public final class RouteWarmUp implements ApplicationEventListener<ServerStartupEvent> {
+
+    /**
+     * The property used to enable the route warm-up.
+     */
+    public static final String ENABLED = HttpServerConfiguration.PREFIX + ".warm-up.enabled";
+
+    private static final Logger LOG = LoggerFactory.getLogger(RouteWarmUp.class);
+
+    private final Router router;
+    private final RequestBinderRegistry requestBinderRegistry;
+    private final ExecutorService executorService;
+    private final AtomicBoolean started = new AtomicBoolean();
+    private volatile boolean complete;
+    private volatile int routeCount;
+
+    /**
+     * @param router                The router
+     * @param requestBinderRegistry The request binder registry
+     * @param executorService       The executor running the warm-up
+     */
+    RouteWarmUp(Router router,
+                RequestBinderRegistry requestBinderRegistry,
+                @Named(TaskExecutors.BLOCKING) ExecutorService executorService) {
+        this.router = router;
+        this.requestBinderRegistry = requestBinderRegistry;
+        this.executorService = executorService;
+    }
+
+    /**
+     * @return Whether all routes have been warmed up
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * @return The number of routes that have been warmed up
+     */
+    public int getRouteCount() {
+        return routeCount;
+    }
+
+    @Override
+    public void onApplicationEvent(ServerStartupEvent event) {
+        if (started.compareAndSet(false, true)) {
+            executorService.execute(this::warmUp);
+        }
+    }
+
+    private void warmUp() {
+        long start = System.nanoTime();
+        int count = 0;
+        try {
+            Iterator<UriRouteInfo<?, ?>> routes = router.uriRoutes().iterator();
+            while (routes.hasNext()) {
+                UriRouteInfo<?, ?> route = routes.next();
+                try {
+                    warmUp(route);
+                } catch (Exception e) {
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("Failed to warm up route {}: {}", route, e.getMessage(), e);
+                    }
+                }
+                routeCount = ++count;
+            }
+        } finally {
+            complete = true;
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Warmed up {} routes in {}ms", count, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    private void warmUp(MethodBasedRouteInfo<?, ?> route) {
+        route.resolveArgumentBinders(requestBinderRegistry);
+        route.specializeMessageBodyReader();
+    }
+}
@@ -25,6 +25,7 @@ import io.micronaut.core.naming.NameUtils;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.ArrayUtils;
 import io.micronaut.core.util.StringUtils;
+import io.micronaut.core.util.clhm.ConcurrentLinkedHashMap;
 import io.micronaut.core.value.OptionalValues;
 import io.micronaut.http.annotation.Produces;
 import org.slf4j.Logger;
@@ -779,6 +780,19 @@ public class MediaType implements CharSequence, Comparable<MediaType> {
     private static final char SEMICOLON = ';';
     private static final String WILDCARD = "*";
 
+    /**
+     * The maximum number of distinct header values that are interned.
+     */
+    private static final int INTERN_CACHE_SIZE = 256;
+    /**
+     * Longer header values are parsed every time so that unusual headers can't occupy the cache.
+     */
+    private static final int INTERN_MAX_LENGTH = 256;
+    private static final Map<String, MediaType> PARSED_CACHE =
+        new ConcurrentLinkedHashMap.Builder<String, MediaType>().maximumWeightedCapacity(INTERN_CACHE_SIZE).build();
+    private static final Map<String, List<MediaType>> ORDERED_CACHE =
+        new ConcurrentLinkedHashMap.Builder<String, List<MediaType>>().maximumWeightedCapacity(INTERN_CACHE_SIZE).build();
+
     @SuppressWarnings("ConstantName")
     private static final String MIME_TYPES_FILE_NAME = "META-INF/http/mime.types";
     private static Map<String, String> mediaTypeFileExtensions;
@@ -980,10 +994,29 @@ public class MediaType implements CharSequence, Comparable<MediaType> {
             case IMAGE_GIF -> IMAGE_GIF_TYPE;
             case IMAGE_WEBP -> IMAGE_WEBP_TYPE;
             case IMAGE_WMF -> IMAGE_WMF_TYPE;
-            default -> new MediaType(mediaType);
+            default -> intern(mediaType);
         };
     }
 
+    /**
+     * Parse a media type that is not one of the constants. Browsers and HTTP clients send only a handful of
+     * distinct values (usually with parameters such as the charset), so the parsed instances are shared.
+     *
+     * @param mediaType The text
+     * @return The {@link MediaType}
+     */
+    private static MediaType intern(String mediaType) {
+        if (mediaType.length() > INTERN_MAX_LENGTH) {
+            return new MediaType(mediaType);
+        }
+        MediaType cached = PARSED_CACHE.get(mediaType);
+        if (cached == null) {
+            cached = new MediaType(mediaType);
+            PARSED_CACHE.put(mediaType, cached);
+        }
+        return cached;
+    }
+
     /**
      * Determine if this requested content type can be satisfied by a given content type. e.g. text/* will be satisfied by test/html.
      *
@@ -1260,9 +1293,20 @@ public class MediaType implements CharSequence, Comparable<MediaType> {
                     return List.of(MediaType.of(singleHeader));
                 } catch (IllegalArgumentException ignored) {
                 }
+            } else if (singleHeader.length() <= INTERN_MAX_LENGTH) {
+                // a typical Accept header, parsed and sorted once per distinct value
+                List<MediaType> cached = ORDERED_CACHE.get(singleHeader);
+                if (cached == null) {
+                    cached = parseOrdered(values);
+                    ORDERED_CACHE.put(singleHeader, cached);
+                }
+                return cached;
             }
         }
+        return parseOrdered(values);
+    }
 
+    private static List<MediaType> parseOrdered(List<? extends CharSequence> values) {
         var mediaTypes = new ArrayList<MediaType>(values.size());
         for (CharSequence value : values) {
             for (String token : StringUtils.splitOmitEmptyStrings(value, ',')) {
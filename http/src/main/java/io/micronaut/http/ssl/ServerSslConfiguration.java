@@ -20,6 +20,9 @@ import io.micronaut.context.annotation.Requires;
 import io.micronaut.core.annotation.Nullable;
 import jakarta.inject.Inject;
 
+import java.time.Duration;
+import java.util.Optional;
+
 /**
  * The default {@link SslConfiguration} used for HTTP servers.
  *
@@ -33,6 +36,23 @@ public class ServerSslConfiguration extends SslConfiguration {
      */
     public static final String PREFIX = "micronaut.server.ssl";
 
+    /**
+     * The property that enables reloading the key and trust stores when their files change.
+     * @since 4.8.0
+     */
+    public static final String RELOAD_ON_CHANGE = PREFIX + ".reload-on-change";
+
+    /**
+     * The property that configures the rotation interval of the session ticket keys.
+     * @since 4.8.0
+     */
+    public static final String SESSION_TICKET_KEY_ROTATION = PREFIX + ".session-ticket-key-rotation";
+
+    private Long sessionCacheSize;
+    private Duration sessionTimeout;
+    private Duration sessionTicketKeyRotation;
+    private boolean reloadOnChange;
+
     /**
      * Overrides the default constructor and sets {@link #isEnabled()} to true.
      *
@@ -118,6 +138,82 @@ public class ServerSslConfiguration extends SslConfiguration {
         this.buildSelfSigned = buildSelfSigned;
     }
 
+    /**
+     * @return The maximum number of TLS sessions kept for resumption, if configured
+     * @since 4.8.0
+     */
+    public Optional<Long> getSessionCacheSize() {
+        return Optional.ofNullable(sessionCacheSize);
+    }
+
+    /**
+     * Sets the maximum number of TLS sessions kept for resumption. Default value (the TLS provider default).
+     *
+     * @param sessionCacheSize The session cache size
+     * @since 4.8.0
+     */
+    public void setSessionCacheSize(@Nullable Long sessionCacheSize) {
+        this.sessionCacheSize = sessionCacheSize;
+    }
+
+    /**
+     * @return How long a TLS session can be resumed, if configured
+     * @since 4.8.0
+     */
+    public Optional<Duration> getSessionTimeout() {
+        return Optional.ofNullable(sessionTimeout);
+    }
+
+    /**
+     * Sets how long a TLS session can be resumed. Default value (the TLS provider default).
+     *
+     * @param sessionTimeout The session timeout
+     * @since 4.8.0
+     */
+    public void setSessionTimeout(@Nullable Duration sessionTimeout) {
+        this.sessionTimeout = sessionTimeout;
+    }
+
+    /**
+     * @return The interval at which the session ticket keys are rotated, if configured
+     * @since 4.8.0
+     */
+    public Optional<Duration> getSessionTicketKeyRotation() {
+        return Optional.ofNullable(sessionTicketKeyRotation);
+    }
+
+    /**
+     * Sets the interval at which new session ticket keys are generated. The previous key is kept for one more
+     * interval so that recently issued tickets can still be resumed. Only supported by the OpenSSL provider.
+     * Default value (null, the keys are managed by the TLS provider).
+     *
+     * @param sessionTicketKeyRotation The rotation interval
+     * @since 4.8.0
+     */
+    public void setSessionTicketKeyRotation(@Nullable Duration sessionTicketKeyRotation) {
+        this.sessionTicketKeyRotation = sessionTicketKeyRotation;
+    }
+
+    /**
+     * @return Whether the key and trust stores are reloaded when their files change
+     * @since 4.8.0
+     */
+    public boolean isReloadOnChange() {
+        return reloadOnChange;
+    }
+
+    /**
+     * Sets whether the key and trust stores are reloaded when their files change. New connections use the reloaded
+     * certificates, existing connections are not affected. The store files must be {@code file:} paths inside a
+     * directory watched via {@code micronaut.io.watch.paths}. Default value (false).
+     *
+     * @param reloadOnChange True if the stores should be reloaded
+     * @since 4.8.0
+     */
+    public void setReloadOnChange(boolean reloadOnChange) {
+        this.reloadOnChange = reloadOnChange;
+    }
+
     /**
      * The default {@link io.micronaut.http.ssl.SslConfiguration.KeyConfiguration}.
      */
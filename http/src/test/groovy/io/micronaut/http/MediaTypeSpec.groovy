@@ -231,4 +231,24 @@ class MediaTypeSpec extends Specification {
         "text/plain"            | "text/hml"            | false
         "text/*"                | "application/json"    | false
     }
+
+    void "test repeated header values are parsed once"() {
+        given:
+        String accept = "text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8"
+
+        when:
+        List<MediaType> first = MediaType.orderedOf(accept)
+        List<MediaType> second = MediaType.orderedOf(accept)
+
+        then:
+        first.is(second)
+        first*.name == ["text/html", "application/xhtml+xml", "application/xml", "*/*"]
+        MediaType.of("application/json;charset=UTF-8").is(MediaType.of("application/json;charset=UTF-8"))
+
+        when:
+        first.add(MediaType.TEXT_PLAIN_TYPE)
+
+        then:
+        thrown(UnsupportedOperationException)
+    }
 }
@@ -111,6 +111,75 @@ class Test {
         introspection.getBeanType().simpleName == 'Foo'
     }
 
+    void "test primitive property accessors"() {
+        when:
+        def introspection = buildBeanIntrospection('test.Test', '''
+package test;
+
+import io.micronaut.core.annotation.Introspected;
+
+@Introspected(accessKind = {Introspected.AccessKind.METHOD, Introspected.AccessKind.FIELD})
+class Test {
+    private int count;
+    private long total;
+    private boolean active;
+    public double ratio;
+    public Integer boxed;
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+}
+''')
+        def bean = introspection.instantiate()
+        def count = introspection.getRequiredProperty("count", int)
+        def total = introspection.getRequiredProperty("total", long)
+        def active = introspection.getRequiredProperty("active", boolean)
+        def ratio = introspection.getRequiredProperty("ratio", double)
+        def boxed = introspection.getRequiredProperty("boxed", Integer)
+        count.setInt(bean, 10)
+        total.setLong(bean, 20L)
+        active.setBoolean(bean, true)
+        ratio.setDouble(bean, 1.5d)
+        boxed.setInt(bean, 30)
+
+        then:
+        count.getInt(bean) == 10
+        count.get(bean) == 10
+        total.getLong(bean) == 20L
+        active.getBoolean(bean)
+        active.get(bean) == true
+        ratio.getDouble(bean) == 1.5d
+        boxed.getInt(bean) == 30
+        boxed.get(bean) == 30
+
+        when:
+        count.setLong(bean, 1L)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
     void "test annotations"() {
         when:
         def introspection = buildBeanIntrospection('test.Test', '''
@@ -45,10 +45,14 @@ import javax.lang.model.util.AbstractAnnotationValueVisitor8;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
 import java.lang.annotation.Annotation;
 import java.lang.annotation.Repeatable;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -67,6 +71,22 @@ import java.util.stream.Collectors;
  */
 public class JavaAnnotationMetadataBuilder extends AbstractAnnotationMetadataBuilder<Element, AnnotationMirror> {
 
+    /**
+     * {@code Elements#getFileObjectOf(Element)} is only available in Java 18+.
+     */
+    private static final MethodHandle MH_GET_FILE_OBJECT_OF;
+
+    static {
+        MethodHandle getFileObjectOf;
+        try {
+            getFileObjectOf = MethodHandles.publicLookup()
+                .findVirtual(Elements.class, "getFileObjectOf", MethodType.methodType(JavaFileObject.class, Element.class));
+        } catch (Throwable e) {
+            getFileObjectOf = null;
+        }
+        MH_GET_FILE_OBJECT_OF = getFileObjectOf;
+    }
+
     private final Elements elementUtils;
     private final Messager messager;
     private final ModelUtils modelUtils;
@@ -195,6 +215,20 @@ public class JavaAnnotationMetadataBuilder extends AbstractAnnotationMetadataBui
         return RetentionPolicy.RUNTIME;
     }
 
+    @Override
+    protected boolean isCompiledAnnotationType(@NonNull Element annotationType) {
+        if (MH_GET_FILE_OBJECT_OF == null) {
+            return false;
+        }
+        try {
+            JavaFileObject fileObject = (JavaFileObject) MH_GET_FILE_OBJECT_OF.invokeExact(elementUtils, annotationType);
+            return fileObject != null && fileObject.getKind() == JavaFileObject.Kind.CLASS;
+        } catch (Throwable e) {
+            // the compiler doesn't support it
+            return false;
+        }
+    }
+
     @Override
     protected Element getTypeForAnnotation(AnnotationMirror annotationMirror) {
         return annotationMirror.getAnnotationType().asElement();
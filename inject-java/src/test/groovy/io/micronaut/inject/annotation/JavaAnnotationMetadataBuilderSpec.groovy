@@ -18,13 +18,16 @@ package io.micronaut.inject.annotation
 import io.micronaut.annotation.processing.test.AbstractTypeElementSpec
 import io.micronaut.aop.Around
 import io.micronaut.context.annotation.ConfigurationReader
+import io.micronaut.context.annotation.Executable
 import io.micronaut.context.annotation.Primary
 import io.micronaut.context.annotation.Requirements
 import io.micronaut.context.annotation.Requires
 import io.micronaut.core.annotation.AnnotationClassValue
 import io.micronaut.core.annotation.AnnotationMetadata
 import io.micronaut.core.annotation.AnnotationUtil
+import io.micronaut.http.annotation.Get
 import io.micronaut.http.annotation.Header
+import io.micronaut.http.annotation.HttpMethodMapping
 import io.micronaut.inject.BeanDefinition
 import io.micronaut.runtime.context.scope.Refreshable
 import io.micronaut.runtime.context.scope.ScopedProxy
@@ -92,6 +95,46 @@ class Test {
         definition.getRequiredMethod("test", String).arguments[0].isAnnotationPresent(Header)
     }
 
+    void "test the stereotypes of classpath annotations are the same for every element of a compilation"() {
+        given:
+        BeanDefinition definition = buildBeanDefinition('test.Test', '''\
+package test;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.http.annotation.Get;
+
+@jakarta.inject.Singleton
+class Test {
+
+    @Get("/one")
+    @Requires(property = "one")
+    @Requires(property = "two")
+    public void one() {}
+
+    @Get("/two")
+    @Requires(property = "three")
+    @Requires(property = "four")
+    public void two() {}
+}
+
+''')
+        def one = definition.getRequiredMethod("one").annotationMetadata
+        def two = definition.getRequiredMethod("two").annotationMetadata
+
+        expect:
+        one.stringValue(Get).get() == '/one'
+        one.hasStereotype(HttpMethodMapping)
+        one.hasStereotype(Executable)
+        one.getAnnotationValuesByType(Requires)*.stringValue('property')*.get() == ['one', 'two']
+        one.hasAnnotation(Requirements)
+        two.stringValue(Get).get() == '/two'
+        two.hasStereotype(HttpMethodMapping)
+        two.hasStereotype(Executable)
+        two.getAnnotationValuesByType(Requires)*.stringValue('property')*.get() == ['three', 'four']
+        two.hasAnnotation(Requirements)
+        one.getAnnotationNamesByStereotype(Executable) == two.getAnnotationNamesByStereotype(Executable)
+    }
+
     void "test self referencing annotation"() {
         given:
         AnnotationMetadata metadata = buildTypeAnnotationMetadata('''\
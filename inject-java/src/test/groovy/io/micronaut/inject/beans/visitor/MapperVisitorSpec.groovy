@@ -4,6 +4,10 @@ import io.micronaut.annotation.processing.test.AbstractTypeElementSpec
 import io.micronaut.aop.InterceptorBinding
 import io.micronaut.aop.InterceptorKind
 import io.micronaut.context.annotation.Mapper
+import io.micronaut.core.annotation.AnnotationMetadata
+import io.micronaut.core.convert.ConversionService
+import io.micronaut.inject.beans.GeneratedMapper
+import io.micronaut.inject.beans.visitor.MapperWriter
 import io.micronaut.inject.BeanDefinition
 import io.micronaut.inject.writer.BeanDefinitionVisitor
 import io.micronaut.inject.writer.BeanDefinitionWriter
@@ -89,4 +93,148 @@ record TypeB(
         '@Mapper.Mapping(from = "nonExistent", to = "propA")'       | '@Mapping(from="nonExistent") specifies property nonExistent that doesn\'t exist in type test.TypeB'
         '@Mapper.Mapping(from = "nonExistent.a", to = "propA")'     | '@Mapping(from="nonExistent.a") specifies argument nonExistent that doesn\'t exist for method'
     }
+
+    void 'test mapper visitor generates mapping'() {
+        given:
+        def loader = buildClassLoader('test.MyMapper', '''
+package test;
+
+import io.micronaut.context.annotation.Mapper;
+import io.micronaut.core.annotation.Introspected;
+import jakarta.inject.Singleton;
+
+@Singleton
+public abstract class MyMapper {
+
+    @Mapper
+    abstract TypeA map(TypeB typeB);
+
+    @Mapper.Mapping(from = "name", to = "name")
+    abstract TypeA mapWithMapping(TypeB typeB);
+
+    @Introspected
+    public record TypeA(String name, String count) {}
+
+    @Introspected
+    public static class TypeB {
+        private final String name;
+        private final Integer count;
+
+        public TypeB(String name, Integer count) {
+            this.name = name;
+            this.count = count;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Integer getCount() {
+            return count;
+        }
+    }
+}
+        ''')
+
+        when:
+        def mapper = loader.loadClass('test.$MyMapper$map0' + MapperWriter.CLASS_SUFFIX).newInstance() as GeneratedMapper
+        def source = loader.loadClass('test.MyMapper$TypeB').newInstance('fred', 10)
+        def result = mapper.map(source, ConversionService.SHARED)
+
+        then:
+        result.name() == 'fred'
+        result.count() == '10'
+
+        when: 'the source value of a converted property is null'
+        def nullSource = loader.loadClass('test.MyMapper$TypeB').newInstance('fred', null)
+        def nullResult = mapper.map(nullSource, ConversionService.SHARED)
+
+        then: 'it is passed through like the runtime mapping does'
+        nullResult.name() == 'fred'
+        nullResult.count() == null
+
+        when:
+        loader.loadClass('test.$MyMapper$mapWithMapping1' + MapperWriter.CLASS_SUFFIX)
+
+        then:
+        thrown(ClassNotFoundException)
+    }
+
+    void 'test generated mapper is loaded from the annotation metadata and skipped for formatted properties'() {
+        given:
+        def context = buildContext('test.MyMapper', '''
+package test;
+
+import io.micronaut.context.annotation.Mapper;
+import io.micronaut.core.annotation.Introspected;
+import io.micronaut.core.convert.format.Format;
+import jakarta.inject.Singleton;
+
+@Singleton
+public abstract class MyMapper {
+
+    @Mapper
+    public abstract TypeA map(TypeB typeB);
+
+    @Mapper
+    public abstract TypeC mapFormatted(TypeB typeB);
+
+    @Introspected
+    public record TypeA(String name, String count) {}
+
+    @Introspected
+    public record TypeC(String name, @Format("#.00") String count) {}
+
+    @Introspected
+    public static class TypeB {
+        private final String name;
+        private final Integer count;
+
+        public TypeB(String name, Integer count) {
+            this.name = name;
+            this.count = count;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Integer getCount() {
+            return count;
+        }
+    }
+}
+        ''', true)
+        def mapperType = context.classLoader.loadClass('test.MyMapper')
+        def sourceType = context.classLoader.loadClass('test.MyMapper$TypeB')
+        def definition = context.getBeanDefinition(mapperType)
+        def mapper = context.getBean(mapperType)
+
+        when:
+        def method = definition.findMethod('map', sourceType).get()
+        def generated = method.findAnnotation(GeneratedMapper.ANNOTATION_GENERATED)
+            .flatMap { it.annotationClassValue(AnnotationMetadata.VALUE_MEMBER) }
+            .flatMap { it.instance }
+        def formatted = definition.findMethod('mapFormatted', sourceType).get()
+            .findAnnotation(GeneratedMapper.ANNOTATION_GENERATED)
+
+        then: 'the generated mapper is created by the annotation metadata, without reflection'
+        generated.isPresent()
+        generated.get() instanceof GeneratedMapper
+        !method.getAnnotation(Mapper).contains('generated')
+        mapper.map(sourceType.newInstance('fred', 10)).count() == '10'
+
+        and: 'a formatted property is left to the runtime mapping'
+        formatted.isEmpty()
+        mapper.mapFormatted(sourceType.newInstance('fred', 10)).name() == 'fred'
+
+        when:
+        context.classLoader.loadClass('test.$MyMapper$mapFormatted1' + MapperWriter.CLASS_SUFFIX)
+
+        then:
+        thrown(ClassNotFoundException)
+
+        cleanup:
+        context.close()
+    }
 }
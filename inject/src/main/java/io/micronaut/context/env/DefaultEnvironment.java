@@ -301,6 +301,20 @@ public class DefaultEnvironment extends PropertySourcePropertyResolver implement
     @Override
     public Map<String, Object> refreshAndDiff() {
         Map<String, Object>[] copiedCatalog = copyCatalog();
+        if (isRunning() && reading.compareAndSet(false, true)) {
+            // rebuild the catalog while readers keep seeing the previous version, then only evict what changed
+            try {
+                rebuildCatalog(() -> {
+                    this.propertySources.values().removeAll(refreshablePropertySources);
+                    readPropertySources(getPropertySourceRootName());
+                });
+            } finally {
+                reading.set(false);
+            }
+            Map<String, Object> changes = diffCatalog(copiedCatalog, catalog);
+            resetCaches(changes.keySet());
+            return changes;
+        }
         refresh();
         return diffCatalog(copiedCatalog, catalog);
     }
@@ -454,10 +468,51 @@ public class DefaultEnvironment extends PropertySourcePropertyResolver implement
 
         propertySources.addAll(this.propertySources.values());
         OrderUtil.sortOrdered(propertySources);
+        Path snapshotPath = getConfigSnapshotPath();
+        byte[] fingerprint = null;
+        if (snapshotPath != null) {
+            fingerprint = PropertyCatalogSnapshot.fingerprint(propertySources);
+            PropertyCatalogSnapshot snapshot = PropertyCatalogSnapshot.read(snapshotPath, fingerprint);
+            if (snapshot != null) {
+                log.debug("Restoring property catalog from snapshot: {}", snapshotPath);
+                for (PropertySource propertySource : propertySources) {
+                    this.propertySources.put(propertySource.getName(), propertySource);
+                }
+                snapshot.applyTo(this);
+                return;
+            }
+        }
         for (PropertySource propertySource : propertySources) {
             log.debug("Processing property source: {}", propertySource.getName());
             processPropertySource(propertySource, propertySource.getConvention());
         }
+        if (snapshotPath != null) {
+            try {
+                if (PropertyCatalogSnapshot.write(snapshotPath, fingerprint, this)) {
+                    log.debug("Wrote property catalog snapshot: {}", snapshotPath);
+                } else {
+                    log.debug("Property catalog contains values that cannot be written to a snapshot, skipping");
+                }
+            } catch (IOException e) {
+                log.warn("Failed to write property catalog snapshot [{}]: {}", snapshotPath, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Resolves the location of the binary snapshot of the property catalog from the system property or
+     * environment variable {@link Environment#CONFIG_SNAPSHOT_KEY}.
+     *
+     * @return The snapshot path or {@code null} if snapshots are disabled
+     * @since 4.8.0
+     */
+    @Nullable
+    protected Path getConfigSnapshotPath() {
+        String location = CachedEnvironment.getProperty(Environment.CONFIG_SNAPSHOT_KEY);
+        if (StringUtils.isEmpty(location)) {
+            location = CachedEnvironment.getenv(StringUtils.convertDotToUnderscore(Environment.CONFIG_SNAPSHOT_KEY));
+        }
+        return StringUtils.isNotEmpty(location) ? Paths.get(location) : null;
     }
 
     private void readConstantPropertySources(String name, List<PropertySource> propertySources) {
@@ -893,14 +948,10 @@ public class DefaultEnvironment extends PropertySourcePropertyResolver implement
     }
 
     private Map<String, Object>[] copyCatalog() {
-        Map<String, Object>[] newCatalog = new Map[catalog.length];
-        for (int i = 0; i < catalog.length; i++) {
-            Map<String, Object> entry = catalog[i];
-            if (entry != null) {
-                newCatalog[i] = new LinkedHashMap<>(entry);
-            }
+        // published catalog buckets are never mutated, a shallow copy is a consistent view
+        synchronized (catalog) {
+            return catalog.clone();
         }
-        return newCatalog;
     }
 
     private static ComputePlatform determineCloudProvider() {
@@ -20,6 +20,7 @@ import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.io.service.SoftServiceLoader;
 import io.micronaut.core.naming.NameUtils;
+import io.micronaut.core.util.clhm.ConcurrentLinkedHashMap;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.core.value.PropertyResolver;
 
@@ -27,6 +28,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -51,10 +53,22 @@ public class DefaultPropertyPlaceholderResolver implements PropertyPlaceholderRe
 
     private static final Pattern ESCAPE_SEQUENCE = Pattern.compile("(.+)?:`([^`]+?)`");
     private static final char COLON = ':';
+    private static final int SEGMENT_CACHE_MAX_SIZE = 2048;
+    /**
+     * Marker for a placeholder definition without a closing suffix.
+     */
+    private static final List<Segment> INCOMPLETE = Collections.unmodifiableList(new ArrayList<>(0));
 
     private final PropertyResolver environment;
     private final ConversionService conversionService;
     private final String prefix;
+    /**
+     * Compiled segments per placeholder string. Segments are immutable, so they are shared between resolutions
+     * instead of tokenizing the same annotation value or configuration value for every bean created.
+     */
+    private final Map<String, List<Segment>> segmentCache = new ConcurrentLinkedHashMap.Builder<String, List<Segment>>()
+        .maximumWeightedCapacity(SEGMENT_CACHE_MAX_SIZE)
+        .build();
     private Collection<PropertyExpressionResolver> expressionResolvers;
 
     /**
@@ -165,6 +179,28 @@ public class DefaultPropertyPlaceholderResolver implements PropertyPlaceholderRe
      * @since 4.2.0
      */
     private List<Segment> buildSegments(String str, boolean failOnIncomplete) {
+        if (str.isEmpty()) {
+            return List.of();
+        }
+        if (str.indexOf(PREFIX) == -1) {
+            // plain values are not worth caching, they are a single segment
+            return List.of(new RawSegment(str));
+        }
+        List<Segment> segments = segmentCache.get(str);
+        if (segments == null) {
+            segments = compileSegments(str);
+            segmentCache.put(str, segments);
+        }
+        if (segments == INCOMPLETE) {
+            if (failOnIncomplete) {
+                throw new ConfigurationException("Incomplete placeholder definitions detected: " + str);
+            }
+            return List.of();
+        }
+        return segments;
+    }
+
+    private List<Segment> compileSegments(String str) {
         List<Segment> segments = new ArrayList<>();
         String value = str;
         int i = value.indexOf(PREFIX);
@@ -181,17 +217,15 @@ public class DefaultPropertyPlaceholderResolver implements PropertyPlaceholderRe
                 String expr = value.substring(0, suffixIdx).trim();
                 segments.add(new PlaceholderSegment(expr));
                 value = value.substring(suffixIdx + SUFFIX.length());
-            } else if (failOnIncomplete) {
-                throw new ConfigurationException("Incomplete placeholder definitions detected: " + str);
             } else {
-                return List.of();
+                return INCOMPLETE;
             }
             i = value.indexOf(PREFIX);
         }
         if (!value.isEmpty()) {
             segments.add(new RawSegment(value));
         }
-        return segments;
+        return Collections.unmodifiableList(segments);
     }
 
     /**
@@ -185,6 +185,15 @@ public interface Environment extends PropertyResolver, LifeCycle<Environment>, M
      */
     String PROPERTY_SOURCES_KEY = "micronaut.config.files";
 
+    /**
+     * The key used to specify the location of a binary snapshot of the resolved configuration. When set, the
+     * snapshot is loaded instead of processing the property sources if they have not changed, otherwise it is
+     * (re)written after processing.
+     *
+     * @since 4.8.0
+     */
+    String CONFIG_SNAPSHOT_KEY = "micronaut.config.snapshot";
+
     /**
      * The host name environment variable.
      */
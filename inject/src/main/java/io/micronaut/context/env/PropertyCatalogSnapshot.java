@@ -0,0 +1,351 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.context.env;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * A binary snapshot of the fully resolved property catalogs of a {@link PropertySourcePropertyResolver}.
+ *
+ * <p>A snapshot is keyed by a fingerprint (SHA-256) of the property sources it was produced from. When the
+ * fingerprint of the current property sources matches, the catalogs can be restored from the memory-mapped
+ * snapshot without normalizing, expanding and generating keys again for each property.</p>
+ *
+ * @since 4.8.0
+ */
+@Internal
+final class PropertyCatalogSnapshot {
+
+    private static final int MAGIC = 0x4D4E5043; // MNPC
+    private static final int VERSION = 1;
+    private static final int FINGERPRINT_LENGTH = 32;
+
+    private static final byte TYPE_NULL = 0;
+    private static final byte TYPE_STRING = 1;
+    private static final byte TYPE_BOOLEAN = 2;
+    private static final byte TYPE_INT = 3;
+    private static final byte TYPE_LONG = 4;
+    private static final byte TYPE_DOUBLE = 5;
+    private static final byte TYPE_FLOAT = 6;
+    private static final byte TYPE_BIG_INTEGER = 7;
+    private static final byte TYPE_BIG_DECIMAL = 8;
+    private static final byte TYPE_LIST = 9;
+    private static final byte TYPE_MAP = 10;
+
+    private final Map<String, Object>[] catalog;
+    private final Map<String, Object>[] rawCatalog;
+    private final Map<String, Object>[] nonGenerated;
+
+    private PropertyCatalogSnapshot(Map<String, Object>[] catalog, Map<String, Object>[] rawCatalog, Map<String, Object>[] nonGenerated) {
+        this.catalog = catalog;
+        this.rawCatalog = rawCatalog;
+        this.nonGenerated = nonGenerated;
+    }
+
+    /**
+     * Computes the fingerprint of the given property sources. The fingerprint covers the name, order, convention
+     * and every key and value of each source, in iteration order.
+     *
+     * @param propertySources The property sources, in the order they are processed
+     * @return The fingerprint
+     */
+    @NonNull
+    static byte[] fingerprint(@NonNull List<PropertySource> propertySources) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not supported by the JVM", e);
+        }
+        digest.update((byte) VERSION);
+        for (PropertySource propertySource : propertySources) {
+            update(digest, propertySource.getName());
+            update(digest, String.valueOf(propertySource.getOrder()));
+            update(digest, propertySource.getConvention().name());
+            for (String key : propertySource) {
+                Object value = propertySource.get(key);
+                update(digest, key);
+                update(digest, value == null ? "null" : value.getClass().getName());
+                update(digest, String.valueOf(value));
+            }
+        }
+        return digest.digest();
+    }
+
+    /**
+     * Reads a snapshot from the given file if it exists, is well-formed and matches the fingerprint.
+     *
+     * @param file        The snapshot file
+     * @param fingerprint The expected fingerprint
+     * @return The snapshot or {@code null} if it is absent, stale or corrupt
+     */
+    @Nullable
+    static PropertyCatalogSnapshot read(@NonNull Path file, @NonNull byte[] fingerprint) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                return null;
+            }
+            byte[] storedFingerprint = new byte[FINGERPRINT_LENGTH];
+            buffer.get(storedFingerprint);
+            if (!Arrays.equals(storedFingerprint, fingerprint)) {
+                return null;
+            }
+            long checksum = buffer.getLong();
+            ByteBuffer body = buffer.slice();
+            CRC32 crc = new CRC32();
+            crc.update(body.duplicate());
+            if (crc.getValue() != checksum) {
+                return null;
+            }
+            return new PropertyCatalogSnapshot(
+                readCatalog(body),
+                readCatalog(body),
+                readCatalog(body)
+            );
+        } catch (IOException | BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes the catalogs of the given resolver to the snapshot file. The file is written to a temporary location
+     * first and then moved into place, so concurrent readers never observe a partial snapshot.
+     *
+     * @param file        The snapshot file
+     * @param fingerprint The fingerprint of the property sources the catalogs were produced from
+     * @param resolver    The resolver
+     * @return Whether the snapshot was written. Catalogs containing values that cannot be encoded are not written.
+     * @throws IOException If an I/O error occurs
+     */
+    static boolean write(@NonNull Path file, @NonNull byte[] fingerprint, @NonNull PropertySourcePropertyResolver resolver) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(8192);
+        DataOutputStream body = new DataOutputStream(bytes);
+        synchronized (resolver.catalog) {
+            try {
+                for (Map<String, Object>[] catalog : resolver.currentCatalogs()) {
+                    writeCatalog(body, catalog);
+                }
+            } catch (UnsupportedValueException e) {
+                return false;
+            }
+        }
+        body.flush();
+        byte[] payload = bytes.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path tmp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(tmp))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.write(fingerprint);
+            out.writeLong(crc.getValue());
+            out.write(payload);
+        }
+        try {
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return true;
+    }
+
+    /**
+     * Replaces the catalogs of the given resolver with the contents of this snapshot.
+     *
+     * @param resolver The resolver
+     */
+    void applyTo(@NonNull PropertySourcePropertyResolver resolver) {
+        resolver.restoreCatalog(catalog, rawCatalog, nonGenerated);
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static void writeCatalog(DataOutputStream out, Map<String, Object>[] catalog) throws IOException {
+        out.writeInt(catalog.length);
+        for (Map<String, Object> entries : catalog) {
+            if (entries == null) {
+                out.writeInt(-1);
+            } else {
+                out.writeInt(entries.size());
+                for (Map.Entry<String, Object> entry : entries.entrySet()) {
+                    writeString(out, entry.getKey());
+                    writeValue(out, entry.getValue());
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object>[] readCatalog(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        Map<String, Object>[] catalog = new Map[length];
+        for (int i = 0; i < length; i++) {
+            int size = buffer.getInt();
+            if (size > -1) {
+                Map<String, Object> entries = new LinkedHashMap<>(Math.max(5, (int) (size / 0.75f) + 1));
+                for (int j = 0; j < size; j++) {
+                    String key = readString(buffer);
+                    entries.put(key, readValue(buffer));
+                }
+                catalog[i] = entries;
+            }
+        }
+        return catalog;
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(TYPE_NULL);
+        } else if (value instanceof CharSequence charSequence) {
+            out.writeByte(TYPE_STRING);
+            writeString(out, charSequence.toString());
+        } else if (value instanceof Boolean b) {
+            out.writeByte(TYPE_BOOLEAN);
+            out.writeBoolean(b);
+        } else if (value instanceof Integer integer) {
+            out.writeByte(TYPE_INT);
+            out.writeInt(integer);
+        } else if (value instanceof Long l) {
+            out.writeByte(TYPE_LONG);
+            out.writeLong(l);
+        } else if (value instanceof Double d) {
+            out.writeByte(TYPE_DOUBLE);
+            out.writeDouble(d);
+        } else if (value instanceof Float f) {
+            out.writeByte(TYPE_FLOAT);
+            out.writeFloat(f);
+        } else if (value instanceof BigInteger bigInteger) {
+            out.writeByte(TYPE_BIG_INTEGER);
+            writeString(out, bigInteger.toString());
+        } else if (value instanceof BigDecimal bigDecimal) {
+            out.writeByte(TYPE_BIG_DECIMAL);
+            writeString(out, bigDecimal.toString());
+        } else if (value instanceof List<?> list) {
+            out.writeByte(TYPE_LIST);
+            out.writeInt(list.size());
+            for (Object item : list) {
+                writeValue(out, item);
+            }
+        } else if (value instanceof Map<?, ?> map) {
+            out.writeByte(TYPE_MAP);
+            out.writeInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeValue(out, entry.getKey());
+                writeValue(out, entry.getValue());
+            }
+        } else {
+            throw new UnsupportedValueException();
+        }
+    }
+
+    private static Object readValue(ByteBuffer buffer) {
+        byte type = buffer.get();
+        return switch (type) {
+            case TYPE_NULL -> null;
+            case TYPE_STRING -> readString(buffer);
+            case TYPE_BOOLEAN -> buffer.get() != 0;
+            case TYPE_INT -> buffer.getInt();
+            case TYPE_LONG -> buffer.getLong();
+            case TYPE_DOUBLE -> buffer.getDouble();
+            case TYPE_FLOAT -> buffer.getFloat();
+            case TYPE_BIG_INTEGER -> new BigInteger(readString(buffer));
+            case TYPE_BIG_DECIMAL -> new BigDecimal(readString(buffer));
+            case TYPE_LIST -> {
+                int size = buffer.getInt();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(buffer));
+                }
+                yield list;
+            }
+            case TYPE_MAP -> {
+                int size = buffer.getInt();
+                Map<Object, Object> map = new LinkedHashMap<>(Math.max(10, (int) (size / 0.75f) + 1));
+                for (int i = 0; i < size; i++) {
+                    Object key = readValue(buffer);
+                    map.put(key, readValue(buffer));
+                }
+                yield map;
+            }
+            default -> throw new IllegalArgumentException("Unknown value type: " + type);
+        };
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (buffer.hasArray()) {
+            int position = buffer.position();
+            String value = new String(buffer.array(), buffer.arrayOffset() + position, length, StandardCharsets.UTF_8);
+            buffer.position(position + length);
+            return value;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Thrown when a catalog contains a value that cannot be encoded, in which case no snapshot is written.
+     */
+    private static final class UnsupportedValueException extends RuntimeException {
+        UnsupportedValueException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -36,11 +36,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.helpers.NOPLogger;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ListIterator;
@@ -70,6 +73,11 @@ public class PropertySourcePropertyResolver implements PropertyResolver, AutoClo
     private static final Object NO_VALUE = new Object();
     private static final PropertyCatalog[] CONVENTIONS = {PropertyCatalog.GENERATED, PropertyCatalog.RAW};
     private static final String WILD_CARD_SUFFIX = ".*";
+    /**
+     * Catalog buckets are replaced (never mutated) once published, readers use acquire semantics to see them fully
+     * populated without locking.
+     */
+    private static final VarHandle CATALOG_BUCKET = MethodHandles.arrayElementVarHandle(Map[].class);
     protected final ConversionService conversionService;
     protected final PropertyPlaceholderResolver propertyPlaceholderResolver;
     protected final Map<String, PropertySource> propertySources = new ConcurrentHashMap<>(10);
@@ -92,7 +100,15 @@ public class PropertySourcePropertyResolver implements PropertyResolver, AutoClo
      * Cache for values <i>after</i> conversion.
      */
     private final Map<ConversionCacheKey, Object> resolvedValueCache = new ConcurrentHashMap<>(20);
+    /**
+     * Names of the cached values that were resolved from placeholders, these may depend on any other property.
+     */
+    private final Set<String> placeholderDependentNames = ConcurrentHashMap.newKeySet();
     private final EnvironmentProperties environmentProperties = EnvironmentProperties.fork(CURRENT_ENV);
+    /**
+     * The update that collects a full rebuild of the catalog, guarded by the {@link #catalog} lock.
+     */
+    private CatalogUpdate pendingRebuild;
 
     /**
      * Creates a new, initially empty, {@link PropertySourcePropertyResolver} for the given {@link ConversionService}.
@@ -391,6 +407,9 @@ public class PropertySourcePropertyResolver implements PropertyResolver, AutoClo
                 Optional<T> converted;
                 if (entries != null) {
                     // iff entries is null, the value is from placeholderResolutionCache and doesn't need this step
+                    if (containsPlaceholder(value)) {
+                        placeholderDependentNames.add(name);
+                    }
                     value = resolvePlaceHoldersIfNecessary(value);
                     placeholderResolutionCache.put(name, value);
                 }
@@ -591,6 +610,7 @@ public class PropertySourcePropertyResolver implements PropertyResolver, AutoClo
     protected void processPropertySource(PropertySource properties, PropertySource.PropertyConvention convention) {
         this.propertySources.put(properties.getName(), properties);
         synchronized (catalog) {
+            CatalogUpdate update = pendingRebuild != null ? pendingRebuild : new CatalogUpdate(false);
             for (String property : properties) {
 
                 log.trace("Processing property key {}", property);
@@ -603,20 +623,20 @@ public class PropertySourcePropertyResolver implements PropertyResolver, AutoClo
                     int i = resolvedProperty.indexOf('[');
                     if (i > -1) {
                         String propertyName = resolvedProperty.substring(0, i);
-                        Map<String, Object> entries = resolveEntriesForKey(propertyName, true, PropertyCatalog.GENERATED);
+                        Map<String, Object> entries = update.entriesForKey(propertyName, PropertyCatalog.GENERATED);
                         if (entries != null) {
                             entries.put(resolvedProperty, value);
-                            expandProperty(resolvedProperty.substring(i), val -> entries.put(propertyName, val), () -> entries.get(propertyName), value);
+                            expandProperty(resolvedProperty.substring(i), val -> entries.put(propertyName, val), () -> update.mutableContainer(entries, propertyName), value);
                         }
                         if (first) {
-                            Map<String, Object> normalized = resolveEntriesForKey(resolvedProperty, true, PropertyCatalog.NORMALIZED);
+                            Map<String, Object> normalized = update.entriesForKey(resolvedProperty, PropertyCatalog.NORMALIZED);
                             if (normalized != null) {
                                 normalized.put(propertyName, value);
                             }
                             first = false;
                         }
                     } else {
-                        Map<String, Object> entries = resolveEntriesForKey(resolvedProperty, true, PropertyCatalog.GENERATED);
+                        Map<String, Object> entries = update.entriesForKey(resolvedProperty, PropertyCatalog.GENERATED);
                         if (entries != null) {
                             if (value instanceof List || value instanceof Map) {
                                 collapseProperty(resolvedProperty, entries, value);
@@ -624,7 +644,7 @@ public class PropertySourcePropertyResolver implements PropertyResolver, AutoClo
                             entries.put(resolvedProperty, value);
                         }
                         if (first) {
-                            Map<String, Object> normalized = resolveEntriesForKey(resolvedProperty, true, PropertyCatalog.NORMALIZED);
+                            Map<String, Object> normalized = update.entriesForKey(resolvedProperty, PropertyCatalog.NORMALIZED);
                             if (normalized != null) {
                                 normalized.put(resolvedProperty, value);
                             }
@@ -633,11 +653,78 @@ public class PropertySourcePropertyResolver implements PropertyResolver, AutoClo
                     }
                 }
 
-                final Map<String, Object> rawEntries = resolveEntriesForKey(property, true, PropertyCatalog.RAW);
+                final Map<String, Object> rawEntries = update.entriesForKey(property, PropertyCatalog.RAW);
                 if (rawEntries != null) {
                     rawEntries.put(property, value);
                 }
             }
+            if (update != pendingRebuild) {
+                update.publish();
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the catalog from scratch with the property sources processed by the given action. Readers keep
+     * seeing the previous version of the catalog until the rebuild completes; if the action fails the previous
+     * version is retained. The action runs without holding the {@link #catalog} lock, so reading the property
+     * sources does not block other writers; property sources processed concurrently become part of the rebuild.
+     *
+     * @param processing The action that processes the property sources
+     * @since 4.8.0
+     */
+    protected void rebuildCatalog(@NonNull Runnable processing) {
+        CatalogUpdate update = new CatalogUpdate(true);
+        synchronized (catalog) {
+            if (pendingRebuild != null) {
+                throw new IllegalStateException("The property catalog is already being rebuilt");
+            }
+            pendingRebuild = update;
+        }
+        boolean processed = false;
+        try {
+            processing.run();
+            processed = true;
+        } finally {
+            synchronized (catalog) {
+                pendingRebuild = null;
+                if (processed) {
+                    update.publish();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the catalogs that reflect all processed property sources, including those of a rebuild that
+     * has not been published yet. Must be called while holding the {@link #catalog} lock.
+     *
+     * @return The generated, raw and normalized catalogs
+     */
+    Map<String, Object>[][] currentCatalogs() {
+        CatalogUpdate update = pendingRebuild;
+        if (update != null) {
+            return new Map[][] {update.generated, update.raw, update.normalized};
+        }
+        return new Map[][] {catalog, rawCatalog, nonGenerated};
+    }
+
+    /**
+     * Replaces the catalog with the given, already resolved, catalogs.
+     *
+     * @param generated  The catalog with normalized and generated keys
+     * @param raw        The catalog with raw keys
+     * @param normalized The catalog with normalized keys
+     */
+    void restoreCatalog(Map<String, Object>[] generated, Map<String, Object>[] raw, Map<String, Object>[] normalized) {
+        synchronized (catalog) {
+            CatalogUpdate update = pendingRebuild != null ? pendingRebuild : new CatalogUpdate(true);
+            System.arraycopy(generated, 0, update.generated, 0, update.generated.length);
+            System.arraycopy(raw, 0, update.raw, 0, update.raw.length);
+            System.arraycopy(normalized, 0, update.normalized, 0, update.normalized.length);
+            if (update != pendingRebuild) {
+                update.publish();
+            }
         }
     }
 
@@ -726,26 +813,39 @@ public class PropertySourcePropertyResolver implements PropertyResolver, AutoClo
      */
     @SuppressWarnings("MagicNumber")
     protected Map<String, Object> resolveEntriesForKey(String name, boolean allowCreate, @Nullable PropertyCatalog propertyCatalog) {
-        if (name.isEmpty()) {
+        final Map<String, Object>[] catalog = getCatalog(propertyCatalog);
+        int index = catalogIndex(name, catalog.length);
+        if (index == -1) {
             return null;
         }
-        final Map<String, Object>[] catalog = getCatalog(propertyCatalog);
-
-        Map<String, Object> entries = null;
-        char firstChar = name.charAt(0);
-        if (Character.isLetter(firstChar)) {
-            int index = firstChar - 65;
-            if (index < catalog.length && index >= 0) {
+        Map<String, Object> entries = (Map<String, Object>) CATALOG_BUCKET.getAcquire(catalog, index);
+        if (allowCreate && entries == null) {
+            synchronized (this.catalog) {
                 entries = catalog[index];
-                if (allowCreate && entries == null) {
+                if (entries == null) {
                     entries = new LinkedHashMap<>(5);
-                    catalog[index] = entries;
+                    CATALOG_BUCKET.setRelease(catalog, index, entries);
                 }
             }
         }
         return entries;
     }
 
+    @SuppressWarnings("MagicNumber")
+    private static int catalogIndex(String name, int length) {
+        if (name.isEmpty()) {
+            return -1;
+        }
+        char firstChar = name.charAt(0);
+        if (Character.isLetter(firstChar)) {
+            int index = firstChar - 65;
+            if (index < length && index >= 0) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
     private Map<String, Object>[] getCatalog(@Nullable PropertyCatalog propertyCatalog) {
         propertyCatalog = propertyCatalog != null ? propertyCatalog : PropertyCatalog.GENERATED;
         return switch (propertyCatalog) {
@@ -762,6 +862,74 @@ public class PropertySourcePropertyResolver implements PropertyResolver, AutoClo
         containsCache.clear();
         resolvedValueCache.clear();
         placeholderResolutionCache.clear();
+        placeholderDependentNames.clear();
+    }
+
+    /**
+     * Resets the cached values for the given changed keys only. A cached property is evicted if it is equal to, nested
+     * under, or a parent of a changed key, or if its value was resolved from placeholders.
+     *
+     * @param changedKeys The keys that changed
+     * @since 4.8.0
+     */
+    protected void resetCaches(@NonNull Collection<String> changedKeys) {
+        if (changedKeys.isEmpty()) {
+            return;
+        }
+        List<String> changed = new ArrayList<>(changedKeys.size());
+        for (String changedKey : changedKeys) {
+            changed.add(canonicalName(changedKey));
+        }
+        // placeholders are not tracked per referenced key, so any value resolved from one may be stale
+        Set<String> placeholderDependent = new HashSet<>(placeholderDependentNames);
+        placeholderDependentNames.removeAll(placeholderDependent);
+        containsCache.keySet().removeIf(name -> isAffected(name, changed));
+        placeholderResolutionCache.keySet().removeIf(name -> placeholderDependent.contains(name) || isAffected(name, changed));
+        resolvedValueCache.keySet().removeIf(key -> placeholderDependent.contains(key.name()) || isAffected(key.name(), changed));
+    }
+
+    private static boolean containsPlaceholder(Object value) {
+        if (value instanceof CharSequence) {
+            return value.toString().contains(DefaultPropertyPlaceholderResolver.PREFIX);
+        } else if (value instanceof List<?> list) {
+            for (Object item : list) {
+                if (containsPlaceholder(item)) {
+                    return true;
+                }
+            }
+        } else if (value instanceof Map<?, ?> map) {
+            for (Object item : map.values()) {
+                if (containsPlaceholder(item)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isAffected(String name, List<String> changedKeys) {
+        String canonicalName = canonicalName(name);
+        for (String changedKey : changedKeys) {
+            if (isSameOrNested(canonicalName, changedKey) || isSameOrNested(changedKey, canonicalName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isSameOrNested(String key, String prefix) {
+        if (!key.startsWith(prefix)) {
+            return false;
+        }
+        if (key.length() == prefix.length()) {
+            return true;
+        }
+        char c = key.charAt(prefix.length());
+        return c == '.' || c == '[';
+    }
+
+    private static String canonicalName(String name) {
+        return NameUtils.hyphenate(name, true).replace('-', '.');
     }
 
     private void processSubmapKey(Map<String, Object> map, String key, Object value, @Nullable StringConvention keyConvention) {
@@ -841,6 +1009,90 @@ public class PropertySourcePropertyResolver implements PropertyResolver, AutoClo
         }
     }
 
+    /**
+     * A copy-on-write update of the catalog. Buckets are copied on first write and published once all
+     * property sources of the update have been processed, so readers never observe a partially updated bucket.
+     */
+    private final class CatalogUpdate {
+
+        final Map<String, Object>[] generated = new Map[catalog.length];
+        final Map<String, Object>[] raw = new Map[rawCatalog.length];
+        final Map<String, Object>[] normalized = new Map[nonGenerated.length];
+        private final boolean rebuild;
+        private final Set<String> copiedContainers = new HashSet<>();
+
+        /**
+         * @param rebuild Whether the update replaces the whole catalog instead of amending it
+         */
+        CatalogUpdate(boolean rebuild) {
+            this.rebuild = rebuild;
+        }
+
+        Map<String, Object> entriesForKey(String name, PropertyCatalog propertyCatalog) {
+            Map<String, Object>[] staged = switch (propertyCatalog) {
+                case RAW -> raw;
+                case NORMALIZED -> normalized;
+                default -> generated;
+            };
+            int index = catalogIndex(name, staged.length);
+            if (index == -1) {
+                return null;
+            }
+            Map<String, Object> entries = staged[index];
+            if (entries == null) {
+                Map<String, Object> current = rebuild ? null : getCatalog(propertyCatalog)[index];
+                entries = current != null ? new LinkedHashMap<>(current) : new LinkedHashMap<>(5);
+                staged[index] = entries;
+            }
+            return entries;
+        }
+
+        /**
+         * Returns the list or map container stored under the given key, copying it first if it may be shared
+         * with a published version of the catalog.
+         */
+        Object mutableContainer(Map<String, Object> entries, String key) {
+            Object container = entries.get(key);
+            if ((container instanceof List || container instanceof Map) && copiedContainers.add(key)) {
+                container = deepCopy(container);
+                entries.put(key, container);
+            }
+            return container;
+        }
+
+        void publish() {
+            publish(generated, catalog);
+            publish(raw, rawCatalog);
+            publish(normalized, nonGenerated);
+        }
+
+        private void publish(Map<String, Object>[] staged, Map<String, Object>[] target) {
+            for (int i = 0; i < staged.length; i++) {
+                Map<String, Object> entries = staged[i];
+                if (rebuild || entries != null) {
+                    CATALOG_BUCKET.setRelease(target, i, entries);
+                }
+            }
+        }
+
+        private Object deepCopy(Object value) {
+            if (value instanceof List<?> list) {
+                List<Object> copy = new ArrayList<>(Math.max(10, list.size()));
+                for (Object item : list) {
+                    copy.add(deepCopy(item));
+                }
+                return copy;
+            } else if (value instanceof Map<?, ?> map) {
+                Map<Object, Object> copy = new LinkedHashMap<>(Math.max(10, map.size()));
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    copy.put(entry.getKey(), deepCopy(entry.getValue()));
+                }
+                return copy;
+            }
+            return value;
+        }
+    }
+
     /**
      * The property catalog to use.
      *
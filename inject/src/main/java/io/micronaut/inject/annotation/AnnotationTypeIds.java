@@ -0,0 +1,91 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.inject.annotation;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Assigns integer ids to annotation type names, so that the annotation types present in an
+ * {@link io.micronaut.core.annotation.AnnotationMetadata} can be stored as a bit set. Ids are assigned when the
+ * metadata that contains an annotation is indexed. A name without an id is not present in any indexed metadata.
+ *
+ * @since 4.8.0
+ */
+@Internal
+final class AnnotationTypeIds {
+
+    private static final long[] EMPTY = new long[0];
+    private static final Map<String, Integer> IDS = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
+    private AnnotationTypeIds() {
+    }
+
+    /**
+     * @param annotation The annotation type name
+     * @return The id of the annotation type, or {@code -1} if no indexed metadata contains it
+     */
+    static int get(@Nullable String annotation) {
+        if (annotation == null) {
+            return -1;
+        }
+        Integer id = IDS.get(annotation);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Build the bit set of the annotation types that are keys of the given map.
+     *
+     * @param annotations The annotations by type name
+     * @return The bit set
+     */
+    static long[] bitSet(@Nullable Map<String, ?> annotations) {
+        if (annotations == null || annotations.isEmpty()) {
+            return EMPTY;
+        }
+        int[] ids = new int[annotations.size()];
+        int max = -1;
+        int i = 0;
+        for (String annotation : annotations.keySet()) {
+            int id = IDS.computeIfAbsent(annotation, k -> NEXT_ID.getAndIncrement());
+            ids[i++] = id;
+            max = Math.max(max, id);
+        }
+        long[] bits = new long[(max >>> 6) + 1];
+        for (int id : ids) {
+            bits[id >>> 6] |= 1L << id;
+        }
+        return bits;
+    }
+
+    /**
+     * @param bits The bit set
+     * @param id   The annotation type id
+     * @return Whether the bit set contains the id
+     */
+    static boolean contains(long[] bits, int id) {
+        if (id < 0) {
+            return false;
+        }
+        int word = id >>> 6;
+        return word < bits.length && (bits[word] & (1L << id)) != 0;
+    }
+}
@@ -80,6 +80,8 @@ public class DefaultAnnotationMetadata extends AbstractAnnotationMetadata implem
     Map<String, List<String>> annotationsByStereotype;
 
     private final Map<String, List> annotationValuesByType = new ConcurrentHashMap<>(2);
+    @Nullable
+    private TypeIndex typeIndex;
 
     private final boolean hasPropertyExpressions;
     private final boolean hasEvaluatedExpressions;
@@ -1077,19 +1079,78 @@ public class DefaultAnnotationMetadata extends AbstractAnnotationMetadata implem
 
     @Override
     public boolean hasAnnotation(String annotation) {
+        TypeIndex index = typeIndex();
+        if (index != null) {
+            int id = AnnotationTypeIds.get(annotation);
+            return AnnotationTypeIds.contains(index.declaredAnnotations, id) || AnnotationTypeIds.contains(index.allAnnotations, id);
+        }
         return hasDeclaredAnnotation(annotation) || (allAnnotations != null && StringUtils.isNotEmpty(annotation) && allAnnotations.containsKey(annotation));
     }
 
     @Override
     public boolean hasStereotype(String annotation) {
+        TypeIndex index = typeIndex();
+        if (index != null) {
+            int id = AnnotationTypeIds.get(annotation);
+            return AnnotationTypeIds.contains(index.declaredAnnotations, id)
+                || AnnotationTypeIds.contains(index.allAnnotations, id)
+                || AnnotationTypeIds.contains(index.allStereotypes, id);
+        }
         return hasAnnotation(annotation) || (allStereotypes != null && StringUtils.isNotEmpty(annotation) && allStereotypes.containsKey(annotation));
     }
 
     @Override
     public boolean hasDeclaredStereotype(String annotation) {
+        TypeIndex index = typeIndex();
+        if (index != null) {
+            int id = AnnotationTypeIds.get(annotation);
+            return AnnotationTypeIds.contains(index.declaredAnnotations, id) || AnnotationTypeIds.contains(index.declaredStereotypes, id);
+        }
         return hasDeclaredAnnotation(annotation) || (declaredStereotypes != null && StringUtils.isNotEmpty(annotation) && declaredStereotypes.containsKey(annotation));
     }
 
+    @Override
+    public boolean hasAnnotation(@Nullable Class<? extends Annotation> annotation) {
+        if (annotation == null) {
+            return false;
+        }
+        String repeatableTypeName = findRepeatableAnnotationContainerInternal(annotation.getName());
+        return hasAnnotation(repeatableTypeName != null ? repeatableTypeName : annotation.getName());
+    }
+
+    @Override
+    public boolean hasStereotype(@Nullable Class<? extends Annotation> annotation) {
+        if (annotation == null) {
+            return false;
+        }
+        String repeatableTypeName = findRepeatableAnnotationContainerInternal(annotation.getName());
+        return hasStereotype(repeatableTypeName != null ? repeatableTypeName : annotation.getName());
+    }
+
+    /**
+     * The annotation types of this metadata as bit sets, built on first use. Subclasses such as
+     * {@link MutableAnnotationMetadata} can change the annotations after construction and are not indexed.
+     *
+     * @return The index, or {@code null} if this metadata is not indexed
+     */
+    @Nullable
+    private TypeIndex typeIndex() {
+        TypeIndex index = typeIndex;
+        if (index == null) {
+            if (getClass() != DefaultAnnotationMetadata.class) {
+                return null;
+            }
+            index = new TypeIndex(
+                AnnotationTypeIds.bitSet(declaredAnnotations),
+                AnnotationTypeIds.bitSet(allAnnotations),
+                AnnotationTypeIds.bitSet(declaredStereotypes),
+                AnnotationTypeIds.bitSet(allStereotypes)
+            );
+            typeIndex = index;
+        }
+        return index;
+    }
+
     @NonNull
     @Override
     public Optional<Class<? extends Annotation>> getAnnotationTypeByStereotype(@Nullable String stereotype) {
@@ -1569,6 +1630,20 @@ public class DefaultAnnotationMetadata extends AbstractAnnotationMetadata implem
         return AnnotationMetadataSupport.getRepeatableAnnotation(annotation);
     }
 
+    /**
+     * Bit sets of the annotation type ids, see {@link AnnotationTypeIds}.
+     *
+     * @param declaredAnnotations The declared annotations
+     * @param allAnnotations      All annotations
+     * @param declaredStereotypes The declared stereotypes
+     * @param allStereotypes      All stereotypes
+     */
+    private record TypeIndex(long[] declaredAnnotations,
+                             long[] allAnnotations,
+                             long[] declaredStereotypes,
+                             long[] allStereotypes) {
+    }
+
     private <T extends Annotation> List<AnnotationValue<T>> collectResult(List<AnnotationValue<T>> results, Map<CharSequence, Object> values) {
         if (values != null) {
             Object v = values.get(AnnotationMetadata.VALUE_MEMBER);
@@ -274,6 +274,118 @@ public abstract class AbstractInitializableBeanIntrospection<B> implements Unsaf
         throw unknownDispatchAtIndexException(index);
     }
 
+    /**
+     * Reads the {@code int} property at the dispatch index. Overridden by generated introspections
+     * that have {@code int} properties, to read them without boxing.
+     *
+     * @param index  The read method index
+     * @param target The target
+     * @return The value
+     * @since 4.8.0
+     */
+    @UsedByGeneratedCode
+    protected int dispatchGetInt(int index, @NonNull Object target) {
+        return this.<Number>dispatchOne(index, target, null).intValue();
+    }
+
+    /**
+     * Reads the {@code long} property at the dispatch index. Overridden by generated introspections
+     * that have {@code long} properties, to read them without boxing.
+     *
+     * @param index  The read method index
+     * @param target The target
+     * @return The value
+     * @since 4.8.0
+     */
+    @UsedByGeneratedCode
+    protected long dispatchGetLong(int index, @NonNull Object target) {
+        return this.<Number>dispatchOne(index, target, null).longValue();
+    }
+
+    /**
+     * Reads the {@code double} property at the dispatch index. Overridden by generated introspections
+     * that have {@code double} properties, to read them without boxing.
+     *
+     * @param index  The read method index
+     * @param target The target
+     * @return The value
+     * @since 4.8.0
+     */
+    @UsedByGeneratedCode
+    protected double dispatchGetDouble(int index, @NonNull Object target) {
+        return this.<Number>dispatchOne(index, target, null).doubleValue();
+    }
+
+    /**
+     * Reads the {@code boolean} property at the dispatch index. Overridden by generated introspections
+     * that have {@code boolean} properties, to read them without boxing.
+     *
+     * @param index  The read method index
+     * @param target The target
+     * @return The value
+     * @since 4.8.0
+     */
+    @UsedByGeneratedCode
+    protected boolean dispatchGetBoolean(int index, @NonNull Object target) {
+        return this.<Boolean>dispatchOne(index, target, null);
+    }
+
+    /**
+     * Writes the {@code int} property at the dispatch index. Overridden by generated introspections
+     * that have {@code int} properties, to write them without boxing.
+     *
+     * @param index  The write method index
+     * @param target The target
+     * @param value  The value
+     * @since 4.8.0
+     */
+    @UsedByGeneratedCode
+    protected void dispatchSetInt(int index, @NonNull Object target, int value) {
+        dispatchOne(index, target, value);
+    }
+
+    /**
+     * Writes the {@code long} property at the dispatch index. Overridden by generated introspections
+     * that have {@code long} properties, to write them without boxing.
+     *
+     * @param index  The write method index
+     * @param target The target
+     * @param value  The value
+     * @since 4.8.0
+     */
+    @UsedByGeneratedCode
+    protected void dispatchSetLong(int index, @NonNull Object target, long value) {
+        dispatchOne(index, target, value);
+    }
+
+    /**
+     * Writes the {@code double} property at the dispatch index. Overridden by generated introspections
+     * that have {@code double} properties, to write them without boxing.
+     *
+     * @param index  The write method index
+     * @param target The target
+     * @param value  The value
+     * @since 4.8.0
+     */
+    @UsedByGeneratedCode
+    protected void dispatchSetDouble(int index, @NonNull Object target, double value) {
+        dispatchOne(index, target, value);
+    }
+
+    /**
+     * Writes the {@code boolean} property at the dispatch index. Overridden by generated introspections
+     * that have {@code boolean} properties, to write them without boxing.
+     *
+     * @param index  The write method index
+     * @param target The target
+     * @param value  The value
+     * @since 4.8.0
+     */
+    @UsedByGeneratedCode
+    protected void dispatchSetBoolean(int index, @NonNull Object target, boolean value) {
+        dispatchOne(index, target, value);
+    }
+
     /**
      * Creates a new exception when the dispatch at index is not found.
      *
@@ -929,6 +1041,40 @@ public abstract class AbstractInitializableBeanIntrospection<B> implements Unsaf
             return dispatchOne(ref.getMethodIndex, bean, null);
         }
 
+        @Override
+        public int getInt(@NonNull B bean) {
+            checkRead(bean);
+            return dispatchGetInt(ref.getMethodIndex, bean);
+        }
+
+        @Override
+        public long getLong(@NonNull B bean) {
+            checkRead(bean);
+            return dispatchGetLong(ref.getMethodIndex, bean);
+        }
+
+        @Override
+        public double getDouble(@NonNull B bean) {
+            checkRead(bean);
+            return dispatchGetDouble(ref.getMethodIndex, bean);
+        }
+
+        @Override
+        public boolean getBoolean(@NonNull B bean) {
+            checkRead(bean);
+            return dispatchGetBoolean(ref.getMethodIndex, bean);
+        }
+
+        private void checkRead(B bean) {
+            ArgumentUtils.requireNonNull("bean", bean);
+            if (!beanType.isInstance(bean)) {
+                throw new IllegalArgumentException("Invalid bean [" + bean + "] for type: " + beanType);
+            }
+            if (isWriteOnly()) {
+                throw new UnsupportedOperationException("Cannot read from a write-only property: " + getName());
+            }
+        }
+
         @Override
         public void set(@NonNull B bean, @Nullable P value) {
             ArgumentUtils.requireNonNull("bean", bean);
@@ -945,6 +1091,43 @@ public abstract class AbstractInitializableBeanIntrospection<B> implements Unsaf
             dispatchOne(ref.setMethodIndex, bean, value);
         }
 
+        @Override
+        public void setInt(@NonNull B bean, int value) {
+            checkWrite(bean, Integer.class);
+            dispatchSetInt(ref.setMethodIndex, bean, value);
+        }
+
+        @Override
+        public void setLong(@NonNull B bean, long value) {
+            checkWrite(bean, Long.class);
+            dispatchSetLong(ref.setMethodIndex, bean, value);
+        }
+
+        @Override
+        public void setDouble(@NonNull B bean, double value) {
+            checkWrite(bean, Double.class);
+            dispatchSetDouble(ref.setMethodIndex, bean, value);
+        }
+
+        @Override
+        public void setBoolean(@NonNull B bean, boolean value) {
+            checkWrite(bean, Boolean.class);
+            dispatchSetBoolean(ref.setMethodIndex, bean, value);
+        }
+
+        private void checkWrite(B bean, Class<?> valueType) {
+            ArgumentUtils.requireNonNull("bean", bean);
+            if (!beanType.isInstance(bean)) {
+                throw new IllegalArgumentException("Invalid bean [" + bean + "] for type: " + beanType);
+            }
+            if (isReadOnly()) {
+                throw new UnsupportedOperationException("Cannot write a read-only property: " + getName());
+            }
+            if (typeOrWrapperType != valueType) {
+                throw new IllegalArgumentException("Specified value of type [" + valueType.getName() + "] is not of the correct type: " + getType());
+            }
+        }
+
         @Override
         public void setUnsafe(B bean, P value) {
             dispatchOne(ref.setMethodIndex, bean, value);
@@ -1067,6 +1250,40 @@ public abstract class AbstractInitializableBeanIntrospection<B> implements Unsaf
             dispatchOne(setMethodIndex, bean, value);
         }
 
+        @Override
+        public void setInt(@NonNull B bean, int value) {
+            checkWrite(bean, Integer.class);
+            dispatchSetInt(setMethodIndex, bean, value);
+        }
+
+        @Override
+        public void setLong(@NonNull B bean, long value) {
+            checkWrite(bean, Long.class);
+            dispatchSetLong(setMethodIndex, bean, value);
+        }
+
+        @Override
+        public void setDouble(@NonNull B bean, double value) {
+            checkWrite(bean, Double.class);
+            dispatchSetDouble(setMethodIndex, bean, value);
+        }
+
+        @Override
+        public void setBoolean(@NonNull B bean, boolean value) {
+            checkWrite(bean, Boolean.class);
+            dispatchSetBoolean(setMethodIndex, bean, value);
+        }
+
+        private void checkWrite(B bean, Class<?> valueType) {
+            ArgumentUtils.requireNonNull("bean", bean);
+            if (!beanType.isInstance(bean)) {
+                throw new IllegalArgumentException("Invalid bean [" + bean + "] for type: " + beanType);
+            }
+            if (typeOrWrapperType != valueType) {
+                throw new IllegalArgumentException("Specified value of type [" + valueType.getName() + "] is not of the correct type: " + getType());
+            }
+        }
+
         @Override
         public B withValue(@NonNull B bean, @Nullable P value) {
             ArgumentUtils.requireNonNull("bean", bean);
@@ -1157,6 +1374,37 @@ public abstract class AbstractInitializableBeanIntrospection<B> implements Unsaf
             return dispatchOne(getMethodIndex, bean, null);
         }
 
+        @Override
+        public int getInt(@NonNull B bean) {
+            checkRead(bean);
+            return dispatchGetInt(getMethodIndex, bean);
+        }
+
+        @Override
+        public long getLong(@NonNull B bean) {
+            checkRead(bean);
+            return dispatchGetLong(getMethodIndex, bean);
+        }
+
+        @Override
+        public double getDouble(@NonNull B bean) {
+            checkRead(bean);
+            return dispatchGetDouble(getMethodIndex, bean);
+        }
+
+        @Override
+        public boolean getBoolean(@NonNull B bean) {
+            checkRead(bean);
+            return dispatchGetBoolean(getMethodIndex, bean);
+        }
+
+        private void checkRead(B bean) {
+            ArgumentUtils.requireNonNull("bean", bean);
+            if (!beanType.isInstance(bean)) {
+                throw new IllegalArgumentException("Invalid bean [" + bean + "] for type: " + beanType);
+            }
+        }
+
         @Override
         public String toString() {
             return "BeanReadProperty{" +
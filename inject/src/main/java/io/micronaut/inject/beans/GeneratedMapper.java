@@ -0,0 +1,90 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.inject.beans;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.annotation.UsedByGeneratedCode;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.type.Argument;
+
+/**
+ * A mapping generated at compilation time for a {@link io.micronaut.context.annotation.Mapper} method.
+ * The generated code reads the properties of the source and creates the target with direct invocations,
+ * only falling back to the {@link ConversionService} for properties whose types are not assignable.
+ *
+ * <p>The generated class is stored as an instantiated class value in the internal {@link #ANNOTATION_GENERATED}
+ * annotation of the method, so the annotation metadata creates the instance and no reflection is needed to load it.
+ * The {@link io.micronaut.context.annotation.Mapper} annotation itself is left unchanged.</p>
+ *
+ * @since 4.8.0
+ */
+@Internal
+@UsedByGeneratedCode
+public interface GeneratedMapper {
+
+    /**
+     * The name of the internal annotation added to the mapper method, its value is the generated class.
+     */
+    String ANNOTATION_GENERATED = "io.micronaut.inject.beans.GeneratedMapper";
+
+    /**
+     * Map the source object.
+     *
+     * @param source            The source object
+     * @param conversionService The conversion service for properties that require conversion
+     * @return The mapped object
+     */
+    @NonNull
+    Object map(@NonNull Object source, @NonNull ConversionService conversionService);
+
+    /**
+     * Converts the value of a source property, passing null through like the runtime mapping.
+     *
+     * @param conversionService The conversion service
+     * @param value             The value
+     * @param argument          The target property
+     * @param <T>               The target type
+     * @return The converted value, or null if the value is null
+     * @throws io.micronaut.core.convert.exceptions.ConversionErrorException if the value cannot be converted
+     */
+    @UsedByGeneratedCode
+    @Nullable
+    static <T> T convert(@NonNull ConversionService conversionService, @Nullable Object value, @NonNull Argument<T> argument) {
+        if (value == null) {
+            return null;
+        }
+        return conversionService.convertRequired(value, argument);
+    }
+
+    /**
+     * Validates a value passed to a non-null argument of the mapped type.
+     *
+     * @param value The value
+     * @param name  The argument name
+     * @param <T>   The value type
+     * @return The value
+     * @throws IllegalArgumentException if the value is null
+     */
+    @UsedByGeneratedCode
+    static <T> T requireNonNull(@Nullable T value, @NonNull String name) {
+        if (value == null) {
+            throw new IllegalArgumentException("Non-null argument [" + name + "] specified as a null");
+        }
+        return value;
+    }
+}
@@ -27,6 +27,9 @@ import spock.lang.Specification
 import spock.util.environment.Jvm
 import spock.util.environment.RestoreSystemProperties
 
+import java.nio.file.Files
+import java.nio.file.Path
+
 /**
  * Created by graemerocher on 12/06/2017.
  */
@@ -427,6 +430,54 @@ class DefaultEnvironmentSpec extends Specification {
         env.close()
     }
 
+    void "test refresh and diff only evicts changed keys"() {
+        given:
+        Map<String, Object> config = ['foo.bar': 'one', 'other.value': 'two']
+        def env = new DefaultEnvironment({["test"]})
+        env.addPropertySource(PropertySource.of('custom', config))
+        env.start()
+
+        expect:
+        env.getRequiredProperty('foo.bar', String) == 'one'
+        env.getRequiredProperty('other.value', String) == 'two'
+
+        when:
+        config.put('foo.bar', 'changed')
+        def diff = env.refreshAndDiff()
+
+        then:
+        diff.keySet() == ['foo.bar'] as Set
+        env.getRequiredProperty('foo.bar', String) == 'changed'
+        env.getRequiredProperty('other.value', String) == 'two'
+
+        cleanup:
+        env.close()
+    }
+
+    void "test refresh and diff re-resolves placeholders that reference changed keys"() {
+        given:
+        Map<String, Object> config = ['a': '${b}', 'b': 'one', 'list': ['${b}', 'x']]
+        def env = new DefaultEnvironment({["test"]})
+        env.addPropertySource(PropertySource.of('custom', config))
+        env.start()
+
+        expect:
+        env.getRequiredProperty('a', String) == 'one'
+        env.getRequiredProperty('list', List) == ['one', 'x']
+
+        when:
+        config.put('b', 'two')
+        def diff = env.refreshAndDiff()
+
+        then:
+        diff.keySet() == ['b'] as Set
+        env.getRequiredProperty('a', String) == 'two'
+        env.getRequiredProperty('list', List) == ['two', 'x']
+
+        cleanup:
+        env.close()
+    }
+
     @RestoreSystemProperties
     void "test property source order"() {
         when:
@@ -851,6 +902,60 @@ class DefaultEnvironmentSpec extends Specification {
         then: 'the environment is deduced'
         env.activeNames == ["test", Environment.KUBERNETES, Environment.CLOUD] as Set
     }
+    @RestoreSystemProperties
+    void "test the property catalog is restored from a snapshot on the next start"() {
+        given:
+        Path snapshot = Files.createTempDirectory("catalog").resolve("catalog.bin")
+        System.setProperty(Environment.CONFIG_SNAPSHOT_KEY, snapshot.toString())
+        System.setProperty("snapshot.foo", "bar")
+        System.setProperty("snapshot.placeholder", '${snapshot.foo}')
+
+        when: "the environment is started without a snapshot"
+        def first = new CountingEnvironment().start()
+
+        then: "the property sources are processed and the snapshot is written"
+        first.processed > 0
+        Files.exists(snapshot)
+        first.getRequiredProperty("snapshot.foo", String) == "bar"
+
+        when: "the environment is started again with the same property sources"
+        def second = new CountingEnvironment().start()
+
+        then: "the catalog is restored from the snapshot"
+        second.processed == 0
+        second.getRequiredProperty("snapshot.foo", String) == "bar"
+        second.getRequiredProperty("snapshot.placeholder", String) == "bar"
+        second.getProperty("snapshot", Map).get() == first.getProperty("snapshot", Map).get()
+
+        when: "a property source changes"
+        System.setProperty("snapshot.foo", "baz")
+        def third = new CountingEnvironment().start()
+
+        then: "the stale snapshot is ignored"
+        third.processed > 0
+        third.getRequiredProperty("snapshot.foo", String) == "baz"
+        third.getRequiredProperty("snapshot.placeholder", String) == "baz"
+
+        cleanup:
+        first?.close()
+        second?.close()
+        third?.close()
+    }
+
+    static class CountingEnvironment extends DefaultEnvironment {
+        int processed
+
+        CountingEnvironment() {
+            super({ ["test"] } as ApplicationContextConfiguration)
+        }
+
+        @Override
+        protected void processPropertySource(PropertySource properties, PropertySource.PropertyConvention convention) {
+            processed++
+            super.processPropertySource(properties, convention)
+        }
+    }
+
     private static Environment startEnv(String files) {
         new DefaultEnvironment({["test"]}) {
             @Override
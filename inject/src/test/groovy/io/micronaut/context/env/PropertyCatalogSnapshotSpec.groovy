@@ -0,0 +1,76 @@
+package io.micronaut.context.env
+
+import io.micronaut.core.convert.format.MapFormat
+import io.micronaut.core.naming.conventions.StringConvention
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+class PropertyCatalogSnapshotSpec extends Specification {
+
+    @TempDir
+    Path tempDir
+
+    void "test catalog snapshot round trip"() {
+        given:
+        def sources = [
+                PropertySource.of("test", [
+                        'foo.bar'           : 'baz',
+                        'foo.list'          : [1, 2L, 'three'],
+                        'foo.nested'        : [a: [b: true]],
+                        'datasources[0].url': 'jdbc:h2:mem',
+                        'placeholder'       : '${foo.bar}'
+                ]),
+                PropertySource.of("env", ['MY_APP_NAME': 'test'], PropertySource.PropertyConvention.ENVIRONMENT_VARIABLE)
+        ]
+        def original = new PropertySourcePropertyResolver(sources as PropertySource[])
+        def file = tempDir.resolve("catalog.bin")
+        def fingerprint = PropertyCatalogSnapshot.fingerprint(sources)
+
+        when:
+        def written = PropertyCatalogSnapshot.write(file, fingerprint, original)
+        def restored = new PropertySourcePropertyResolver()
+        PropertyCatalogSnapshot.read(file, fingerprint).applyTo(restored)
+
+        then:
+        written
+        restored.getProperty('foo.bar', String).get() == 'baz'
+        restored.getProperty('foo.list', List).get() == [1, 2L, 'three']
+        restored.getProperty('foo.nested.a.b', Boolean).get()
+        restored.getProperty('datasources[0].url', String).get() == 'jdbc:h2:mem'
+        restored.getProperty('placeholder', String).get() == 'baz'
+        restored.getProperty('my.app.name', String).get() == 'test'
+        restored.getAllProperties(StringConvention.RAW, MapFormat.MapTransformation.FLAT) ==
+                original.getAllProperties(StringConvention.RAW, MapFormat.MapTransformation.FLAT)
+    }
+
+    void "test stale or corrupt snapshots are ignored"() {
+        given:
+        def sources = [PropertySource.of("test", ['foo.bar': 'baz'])]
+        def file = tempDir.resolve("catalog.bin")
+        PropertyCatalogSnapshot.write(file, PropertyCatalogSnapshot.fingerprint(sources), new PropertySourcePropertyResolver(sources as PropertySource[]))
+
+        expect:
+        PropertyCatalogSnapshot.read(file, PropertyCatalogSnapshot.fingerprint([PropertySource.of("test", ['foo.bar': 'changed'])])) == null
+
+        when:
+        byte[] bytes = Files.readAllBytes(file)
+        bytes[bytes.length - 1] ^= 0xFF
+        Files.write(file, bytes)
+
+        then:
+        PropertyCatalogSnapshot.read(file, PropertyCatalogSnapshot.fingerprint(sources)) == null
+    }
+
+    void "test values that cannot be encoded skip the snapshot"() {
+        given:
+        def sources = [PropertySource.of("test", ['foo.bar': new Object()])]
+        def file = tempDir.resolve("catalog.bin")
+
+        expect:
+        !PropertyCatalogSnapshot.write(file, PropertyCatalogSnapshot.fingerprint(sources), new PropertySourcePropertyResolver(sources as PropertySource[]))
+        !Files.exists(file)
+    }
+}
@@ -278,6 +278,29 @@ class PropertySourcePropertyResolverSpec extends Specification {
         segments[4].getValue(String.class) == "!"
     }
 
+    void "test placeholder segments are compiled once"() {
+        given:
+        Map<String, Object> parameters = [foo: "bar"]
+        DefaultPropertyPlaceholderResolver propertyPlaceholderResolver = new DefaultPropertyPlaceholderResolver(new MapPropertyResolver(parameters), ConversionService.SHARED)
+
+        expect:
+        propertyPlaceholderResolver.buildSegments("Hello \${foo} \${bar:test}!").is(propertyPlaceholderResolver.buildSegments("Hello \${foo} \${bar:test}!"))
+        propertyPlaceholderResolver.resolveRequiredPlaceholders("Hello \${foo} \${bar:test}!") == "Hello bar test!"
+
+        when:
+        parameters.put("bar", "baz")
+
+        then:
+        propertyPlaceholderResolver.resolveRequiredPlaceholders("Hello \${foo} \${bar:test}!") == "Hello bar baz!"
+        !propertyPlaceholderResolver.resolvePlaceholders("Hello \${foo").isPresent()
+
+        when:
+        propertyPlaceholderResolver.resolveRequiredPlaceholders("Hello \${foo")
+
+        then:
+        thrown(ConfigurationException)
+    }
+
     void "test random placeholders for properties"() {
         given:
         def values = [
@@ -47,6 +47,52 @@ class AnnotationMetadataSpec extends Specification {
         noExceptionThrown()
     }
 
+    void "test annotation and stereotype lookup of immutable metadata"() {
+        given:
+        AnnotationMetadata metadata = new DefaultAnnotationMetadata(
+                ['test.Declared': [:]],
+                ['test.DeclaredStereotype': [:]],
+                ['test.DeclaredStereotype': [:], 'test.InheritedStereotype': [:]],
+                ['test.Declared': [:], 'test.Inherited': [:]],
+                null
+        )
+
+        expect:
+        metadata.hasDeclaredAnnotation('test.Declared')
+        !metadata.hasDeclaredAnnotation('test.Inherited')
+        metadata.hasAnnotation('test.Declared')
+        metadata.hasAnnotation('test.Inherited')
+        !metadata.hasAnnotation('test.DeclaredStereotype')
+        metadata.hasStereotype('test.Declared')
+        metadata.hasStereotype('test.Inherited')
+        metadata.hasStereotype('test.DeclaredStereotype')
+        metadata.hasStereotype('test.InheritedStereotype')
+        metadata.hasDeclaredStereotype('test.Declared')
+        metadata.hasDeclaredStereotype('test.DeclaredStereotype')
+        !metadata.hasDeclaredStereotype('test.Inherited')
+        !metadata.hasDeclaredStereotype('test.InheritedStereotype')
+        !metadata.hasStereotype('test.Missing')
+        !metadata.hasStereotype((String) null)
+        !metadata.hasStereotype('')
+        !metadata.hasAnnotation((Class) null)
+        !metadata.hasStereotype(EachBean)
+    }
+
+    void "test mutable metadata sees annotations added after a lookup"() {
+        given:
+        MutableAnnotationMetadata metadata = new MutableAnnotationMetadata([:], null, null, [:], null, false)
+
+        expect:
+        !metadata.hasAnnotation("foo.Bar")
+
+        when:
+        metadata.addAnnotation("foo.Bar", [:])
+
+        then:
+        metadata.hasAnnotation("foo.Bar")
+        metadata.hasStereotype("foo.Bar")
+    }
+
     AnnotationMetadata newMetadata(AnnotationValueBuilder... builders) {
 
         def values = builders.collect({ it.build() })
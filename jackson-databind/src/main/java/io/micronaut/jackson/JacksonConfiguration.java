@@ -74,9 +74,16 @@ public class JacksonConfiguration implements JsonConfiguration {
      * The property used to enable bean introspection.
      */
     public static final String PROPERTY_USE_BEAN_INTROSPECTION = "jackson.bean-introspection-module";
+    /**
+     * The property used to enable the dedicated bean introspection serializers.
+     *
+     * @since 4.8.0
+     */
+    public static final String PROPERTY_BEAN_INTROSPECTION_SERIALIZERS = "jackson.bean-introspection-serializers";
 
     private boolean moduleScan = true;
     private boolean beanIntrospectionModule = true;
+    private boolean beanIntrospectionSerializers = false;
     private String dateFormat;
     private Locale locale;
     private TimeZone timeZone;
@@ -113,6 +120,31 @@ public class JacksonConfiguration implements JsonConfiguration {
         this.beanIntrospectionModule = beanIntrospectionModule;
     }
 
+    /**
+     * Whether introspected beans should be written by a dedicated serializer that writes string and primitive
+     * properties directly to the generator, instead of going through the Jackson serializer of each property.
+     *
+     * @return True if it should
+     * @since 4.8.0
+     */
+    @Experimental
+    public boolean isBeanIntrospectionSerializers() {
+        return beanIntrospectionSerializers;
+    }
+
+    /**
+     * Whether introspected beans should be written by a dedicated serializer that writes string and primitive
+     * properties directly to the generator. Only has an effect if the bean introspection module is enabled.
+     * Default value ({@code false}).
+     *
+     * @param beanIntrospectionSerializers True if it should
+     * @since 4.8.0
+     */
+    @Experimental
+    public void setBeanIntrospectionSerializers(boolean beanIntrospectionSerializers) {
+        this.beanIntrospectionSerializers = beanIntrospectionSerializers;
+    }
+
     /**
      * Whether Jackson modules should be scanned for.
      *
@@ -67,10 +67,15 @@ import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.AnyGetterWriter;
 import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializer;
 import com.fasterxml.jackson.databind.ser.BeanSerializerBuilder;
 import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
 import com.fasterxml.jackson.databind.ser.impl.PropertySerializerMap;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+import com.fasterxml.jackson.databind.ser.std.BooleanSerializer;
 import com.fasterxml.jackson.databind.ser.std.MapSerializer;
+import com.fasterxml.jackson.databind.ser.std.NumberSerializers;
+import com.fasterxml.jackson.databind.ser.std.StringSerializer;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.fasterxml.jackson.databind.util.SimpleBeanPropertyDefinition;
 import io.micronaut.context.annotation.Requires;
@@ -136,6 +141,11 @@ public class BeanIntrospectionModule extends SimpleModule {
     @Nullable
     private final JacksonDeserializationPreInstantiateCallback preInstantiateCallback;
 
+    /**
+     * Whether introspected beans are written by {@link IntrospectionBeanSerializer}.
+     */
+    private final boolean introspectionSerializers;
+
     /**
      * Default constructor.
      */
@@ -148,9 +158,22 @@ public class BeanIntrospectionModule extends SimpleModule {
      *
      * @param preInstantiateCallback The optional instance {@link JacksonDeserializationPreInstantiateCallback}
      */
-    @Inject
     public BeanIntrospectionModule(@Nullable JacksonDeserializationPreInstantiateCallback preInstantiateCallback) {
+        this(preInstantiateCallback, null);
+    }
+
+    /**
+     * The constructor.
+     *
+     * @param preInstantiateCallback The optional instance {@link JacksonDeserializationPreInstantiateCallback}
+     * @param jacksonConfiguration   The optional Jackson configuration
+     * @since 4.8.0
+     */
+    @Inject
+    public BeanIntrospectionModule(@Nullable JacksonDeserializationPreInstantiateCallback preInstantiateCallback,
+                                   @Nullable JacksonConfiguration jacksonConfiguration) {
         this.preInstantiateCallback = preInstantiateCallback;
+        this.introspectionSerializers = jacksonConfiguration != null && jacksonConfiguration.isBeanIntrospectionSerializers();
         setDeserializerModifier(new BeanIntrospectionDeserializerModifier());
         setSerializerModifier(new BeanIntrospectionSerializerModifier());
     }
@@ -440,6 +463,113 @@ public class BeanIntrospectionModule extends SimpleModule {
                 return newBuilder;
             }
         }
+
+        @Override
+        public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc, JsonSerializer<?> serializer) {
+            if (introspectionSerializers
+                && serializer.getClass() == BeanSerializer.class
+                && findIntrospection(beanDesc.getBeanClass()) != null) {
+                return new IntrospectionBeanSerializer((BeanSerializer) serializer);
+            }
+            return super.modifySerializer(config, beanDesc, serializer);
+        }
+    }
+
+    /**
+     * Serializer of introspected beans that writes string and primitive properties directly to the generator. The
+     * properties that need their Jackson serializer, serialization with an active view, object ids and filters are
+     * handled by {@link BeanSerializer}.
+     */
+    private static final class IntrospectionBeanSerializer extends BeanSerializer {
+
+        private DirectProperty[] directProperties;
+
+        IntrospectionBeanSerializer(BeanSerializerBase src) {
+            super(src);
+        }
+
+        private IntrospectionBeanSerializer(BeanSerializerBase src, BeanPropertyWriter[] properties, BeanPropertyWriter[] filteredProperties) {
+            super(src, properties, filteredProperties);
+        }
+
+        private IntrospectionBeanSerializer(BeanSerializerBase src, Set<String> toIgnore, Set<String> toInclude) {
+            super(src, toIgnore, toInclude);
+        }
+
+        @Override
+        protected BeanSerializerBase withProperties(BeanPropertyWriter[] properties, BeanPropertyWriter[] filteredProperties) {
+            return new IntrospectionBeanSerializer(this, properties, filteredProperties);
+        }
+
+        @Override
+        protected BeanSerializerBase withByNameInclusion(Set<String> toIgnore, Set<String> toInclude) {
+            return new IntrospectionBeanSerializer(this, toIgnore, toInclude);
+        }
+
+        @Override
+        protected void serializeFields(Object bean, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            if (_filteredProps != null && provider.getActiveView() != null) {
+                super.serializeFields(bean, gen, provider);
+                return;
+            }
+            DirectProperty[] properties = directProperties;
+            if (properties == null) {
+                // the property serializers are assigned when this serializer is resolved, so resolve the direct
+                // properties on first use
+                properties = DirectProperty.of(_props);
+                directProperties = properties;
+            }
+            int i = 0;
+            try {
+                for (; i < properties.length; i++) {
+                    properties[i].serialize(bean, gen, provider);
+                }
+                if (_anyGetterWriter != null) {
+                    _anyGetterWriter.getAndSerialize(bean, gen, provider);
+                }
+            } catch (Exception e) {
+                String name = (i == properties.length) ? "[anySetter]" : properties[i].writer.getName();
+                wrapAndThrow(provider, e, bean, name);
+            } catch (StackOverflowError e) {
+                JsonMappingException mappingException = new JsonMappingException(gen, "Infinite recursion (StackOverflowError)", e);
+                String name = (i == properties.length) ? "[anySetter]" : properties[i].writer.getName();
+                mappingException.prependPath(bean, name);
+                throw mappingException;
+            }
+        }
+    }
+
+    /**
+     * A property of {@link IntrospectionBeanSerializer}.
+     *
+     * @param writer              The property writer
+     * @param introspectionWriter The property writer if the property is written directly
+     * @param directType          The type written directly to the generator, or null
+     */
+    private record DirectProperty(BeanPropertyWriter writer,
+                                  @Nullable BeanIntrospectionPropertyWriter introspectionWriter,
+                                  @Nullable Class<?> directType) {
+
+        static DirectProperty[] of(BeanPropertyWriter[] writers) {
+            List<DirectProperty> properties = new ArrayList<>(writers.length);
+            for (BeanPropertyWriter writer : writers) {
+                if (writer == null) {
+                    continue;
+                }
+                if (writer instanceof BeanIntrospectionPropertyWriter introspectionWriter && introspectionWriter.directType() != null) {
+                    properties.add(new DirectProperty(writer, introspectionWriter, introspectionWriter.directType()));
+                } else {
+                    properties.add(new DirectProperty(writer, null, null));
+                }
+            }
+            return properties.toArray(new DirectProperty[0]);
+        }
+
+        void serialize(Object bean, JsonGenerator gen, SerializerProvider provider) throws Exception {
+            if (introspectionWriter == null || !introspectionWriter.writeDirect(bean, gen, directType)) {
+                writer.serializeAsField(bean, gen, provider);
+            }
+        }
     }
 
     /**
@@ -893,6 +1023,7 @@ public class BeanIntrospectionModule extends SimpleModule {
         final SerializableString fastName;
         private final JavaType type;
         private final boolean unwrapping;
+        private final Class<?> primitiveType;
 
         BeanIntrospectionPropertyWriter(BeanPropertyWriter src,
                                         UnsafeBeanProperty<Object, Object> beanProperty,
@@ -918,6 +1049,7 @@ public class BeanIntrospectionModule extends SimpleModule {
             _dynamicSerializers = (ser == null) ? PropertySerializerMap
                 .emptyForProperties() : null;
             this.unwrapping = beanProperty.hasAnnotation(JsonUnwrapped.class);
+            this.primitiveType = beanProperty.getType().isPrimitive() ? beanProperty.getType() : null;
         }
 
         BeanIntrospectionPropertyWriter(
@@ -943,6 +1075,7 @@ public class BeanIntrospectionModule extends SimpleModule {
             _dynamicSerializers = PropertySerializerMap
                 .emptyForProperties();
             this.unwrapping = beanProperty.hasAnnotation(JsonUnwrapped.class);
+            this.primitiveType = beanProperty.getType().isPrimitive() ? beanProperty.getType() : null;
         }
 
         @Override
@@ -983,12 +1116,77 @@ public class BeanIntrospectionModule extends SimpleModule {
             return false;
         }
 
+        /**
+         * Returns the type of property that can be written directly to the generator, without boxing the value or
+         * going through the property serializer. This is only the case for string and primitive properties that use
+         * the default Jackson serializer for their type and have no type information or custom suppression.
+         *
+         * @return The type, or {@code null} if the property needs its serializer
+         */
+        @Nullable
+        Class<?> directType() {
+            if (_typeSerializer != null || unwrapping || _views != null || _serializer == null
+                || (_suppressableValue != null && _suppressableValue != MARKER_FOR_EMPTY)) {
+                return null;
+            }
+            Class<?> propertyType = beanProperty.getType();
+            Class<?> serializerType = _serializer.getClass();
+            if (propertyType == String.class && serializerType == StringSerializer.class
+                || propertyType == int.class && serializerType == NumberSerializers.IntegerSerializer.class
+                || propertyType == long.class && serializerType == NumberSerializers.LongSerializer.class
+                || propertyType == double.class && serializerType == NumberSerializers.DoubleSerializer.class
+                || propertyType == boolean.class && serializerType == BooleanSerializer.class) {
+                return propertyType;
+            }
+            return null;
+        }
+
+        /**
+         * Writes the property directly to the generator.
+         *
+         * @param bean       The bean
+         * @param gen        The generator
+         * @param directType The type returned by {@link #directType()}
+         * @return False if the value is null and has to be written by {@link #serializeAsField}
+         * @throws IOException If the property could not be written
+         */
+        boolean writeDirect(Object bean, JsonGenerator gen, Class<?> directType) throws IOException {
+            if (directType == String.class) {
+                String value = (String) beanProperty.get(bean);
+                if (value == null) {
+                    return false;
+                }
+                if (value.isEmpty() && _suppressableValue == MARKER_FOR_EMPTY) {
+                    return true;
+                }
+                gen.writeFieldName(fastName);
+                gen.writeString(value);
+            } else if (directType == int.class) {
+                gen.writeFieldName(fastName);
+                gen.writeNumber(beanProperty.getInt(bean));
+            } else if (directType == long.class) {
+                gen.writeFieldName(fastName);
+                gen.writeNumber(beanProperty.getLong(bean));
+            } else if (directType == double.class) {
+                gen.writeFieldName(fastName);
+                gen.writeNumber(beanProperty.getDouble(bean));
+            } else {
+                gen.writeFieldName(fastName);
+                gen.writeBoolean(beanProperty.getBoolean(bean));
+            }
+            return true;
+        }
+
         @Override
         public final void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
             if (!inView(prov.getActiveView())) {
                 serializeAsOmittedField(bean, gen, prov);
                 return;
             }
+            if (primitiveType != null && directType() == primitiveType) {
+                writeDirect(bean, gen, primitiveType);
+                return;
+            }
             Object value = beanProperty.get(bean);
             // Null (etc.) handling; copied from super-class impl
             if (value == null) {
@@ -74,6 +74,43 @@ class BeanIntrospectionModuleSpec extends Specification {
 
     }
 
+    void "test serialize with bean introspection serializers"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run(
+                (JacksonConfiguration.PROPERTY_BEAN_INTROSPECTION_SERIALIZERS): true
+        )
+        ApplicationContext defaultCtx = ApplicationContext.run()
+        ObjectMapper objectMapper = ctx.getBean(ObjectMapper)
+
+        when:
+        Measurement measurement = new Measurement(
+                name: "temperature",
+                unit: "",
+                count: 3,
+                total: 10_000_000_000L,
+                ratio: 0.5d,
+                valid: true,
+                author: new Author(name: "Bob")
+        )
+        String result = objectMapper.writeValueAsString(measurement)
+
+        then:
+        objectMapper.serializerProviderInstance.findValueSerializer(Measurement).class.simpleName == "IntrospectionBeanSerializer"
+        result == '{"name":"temperature","count":3,"total":10000000000,"ratio":0.5,"valid":true,"author":{"name":"Bob"}}'
+        result == defaultCtx.getBean(ObjectMapper).writeValueAsString(measurement)
+
+        when:
+        PlantWithAnyGetter plant = new PlantWithAnyGetter(name: "Rose")
+        plant.addAttribute("color", "red")
+
+        then:
+        objectMapper.writeValueAsString(plant) == '{"name":"Rose","color":"red"}'
+
+        cleanup:
+        ctx.close()
+        defaultCtx.close()
+    }
+
     void "test serialize/deserialize wrap/unwrap -* complex"() {
         given:
         ApplicationContext ctx = ApplicationContext.run(
@@ -703,6 +740,18 @@ class BeanIntrospectionModuleSpec extends Specification {
         }
     }
 
+    @Introspected
+    static class Measurement {
+        String name
+        String unit
+        String note
+        int count
+        long total
+        double ratio
+        boolean valid
+        Author author
+    }
+
     @Introspected
     static class Publisher {
 
@@ -10,6 +10,7 @@ dependencies {
     api(projects.micronautRouter)
     api(projects.micronautDiscoveryCore)
     compileOnly(projects.micronautJacksonDatabind)
+    compileOnly(projects.micronautHttpServer)
     compileOnly(libs.micronaut.sql.jdbc) {
         exclude(group = "io.micronaut")
     }
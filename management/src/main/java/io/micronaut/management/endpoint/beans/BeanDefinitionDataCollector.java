@@ -15,6 +15,17 @@
  */
 package io.micronaut.management.endpoint.beans;
 
+import io.micronaut.core.annotation.Nullable;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * <p>Used to respond with bean information used for the {@link BeansEndpoint}.</p>
  *
@@ -29,4 +40,72 @@ public interface BeanDefinitionDataCollector<T> {
      * the given bean definitions
      */
     T getData();
+
+    /**
+     * Streams information about the available beans, one element per bean, so the full report
+     * never has to be materialized.
+     * <p>
+     * The default implementation builds the report with {@link #getData()}. If the report has the
+     * shape of the default report, a map with a {@code beans} map keyed by bean definition name and
+     * a {@code disabled} list, its entries are filtered and paginated. Otherwise the report is
+     * emitted as a single element.
+     *
+     * @param filter An optional filter the bean type or bean definition name must contain
+     * @param offset The number of beans to skip
+     * @param max    The maximum number of beans to emit
+     * @return A publisher that emits the data of each bean
+     * @since 4.8.0
+     */
+    default Publisher<?> streamData(@Nullable String filter, long offset, long max) {
+        return Flux.defer(() -> {
+            Object data = getData();
+            Mono<?> report = data instanceof Publisher<?> publisher ? Mono.from(publisher) : Mono.justOrEmpty(data);
+            return report.flatMapIterable(r -> entries(r, filter));
+        }).skip(offset).take(max);
+    }
+
+    private static List<Object> entries(Object report, @Nullable String filter) {
+        if (!(report instanceof Map<?, ?> map) || !(map.get("beans") instanceof Map<?, ?> beans)) {
+            return List.of(report);
+        }
+        List<Object> entries = new ArrayList<>(beans.size());
+        beans.entrySet().stream()
+            .sorted(Comparator.comparing(bean -> String.valueOf(bean.getKey())))
+            .forEach(bean -> {
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("name", String.valueOf(bean.getKey()));
+                if (bean.getValue() instanceof Map<?, ?> beanData) {
+                    beanData.forEach((key, value) -> entry.put(String.valueOf(key), value));
+                } else {
+                    entry.put("data", bean.getValue());
+                }
+                if (matches(entry, filter)) {
+                    entries.add(entry);
+                }
+            });
+        if (map.get("disabled") instanceof Iterable<?> disabled) {
+            for (Object disabledBean : disabled) {
+                Map<String, Object> entry = new LinkedHashMap<>();
+                if (disabledBean instanceof Map<?, ?> beanData) {
+                    beanData.forEach((key, value) -> entry.put(String.valueOf(key), value));
+                } else {
+                    entry.put("data", disabledBean);
+                }
+                entry.put("disabled", true);
+                if (matches(entry, filter)) {
+                    entries.add(entry);
+                }
+            }
+        }
+        return entries;
+    }
+
+    private static boolean matches(Map<String, Object> entry, @Nullable String filter) {
+        if (filter == null) {
+            return true;
+        }
+        Object name = entry.get("name");
+        Object type = entry.get("type");
+        return (name != null && name.toString().contains(filter)) || (type != null && type.toString().contains(filter));
+    }
 }
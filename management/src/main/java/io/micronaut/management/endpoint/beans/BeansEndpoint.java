@@ -15,9 +15,11 @@
  */
 package io.micronaut.management.endpoint.beans;
 
-import io.micronaut.core.async.annotation.SingleResult;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.management.endpoint.annotation.Endpoint;
 import io.micronaut.management.endpoint.annotation.Read;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
 
 /**
  * <p>Exposes an {@link Endpoint} to provide information about the beans of the application.</p>
@@ -38,11 +40,33 @@ public class BeansEndpoint {
     }
 
     /**
-     * @return A {@link org.reactivestreams.Publisher} with the beans
+     * @return The beans
      */
-    @Read
-    @SingleResult
     public Object getBeans() {
         return beanDefinitionDataCollector.getData();
     }
+
+    /**
+     * Returns the beans. If any of the parameters is specified the beans are streamed one by one as a JSON array
+     * instead of building the whole report.
+     *
+     * @param filter An optional filter the bean type or bean definition name must contain
+     * @param offset The number of beans to skip
+     * @param max    The maximum number of beans to return
+     * @return The beans, or a {@link org.reactivestreams.Publisher} of beans
+     * @since 4.8.0
+     */
+    @Read
+    public Object getBeans(@Nullable String filter, @Nullable Long offset, @Nullable Long max) {
+        if (filter == null && offset == null && max == null) {
+            // a single document, like the @SingleResult read operation this replaces
+            Object beans = getBeans();
+            return beans instanceof Publisher<?> publisher ? Mono.from(publisher) : beans;
+        }
+        return beanDefinitionDataCollector.streamData(
+            filter,
+            offset != null ? Math.max(0, offset) : 0,
+            max != null ? Math.max(0, max) : Long.MAX_VALUE
+        );
+    }
 }
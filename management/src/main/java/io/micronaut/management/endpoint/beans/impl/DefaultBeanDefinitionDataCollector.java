@@ -19,11 +19,14 @@ import io.micronaut.context.BeanContext;
 import io.micronaut.context.DisabledBean;
 import io.micronaut.context.Qualifier;
 import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.inject.BeanDefinition;
 import io.micronaut.management.endpoint.beans.BeanDefinitionData;
 import io.micronaut.management.endpoint.beans.BeanDefinitionDataCollector;
 import io.micronaut.management.endpoint.beans.BeansEndpoint;
 import jakarta.inject.Singleton;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
 
 import java.util.Collection;
 import java.util.Comparator;
@@ -31,6 +34,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * The default {@link BeanDefinitionDataCollector} implementation. Returns a {@link Map} with
@@ -68,6 +72,31 @@ public class DefaultBeanDefinitionDataCollector implements BeanDefinitionDataCol
         return beanData;
     }
 
+    @Override
+    public Publisher<Map<String, Object>> streamData(@Nullable String filter, long offset, long max) {
+        return Flux.defer(() -> {
+            Stream<Map<String, Object>> beans = beanContext.getAllBeanDefinitions()
+                .stream()
+                .filter(definition -> filter == null || definition.getBeanType().getName().contains(filter) || definition.getClass().getName().contains(filter))
+                .sorted(Comparator.comparing((BeanDefinition<?> bd) -> bd.getClass().getName()))
+                .map(definition -> {
+                    Map<String, Object> data = new LinkedHashMap<>();
+                    data.put("name", definition.getClass().getName());
+                    data.putAll(beanDefinitionData.getData(definition));
+                    return data;
+                });
+            Stream<Map<String, Object>> disabled = getDisabledBeans()
+                .stream()
+                .filter(disabledBean -> filter == null || String.valueOf(disabledBean.get("type")).contains(filter))
+                .map(disabledBean -> {
+                    Map<String, Object> data = new LinkedHashMap<>(disabledBean);
+                    data.put("disabled", true);
+                    return data;
+                });
+            return Flux.fromStream(Stream.concat(beans, disabled).skip(offset).limit(max));
+        });
+    }
+
     /**
      * @param definitions The bean definitions
      * @return A map of bean information.
@@ -16,7 +16,14 @@
 package io.micronaut.management.endpoint.routes;
 
 import io.micronaut.web.router.UriRouteInfo;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 /**
@@ -33,4 +40,38 @@ public interface RouteDataCollector<T> {
      * @return A publisher that returns data representing all given routes.
      */
     T getData(Stream<UriRouteInfo<?, ?>> routes);
+
+    /**
+     * Streams information about the given routes, one element per route, so the full report
+     * never has to be materialized.
+     * <p>
+     * The default implementation builds the report with {@link #getData(Stream)}. If the report is
+     * a map keyed by route, like the default report, one element is emitted per entry. Otherwise the
+     * report is emitted as a single element.
+     *
+     * @param routes Supplies a new java stream of the uri route infos for every subscription
+     * @return A publisher that emits the data of each route
+     * @since 4.8.0
+     */
+    default Publisher<?> streamData(Supplier<Stream<UriRouteInfo<?, ?>>> routes) {
+        return Flux.defer(() -> {
+            Object data = getData(routes.get());
+            Mono<?> report = data instanceof Publisher<?> publisher ? Mono.from(publisher) : Mono.justOrEmpty(data);
+            return report.flatMapIterable(r -> {
+                if (!(r instanceof Map<?, ?> map)) {
+                    return List.<Object>of(r);
+                }
+                return map.entrySet().stream().<Object>map(route -> {
+                    Map<String, Object> entry = new LinkedHashMap<>();
+                    entry.put("route", String.valueOf(route.getKey()));
+                    if (route.getValue() instanceof Map<?, ?> routeData) {
+                        routeData.forEach((key, value) -> entry.put(String.valueOf(key), value));
+                    } else {
+                        entry.put("data", route.getValue());
+                    }
+                    return entry;
+                }).toList();
+            });
+        });
+    }
 }
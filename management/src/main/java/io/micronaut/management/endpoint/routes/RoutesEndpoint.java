@@ -15,11 +15,13 @@
  */
 package io.micronaut.management.endpoint.routes;
 
-import io.micronaut.core.async.annotation.SingleResult;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.management.endpoint.annotation.Endpoint;
 import io.micronaut.management.endpoint.annotation.Read;
 import io.micronaut.web.router.Router;
 import io.micronaut.web.router.UriRouteInfo;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
 
 import java.util.Comparator;
 import java.util.stream.Stream;
@@ -49,11 +51,40 @@ public class RoutesEndpoint {
     /**
      * @return The routes data representing the routes.
      */
-    @Read
-    @SingleResult
     public Object getRoutes() {
-        Stream<UriRouteInfo<?, ?>> uriRoutes = router.uriRoutes()
+        return routeDataCollector.getData(sortedRoutes());
+    }
+
+    /**
+     * Returns the routes. If any of the parameters is specified the routes are streamed one by one as a JSON array
+     * instead of building the whole report.
+     *
+     * @param filter An optional filter the route path or HTTP method must contain
+     * @param offset The number of routes to skip
+     * @param max    The maximum number of routes to return
+     * @return The routes data, or a {@link org.reactivestreams.Publisher} of route data
+     * @since 4.8.0
+     */
+    @Read
+    public Object getRoutes(@Nullable String filter, @Nullable Long offset, @Nullable Long max) {
+        if (filter == null && offset == null && max == null) {
+            // a single document, like the @SingleResult read operation this replaces
+            Object routes = getRoutes();
+            return routes instanceof Publisher<?> publisher ? Mono.from(publisher) : routes;
+        }
+        return routeDataCollector.streamData(() -> {
+            Stream<UriRouteInfo<?, ?>> routes = sortedRoutes();
+            if (filter != null) {
+                routes = routes.filter(route -> route.getUriMatchTemplate().toPathString().contains(filter) || route.getHttpMethodName().equalsIgnoreCase(filter));
+            }
+            return routes
+                .skip(offset != null ? Math.max(0, offset) : 0)
+                .limit(max != null ? Math.max(0, max) : Long.MAX_VALUE);
+        });
+    }
+
+    private Stream<UriRouteInfo<?, ?>> sortedRoutes() {
+        return router.uriRoutes()
             .sorted(Comparator.comparing((UriRouteInfo<?, ?> r) -> r.getUriMatchTemplate().toPathString()).thenComparing(UriRouteInfo::getHttpMethodName));
-        return routeDataCollector.getData(uriRoutes);
     }
 }
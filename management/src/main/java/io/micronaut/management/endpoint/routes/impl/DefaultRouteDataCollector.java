@@ -22,9 +22,12 @@ import io.micronaut.management.endpoint.routes.RouteDataCollector;
 import io.micronaut.management.endpoint.routes.RoutesEndpoint;
 import io.micronaut.web.router.UriRouteInfo;
 import jakarta.inject.Singleton;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -58,6 +61,21 @@ public class DefaultRouteDataCollector implements RouteDataCollector<Map<String,
             ));
     }
 
+    @Override
+    public Publisher<Map<String, Object>> streamData(Supplier<Stream<UriRouteInfo<?, ?>>> routes) {
+        return Flux.defer(() -> Flux.fromStream(routes.get().map(route -> {
+            Map<String, Object> data = new LinkedHashMap<>();
+            data.put("route", getRouteKey(route));
+            Object routeData = this.routeData.getData(route);
+            if (routeData instanceof Map<?, ?> map) {
+                map.forEach((key, value) -> data.put(String.valueOf(key), value));
+            } else {
+                data.put("data", routeData);
+            }
+            return data;
+        })));
+    }
+
     /**
      * @param route The URI route
      * @return The route key
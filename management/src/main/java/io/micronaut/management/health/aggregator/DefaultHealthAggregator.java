@@ -17,6 +17,7 @@ package io.micronaut.management.health.aggregator;
 
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.context.env.Environment;
+import io.micronaut.core.naming.NameUtils;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.health.HealthStatus;
 import io.micronaut.management.endpoint.health.HealthEndpoint;
@@ -24,6 +25,7 @@ import io.micronaut.management.endpoint.health.HealthLevelOfDetail;
 import io.micronaut.management.health.indicator.HealthIndicator;
 import io.micronaut.management.health.indicator.HealthResult;
 import io.micronaut.runtime.ApplicationConfiguration;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
@@ -31,9 +33,13 @@ import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -57,6 +63,9 @@ public class DefaultHealthAggregator implements HealthAggregator<HealthResult> {
     private static final Logger LOG = LoggerFactory.getLogger(DefaultHealthAggregator.class);
 
     private final ApplicationConfiguration applicationConfiguration;
+    private final HealthAggregatorConfiguration aggregatorConfiguration;
+    private final Map<HealthIndicator, CachedResult> cachedResults = new ConcurrentHashMap<>();
+    private final Set<HealthIndicator> refreshing = ConcurrentHashMap.newKeySet();
 
     /**
      * Default constructor.
@@ -64,7 +73,18 @@ public class DefaultHealthAggregator implements HealthAggregator<HealthResult> {
      * @param applicationConfiguration The application configuration.
      */
     public DefaultHealthAggregator(ApplicationConfiguration applicationConfiguration) {
+        this(applicationConfiguration, new HealthAggregatorConfiguration());
+    }
+
+    /**
+     * @param applicationConfiguration The application configuration.
+     * @param aggregatorConfiguration  The configuration of how indicators are evaluated
+     * @since 4.8.0
+     */
+    @Inject
+    public DefaultHealthAggregator(ApplicationConfiguration applicationConfiguration, HealthAggregatorConfiguration aggregatorConfiguration) {
         this.applicationConfiguration = applicationConfiguration;
+        this.aggregatorConfiguration = aggregatorConfiguration;
     }
 
     @Override
@@ -107,11 +127,84 @@ public class DefaultHealthAggregator implements HealthAggregator<HealthResult> {
     protected Flux<HealthResult> aggregateResults(HealthIndicator[] indicators) {
         return Flux.merge(
             Arrays.stream(indicators)
-                .map(HealthIndicator::getResult)
+                .map(this::evaluate)
                 .collect(Collectors.toList())
         );
     }
 
+    /**
+     * Evaluates a single indicator, applying the configured timeout and serving the results from the cache
+     * if caching is enabled. All results emitted by the indicator are kept.
+     *
+     * @param indicator The indicator
+     * @return The results of the indicator
+     */
+    private Publisher<HealthResult> evaluate(HealthIndicator indicator) {
+        Duration cacheTtl = aggregatorConfiguration.getCacheTtl();
+        if (cacheTtl == null) {
+            return withTimeout(indicator);
+        }
+        CachedResult cached = cachedResults.get(indicator);
+        if (cached == null) {
+            return Flux.from(withTimeout(indicator))
+                .collectList()
+                .doOnNext(results -> cachedResults.put(indicator, new CachedResult(results, System.nanoTime())))
+                .flatMapIterable(results -> results);
+        }
+        long age = System.nanoTime() - cached.timestamp();
+        if (age <= cacheTtl.toNanos()) {
+            return Flux.fromIterable(cached.results());
+        }
+        refreshInBackground(indicator);
+        return Flux.fromIterable(cached.results()).map(result -> staleResult(result, age));
+    }
+
+    private void refreshInBackground(HealthIndicator indicator) {
+        if (refreshing.add(indicator)) {
+            Flux.from(withTimeout(indicator))
+                .collectList()
+                .doFinally(signal -> refreshing.remove(indicator))
+                .subscribe(
+                    results -> cachedResults.put(indicator, new CachedResult(results, System.nanoTime())),
+                    e -> LOG.error("Error refreshing health indicator [{}]: {}", indicator, e.getMessage(), e)
+                );
+        }
+    }
+
+    private Publisher<HealthResult> withTimeout(HealthIndicator indicator) {
+        Duration timeout = aggregatorConfiguration.getTimeout();
+        if (timeout == null) {
+            return indicator.getResult();
+        }
+        // the timeout bounds the whole evaluation, not each result
+        return Flux.from(indicator.getResult())
+            .collectList()
+            .timeout(timeout, Mono.fromSupplier(() -> List.of(timedOutResult(indicator, timeout))))
+            .flatMapIterable(results -> results);
+    }
+
+    private HealthResult timedOutResult(HealthIndicator indicator, Duration timeout) {
+        CachedResult previous = cachedResults.get(indicator);
+        String name = previous != null && !previous.results().isEmpty() ? previous.results().get(0).getName() :
+            NameUtils.decapitalizeWithoutSuffix(indicator.getClass().getSimpleName(), "HealthIndicator", "Indicator");
+        Map<String, String> error = new LinkedHashMap<>(1);
+        error.put("error", "Health indicator did not respond within " + timeout);
+        return HealthResult.builder(name, HealthStatus.DOWN).details(error).build();
+    }
+
+    private HealthResult staleResult(HealthResult result, long ageNanos) {
+        Map<String, Object> details = new LinkedHashMap<>();
+        Object originalDetails = result.getDetails();
+        if (originalDetails instanceof Map<?, ?> map) {
+            map.forEach((key, value) -> details.put(String.valueOf(key), value));
+        } else if (originalDetails != null) {
+            details.put("details", originalDetails);
+        }
+        details.put("stale", true);
+        details.put("ageMillis", Duration.ofNanos(ageNanos).toMillis());
+        return HealthResult.builder(result.getName(), result.getStatus()).details(details).build();
+    }
+
     /**
      * @param results A list of health results
      * @return The aggregated details for the results
@@ -150,4 +243,13 @@ public class DefaultHealthAggregator implements HealthAggregator<HealthResult> {
             status
         ).details(details).build();
     }
+
+    /**
+     * The cached health results of an indicator.
+     *
+     * @param results   The results
+     * @param timestamp The {@link System#nanoTime()} the results were produced at
+     */
+    private record CachedResult(List<HealthResult> results, long timestamp) {
+    }
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.management.health.aggregator;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.management.endpoint.health.HealthEndpoint;
+
+import java.time.Duration;
+
+/**
+ * <p>Configuration for how the {@link DefaultHealthAggregator} evaluates health indicators.</p>
+ *
+ * @since 4.8.0
+ */
+@ConfigurationProperties(HealthAggregatorConfiguration.PREFIX)
+public class HealthAggregatorConfiguration {
+
+    /**
+     * The prefix for the health aggregator configuration.
+     */
+    public static final String PREFIX = HealthEndpoint.PREFIX + ".aggregator";
+
+    private Duration timeout;
+    private Duration cacheTtl;
+
+    /**
+     * @return The maximum time to wait for each health indicator, or {@code null} to wait indefinitely
+     */
+    public @Nullable Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Sets the maximum time to wait for each health indicator. An indicator that does not respond in time is
+     * reported as {@link io.micronaut.health.HealthStatus#DOWN}. Default value (null, no timeout).
+     *
+     * @param timeout The timeout
+     */
+    public void setTimeout(@Nullable Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    /**
+     * @return How long the result of a health indicator is served from the cache, or {@code null} if results are not cached
+     */
+    public @Nullable Duration getCacheTtl() {
+        return cacheTtl;
+    }
+
+    /**
+     * Sets how long the result of a health indicator is served from the cache. Once expired, the previous result
+     * is reported as stale while the indicator is re-evaluated in the background. Default value (null, no caching).
+     *
+     * @param cacheTtl The time to live of cached results
+     */
+    public void setCacheTtl(@Nullable Duration cacheTtl) {
+        this.cacheTtl = cacheTtl;
+    }
+}
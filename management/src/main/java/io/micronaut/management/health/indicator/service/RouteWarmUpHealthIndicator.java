@@ -0,0 +1,60 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.management.health.indicator.service;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.health.HealthStatus;
+import io.micronaut.http.server.RouteWarmUp;
+import io.micronaut.management.endpoint.health.HealthEndpoint;
+import io.micronaut.management.health.indicator.HealthIndicator;
+import io.micronaut.management.health.indicator.HealthResult;
+import io.micronaut.management.health.indicator.annotation.Readiness;
+import jakarta.inject.Singleton;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+
+import java.util.Map;
+
+/**
+ * <p>A {@link HealthIndicator} that reports the service as not ready until the {@link RouteWarmUp} has finished.</p>
+ *
+ * @since 4.8.0
+ */
+@Singleton
+@Requires(classes = RouteWarmUp.class)
+@Requires(beans = {HealthEndpoint.class, RouteWarmUp.class})
+@Readiness
+public class RouteWarmUpHealthIndicator implements HealthIndicator {
+
+    private static final String NAME = "routeWarmUp";
+
+    private final RouteWarmUp routeWarmUp;
+
+    /**
+     * @param routeWarmUp The route warm-up
+     */
+    public RouteWarmUpHealthIndicator(RouteWarmUp routeWarmUp) {
+        this.routeWarmUp = routeWarmUp;
+    }
+
+    @Override
+    public Publisher<HealthResult> getResult() {
+        return Flux.just(HealthResult.builder(NAME)
+            .status(routeWarmUp.isComplete() ? HealthStatus.UP : HealthStatus.DOWN)
+            .details(Map.of("routes", routeWarmUp.getRouteCount()))
+            .build());
+    }
+}
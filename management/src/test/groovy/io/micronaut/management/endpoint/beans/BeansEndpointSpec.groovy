@@ -23,6 +23,8 @@ import io.micronaut.http.HttpStatus
 import io.micronaut.inject.writer.BeanDefinitionWriter
 import io.micronaut.http.client.HttpClient
 import io.micronaut.runtime.server.EmbeddedServer
+import reactor.core.publisher.Flux
+import reactor.core.publisher.Mono
 import spock.lang.Specification
 
 class BeansEndpointSpec extends Specification {
@@ -54,4 +56,78 @@ class BeansEndpointSpec extends Specification {
         rxClient.close()
         embeddedServer.close()
     }
+
+    void "test beans endpoint streams filtered and paginated beans"() {
+        given:
+        EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, ['endpoints.beans.sensitive': false], Environment.TEST)
+        HttpClient client = embeddedServer.applicationContext.createBean(HttpClient, embeddedServer.getURL())
+
+        when:
+        List<Map> beans = client.toBlocking().retrieve("/beans?filter=io.micronaut.management.endpoint.beans", List)
+        List<Map> page = client.toBlocking().retrieve("/beans?filter=io.micronaut.management.endpoint.beans&offset=1&max=1", List)
+
+        then:
+        beans.find { it.name == "io.micronaut.management.endpoint.beans.\$BeansEndpoint" + BeanDefinitionWriter.CLASS_SUFFIX }.type == "io.micronaut.management.endpoint.beans.BeansEndpoint"
+        beans.every { it.type.startsWith("io.micronaut.management.endpoint.beans") }
+        page.size() == 1
+        page[0].name == beans[1].name
+
+        cleanup:
+        client.close()
+        embeddedServer.close()
+    }
+
+    void "test paginated beans include the disabled beans"() {
+        given:
+        EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, ['endpoints.beans.sensitive': false], Environment.TEST)
+        HttpClient client = embeddedServer.applicationContext.createBean(HttpClient, embeddedServer.getURL())
+
+        when:
+        List<Map> beans = client.toBlocking().retrieve("/beans?filter=io.micronaut.logging.PropertiesLoggingLevelsConfigurer", List)
+
+        then:
+        beans.find { it.disabled }.reasons == ["Required property [logger] not present"]
+
+        cleanup:
+        client.close()
+        embeddedServer.close()
+    }
+
+    void "test the unfiltered beans of a custom collector are a single result"() {
+        given:
+        BeanDefinitionDataCollector<Object> collector = new BeanDefinitionDataCollector<Object>() {
+            @Override
+            Object getData() {
+                Flux.just([first: 1], [second: 2])
+            }
+        }
+
+        when:
+        def beans = new BeansEndpoint(collector).getBeans(null, null, null)
+
+        then:
+        beans instanceof Mono
+        beans.block() == [first: 1]
+    }
+
+    void "test the default stream of a custom collector is filtered and paginated"() {
+        given:
+        Map report = [
+                beans   : [b: [type: 'com.example.B'], a: [type: 'com.example.A'], c: [type: 'org.example.C']],
+                disabled: [[type: 'com.example.D', reasons: ['off']]]
+        ]
+        BeanDefinitionDataCollector<Object> collector = new BeanDefinitionDataCollector<Object>() {
+            @Override
+            Object getData() {
+                report
+            }
+        }
+
+        expect:
+        Flux.from(collector.streamData(null, 0, Long.MAX_VALUE)).collectList().block()*.type == ['com.example.A', 'com.example.B', 'org.example.C', 'com.example.D']
+        Flux.from(collector.streamData('com.example', 1, 2)).collectList().block() == [
+                [name: 'b', type: 'com.example.B'],
+                [type: 'com.example.D', reasons: ['off'], disabled: true]
+        ]
+    }
 }
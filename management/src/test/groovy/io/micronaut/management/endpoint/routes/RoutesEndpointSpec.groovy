@@ -19,14 +19,22 @@ import io.micronaut.context.ApplicationContext
 import io.micronaut.context.annotation.Requires
 import io.micronaut.http.HttpResponse
 import io.micronaut.http.HttpStatus
+import io.micronaut.http.MediaType
 import io.micronaut.http.annotation.Controller
 import io.micronaut.http.annotation.Get
 import io.micronaut.http.annotation.Post
 import io.micronaut.http.annotation.Put
 import io.micronaut.http.client.HttpClient
+import io.micronaut.http.uri.UriMatchTemplate
+import io.micronaut.management.endpoint.routes.impl.DefaultRouteDataCollector
 import io.micronaut.runtime.server.EmbeddedServer
+import io.micronaut.web.router.UriRouteInfo
+import reactor.core.publisher.Flux
 import spock.lang.Specification
 
+import java.util.function.Supplier
+import java.util.stream.Stream
+
 /**
  * @author James Kleeh
  * @since 1.0
@@ -47,7 +55,7 @@ class RoutesEndpointSpec extends Specification {
         result['{[/refresh],method=[POST],produces=[application/json]}']['method'] == "[Ljava.lang.String; io.micronaut.management.endpoint.refresh.RefreshEndpoint.refresh(java.lang.Boolean force)"
         result['{[/test],method=[GET],produces=[application/json]}']['method'] == "java.lang.String io.micronaut.management.endpoint.routes.RoutesEndpointSpec\$TestController.index()"
         result['{[/test/generics],method=[PUT],produces=[application/json]}']['method'] == "java.util.Map<java.lang.String, java.lang.Integer> io.micronaut.management.endpoint.routes.RoutesEndpointSpec\$TestController.generics()"
-        result['{[/routes],method=[GET],produces=[application/json]}']['method'] == "java.lang.Object io.micronaut.management.endpoint.routes.RoutesEndpoint.getRoutes()"
+        result['{[/routes],method=[GET],produces=[application/json]}']['method'] == "java.lang.Object io.micronaut.management.endpoint.routes.RoutesEndpoint.getRoutes(java.lang.String filter, java.lang.Long offset, java.lang.Long max)"
         result['{[/test/post],method=[POST],produces=[application/json]}']['method'] == "io.micronaut.http.HttpResponse<java.lang.Object> io.micronaut.management.endpoint.routes.RoutesEndpointSpec\$TestController.post(java.lang.Integer number, java.lang.String text)"
 
         cleanup:
@@ -55,6 +63,44 @@ class RoutesEndpointSpec extends Specification {
         embeddedServer?.close()
     }
 
+    void "test routes endpoint streams filtered and paginated routes"() {
+        given:
+        EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, ['spec.name': getClass().simpleName, 'endpoints.routes.sensitive': false], "test")
+        HttpClient client = embeddedServer.applicationContext.createBean(HttpClient, embeddedServer.getURL())
+
+        when:
+        List<Map> all = client.toBlocking().retrieve("/routes?filter=/test", List)
+        List<Map> page = client.toBlocking().retrieve("/routes?filter=/test&offset=1&max=1", List)
+
+        then:
+        all*.route == [
+                '{[/test],method=[GET],produces=[application/json]}',
+                '{[/test/generics],method=[PUT],produces=[application/json]}',
+                '{[/test/post],method=[POST],produces=[application/json]}'
+        ]
+        all[0].method == "java.lang.String io.micronaut.management.endpoint.routes.RoutesEndpointSpec\$TestController.index()"
+        page*.route == ['{[/test/generics],method=[PUT],produces=[application/json]}']
+
+        cleanup:
+        client.close()
+        embeddedServer.close()
+    }
+
+    void "test the route stream can be subscribed more than once"() {
+        given:
+        UriRouteInfo<?, ?> route = Stub(UriRouteInfo) {
+            getUriMatchTemplate() >> UriMatchTemplate.of('/stub')
+            getHttpMethodName() >> 'GET'
+            getProduces() >> [MediaType.APPLICATION_JSON_TYPE]
+        }
+        def collector = new DefaultRouteDataCollector({ UriRouteInfo<?, ?> r -> [method: 'stub'] } as RouteData<Object>)
+        def publisher = collector.streamData({ -> Stream.of(route) } as Supplier)
+
+        expect:
+        Flux.from(publisher).collectList().block() == [[route: '{[/stub],method=[GET],produces=[application/json]}', method: 'stub']]
+        Flux.from(publisher).collectList().block() == [[route: '{[/stub],method=[GET],produces=[application/json]}', method: 'stub']]
+    }
+
     @Controller("/test")
     @Requires(property = 'spec.name', value = 'RoutesEndpointSpec')
     static class TestController {
@@ -6,10 +6,22 @@ import ch.qos.logback.classic.spi.ILoggingEvent
 import ch.qos.logback.core.AppenderBase
 import io.micronaut.context.ApplicationContext
 import io.micronaut.context.annotation.Requires
+import io.micronaut.health.HealthStatus
 import io.micronaut.http.client.HttpClient
+import io.micronaut.management.endpoint.health.HealthLevelOfDetail
+import io.micronaut.management.health.indicator.HealthIndicator
+import io.micronaut.management.health.indicator.HealthResult
+import io.micronaut.runtime.ApplicationConfiguration
 import io.micronaut.runtime.server.EmbeddedServer
+import org.reactivestreams.Publisher
 import org.slf4j.LoggerFactory
+import reactor.core.publisher.Flux
+import reactor.core.publisher.Mono
 import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.time.Duration
+import java.util.concurrent.atomic.AtomicInteger
 
 import static java.util.Collections.sort
 
@@ -73,6 +85,90 @@ class HealthAggregatorSpec extends Specification {
         logLevel << [Level.INFO, Level.DEBUG, Level.TRACE]
     }
 
+    void "test slow indicators are reported as down after the timeout"() {
+        given:
+        def configuration = new HealthAggregatorConfiguration(timeout: Duration.ofMillis(100))
+        def aggregator = new DefaultHealthAggregator(new ApplicationConfiguration(), configuration)
+        HealthIndicator slow = () -> Mono.just(HealthResult.builder("slow", HealthStatus.UP).build()).delayElement(Duration.ofSeconds(10))
+        HealthIndicator fast = () -> Mono.just(HealthResult.builder("fast", HealthStatus.UP).build())
+
+        when:
+        HealthResult result = Mono.from(aggregator.aggregate([slow, fast] as HealthIndicator[], HealthLevelOfDetail.STATUS_DESCRIPTION_DETAILS)).block(Duration.ofSeconds(5))
+
+        then:
+        result.status == HealthStatus.DOWN
+        result.details.fast.status == HealthStatus.UP
+        result.details.values().find { it.status == HealthStatus.DOWN }.details.error.contains("did not respond")
+    }
+
+    void "test results are cached and refreshed in the background once stale"() {
+        given:
+        def configuration = new HealthAggregatorConfiguration(cacheTtl: Duration.ofMillis(200))
+        def aggregator = new DefaultHealthAggregator(new ApplicationConfiguration(), configuration)
+        def counter = new CountingIndicator()
+        def conditions = new PollingConditions(timeout: 5)
+
+        when:
+        aggregate(aggregator, counter)
+        HealthResult result = aggregate(aggregator, counter)
+
+        then:
+        counter.invocations.get() == 1
+        result.details.counting.details.invocations == 1
+        result.details.counting.details.stale == null
+
+        when:
+        sleep(300)
+        result = aggregate(aggregator, counter)
+
+        then:
+        result.details.counting.details.invocations == 1
+        result.details.counting.details.stale
+        conditions.eventually {
+            assert counter.invocations.get() == 2
+            assert aggregate(aggregator, counter).details.counting.details.invocations == 2
+        }
+    }
+
+    void "test every result of an indicator is kept with timeout #timeout and cache #cacheTtl"() {
+        given:
+        def configuration = new HealthAggregatorConfiguration(timeout: timeout, cacheTtl: cacheTtl)
+        def aggregator = new DefaultHealthAggregator(new ApplicationConfiguration(), configuration)
+        HealthIndicator multiple = () -> Flux.just(
+            HealthResult.builder("first", HealthStatus.UP).build(),
+            HealthResult.builder("second", HealthStatus.DOWN).build()
+        )
+
+        when:
+        HealthResult result = aggregate(aggregator, multiple)
+        HealthResult cached = aggregate(aggregator, multiple)
+
+        then:
+        result.status == HealthStatus.DOWN
+        result.details.keySet() == ['first', 'second'] as Set
+        cached.details.keySet() == ['first', 'second'] as Set
+
+        where:
+        timeout               | cacheTtl
+        null                  | null
+        Duration.ofSeconds(5) | null
+        null                  | Duration.ofMinutes(1)
+        Duration.ofSeconds(5) | Duration.ofMinutes(1)
+    }
+
+    private static HealthResult aggregate(DefaultHealthAggregator aggregator, HealthIndicator indicator) {
+        Mono.from(aggregator.aggregate([indicator] as HealthIndicator[], HealthLevelOfDetail.STATUS_DESCRIPTION_DETAILS)).block()
+    }
+
+    static class CountingIndicator implements HealthIndicator {
+        AtomicInteger invocations = new AtomicInteger()
+
+        @Override
+        Publisher<HealthResult> getResult() {
+            Mono.fromSupplier { HealthResult.builder("counting", HealthStatus.UP).details([invocations: invocations.incrementAndGet()]).build() }
+        }
+    }
+
     @Requires(property = 'spec.name', value = 'HealthAggregatorSpec')
     class MemoryAppender extends AppenderBase<ILoggingEvent> {
         List<String> events = []
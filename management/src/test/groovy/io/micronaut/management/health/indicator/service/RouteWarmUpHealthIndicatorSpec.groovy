@@ -0,0 +1,105 @@
+package io.micronaut.management.health.indicator.service
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.annotation.Introspected
+import io.micronaut.core.type.Argument
+import io.micronaut.core.type.Headers
+import io.micronaut.health.HealthStatus
+import io.micronaut.http.MediaType
+import io.micronaut.http.annotation.Body
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Post
+import io.micronaut.http.body.MessageBodyHandlerRegistry
+import io.micronaut.http.body.MessageBodyReader
+import io.micronaut.http.server.RouteWarmUp
+import io.micronaut.management.health.indicator.HealthResult
+import io.micronaut.runtime.server.EmbeddedServer
+import io.micronaut.web.router.Router
+import io.micronaut.web.router.UriRouteInfo
+import reactor.core.publisher.Mono
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+class RouteWarmUpHealthIndicatorSpec extends Specification {
+
+    void "bean of type RouteWarmUpHealthIndicator does not exist by default"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run()
+
+        expect:
+        !applicationContext.containsBean(RouteWarmUpHealthIndicator)
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "the indicator is up once the routes are warmed up"() {
+        given:
+        EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, [
+                'spec.name'                 : 'RouteWarmUpHealthIndicatorSpec',
+                (RouteWarmUp.ENABLED)       : true,
+                'endpoints.health.sensitive': false
+        ])
+        RouteWarmUpHealthIndicator indicator = embeddedServer.applicationContext.getBean(RouteWarmUpHealthIndicator)
+        PollingConditions conditions = new PollingConditions(timeout: 5)
+
+        expect:
+        conditions.eventually {
+            HealthResult result = Mono.from(indicator.result).block()
+            assert result.status == HealthStatus.UP
+            assert ((Map) result.details).routes > 0
+        }
+
+        cleanup:
+        embeddedServer.close()
+    }
+
+    void "the warm-up stores a body reader specialized for the body type on the route"() {
+        given:
+        EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, [
+                'spec.name'          : 'RouteWarmUpHealthIndicatorSpec',
+                (RouteWarmUp.ENABLED): true
+        ])
+        RouteWarmUp warmUp = embeddedServer.applicationContext.getBean(RouteWarmUp)
+        MessageBodyReader<?> unspecialized = embeddedServer.applicationContext.getBean(MessageBodyHandlerRegistry)
+                .findReader(Argument.of(Greeting), [MediaType.APPLICATION_JSON_TYPE]).get()
+        PollingConditions conditions = new PollingConditions(timeout: 5)
+
+        expect:
+        conditions.eventually {
+            assert warmUp.complete
+        }
+
+        when:
+        UriRouteInfo<?, ?> route = embeddedServer.applicationContext.getBean(Router).uriRoutes()
+                .filter { it.declaringType == WarmUpController }
+                .findFirst()
+                .get()
+        MessageBodyReader<Greeting> reader = (MessageBodyReader<Greeting>) route.messageBodyReader
+        Greeting greeting = reader.read(Argument.of(Greeting), MediaType.APPLICATION_JSON_TYPE, Stub(Headers),
+                new ByteArrayInputStream('{"message":"hello"}'.bytes))
+
+        then:
+        !reader.is(unspecialized)
+        greeting.message == 'hello'
+
+        cleanup:
+        embeddedServer.close()
+    }
+
+    @Requires(property = 'spec.name', value = 'RouteWarmUpHealthIndicatorSpec')
+    @Controller('/warm-up')
+    static class WarmUpController {
+
+        @Post
+        Greeting greet(@Body Greeting greeting) {
+            greeting
+        }
+    }
+
+    @Introspected
+    static class Greeting {
+        String message
+    }
+}
@@ -29,6 +29,7 @@ import io.micronaut.http.MediaType;
 import io.micronaut.http.annotation.Body;
 import io.micronaut.http.bind.RequestBinderRegistry;
 import io.micronaut.http.bind.binders.RequestArgumentBinder;
+import io.micronaut.http.body.MessageBodyHandler;
 import io.micronaut.http.body.MessageBodyHandlerRegistry;
 import io.micronaut.http.body.MessageBodyReader;
 import io.micronaut.inject.MethodExecutionHandle;
@@ -57,7 +58,10 @@ sealed class DefaultMethodBasedRouteInfo<T, R> extends DefaultRouteInfo<R> imple
     private final boolean isVoid;
     private final Optional<Argument<?>> optionalBodyArgument;
     private final Optional<Argument<?>> optionalFullBodyArgument;
-    private final MessageBodyReader<?> messageBodyReader;
+    /**
+     * Replaced by {@link #specializeMessageBodyReader()} on the warm-up thread, read by the request threads.
+     */
+    private volatile MessageBodyReader<?> messageBodyReader;
 
     private RequestArgumentBinder<Object>[] argumentBinders;
     private final boolean needsBody;
@@ -122,6 +126,24 @@ sealed class DefaultMethodBasedRouteInfo<T, R> extends DefaultRouteInfo<R> imple
         return messageBodyReader;
     }
 
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public final void specializeMessageBodyReader() {
+        Argument<?> bodyArgument = optionalBodyArgument.orElse(null);
+        if (bodyArgument == null || bodyArgument.isAsyncOrReactive() || bodyArgument.isOptional()
+            || !bodyArgument.getAnnotationMetadata().hasAnnotation(Body.class)
+            || bodyArgument.getAnnotationMetadata().stringValue(Body.class).isPresent()) {
+            // only a whole body is read with the body argument itself, the specialized reader ignores the read type
+            return;
+        }
+        // Allow concurrent access, the specialized reader can be used in place of the original one
+        MessageBodyReader<?> reader = messageBodyReader;
+        if (reader instanceof MessageBodyHandler handler
+            && handler.createSpecific(bodyArgument) instanceof MessageBodyReader<?> specific) {
+            messageBodyReader = specific;
+        }
+    }
+
     private static boolean hasArg(Argument<?>[] arguments, Class<?> type) {
         for (Argument<?> argument : arguments) {
             if (argument.getType() == type) {
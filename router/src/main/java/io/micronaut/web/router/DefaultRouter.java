@@ -21,6 +21,7 @@ import io.micronaut.core.order.OrderUtil;
 import io.micronaut.core.reflect.ClassUtils;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.SupplierUtil;
+import io.micronaut.core.util.clhm.ConcurrentLinkedHashMap;
 import io.micronaut.http.HttpAttributes;
 import io.micronaut.http.HttpMethod;
 import io.micronaut.http.HttpRequest;
@@ -55,7 +56,8 @@ import java.util.stream.Stream;
 
 /**
  * <p>The default {@link Router} implementation. This implementation does not perform any additional caching of
- * route discovery.</p>
+ * route discovery, except for indexing the error and status routes that are candidates for a given exception class
+ * or status code.</p>
  *
  * @author Graeme Rocher
  * @since 1.0
@@ -64,11 +66,16 @@ import java.util.stream.Stream;
 public class DefaultRouter implements Router, HttpServerFilterResolver<RouteMatch<?>> {
 
     private static final UriRouteInfo<Object, Object>[] EMPTY = new UriRouteInfo[0];
+    private static final long CANDIDATE_CACHE_MAX_SIZE = 100;
 
     private final EnumMap<HttpMethod, UriRouteInfo<Object, Object>[]> methodRoutesByMethod;
     private final Map<String, UriRouteInfo<Object, Object>[]> allRoutesByMethod;
     private final StatusRouteInfo<Object, Object>[] statusRoutes;
     private final ErrorRouteInfo<Object, Object>[] errorRoutes;
+    private final Map<ErrorRouteKey, ErrorRouteInfo<Object, Object>[]> errorRouteCandidates =
+        new ConcurrentLinkedHashMap.Builder<ErrorRouteKey, ErrorRouteInfo<Object, Object>[]>().maximumWeightedCapacity(CANDIDATE_CACHE_MAX_SIZE).build();
+    private final Map<StatusRouteKey, StatusRouteInfo<Object, Object>[]> statusRouteCandidates =
+        new ConcurrentLinkedHashMap.Builder<StatusRouteKey, StatusRouteInfo<Object, Object>[]>().maximumWeightedCapacity(CANDIDATE_CACHE_MAX_SIZE).build();
     private final Set<Integer> exposedPorts;
     @Nullable
     private Set<Integer> ports;
@@ -459,11 +466,15 @@ public class DefaultRouter implements Router, HttpServerFilterResolver<RouteMatc
     private <R> Optional<RouteMatch<R>> findErrorRouteInternal(
             @Nullable Class<?> originatingClass,
             @NonNull Throwable error, HttpRequest<?> request) {
+        ErrorRouteInfo<Object, Object>[] candidates = errorRouteCandidates(originatingClass, error.getClass());
+        if (candidates.length == 0) {
+            return Optional.empty();
+        }
         Collection<MediaType> accept = request.accept();
         final boolean hasAcceptHeader = CollectionUtils.isNotEmpty(accept);
         if (hasAcceptHeader) {
             var matchedRoutes = new ArrayList<RouteMatch<R>>();
-            for (ErrorRouteInfo<Object, Object> errorRoute : errorRoutes) {
+            for (ErrorRouteInfo<Object, Object> errorRoute : candidates) {
                 if (!errorRoute.doesProduce(accept)) {
                     continue;
                 }
@@ -478,9 +489,9 @@ public class DefaultRouter implements Router, HttpServerFilterResolver<RouteMatc
             }
             return findRouteMatch(matchedRoutes, error);
         } else {
-            var producesAllMatchedRoutes = new ArrayList<RouteMatch<R>>(errorRoutes.length);
-            var producesSpecificMatchedRoutes = new ArrayList<RouteMatch<R>>(errorRoutes.length);
-            for (ErrorRouteInfo<Object, Object> errorRouteInfo : errorRoutes) {
+            var producesAllMatchedRoutes = new ArrayList<RouteMatch<R>>(candidates.length);
+            var producesSpecificMatchedRoutes = new ArrayList<RouteMatch<R>>(candidates.length);
+            for (ErrorRouteInfo<Object, Object> errorRouteInfo : candidates) {
                 if (!errorRouteInfo.matching(request)) {
                     continue;
                 }
@@ -531,10 +542,14 @@ public class DefaultRouter implements Router, HttpServerFilterResolver<RouteMatc
     }
 
     private <R> Optional<RouteMatch<R>> findStatusInternal(@Nullable Class<?> originatingClass, int status, HttpRequest<?> request) {
+        StatusRouteInfo<Object, Object>[] candidates = statusRouteCandidates(originatingClass, status);
+        if (candidates.length == 0) {
+            return Optional.empty();
+        }
         Collection<MediaType> accept = request.accept();
         final boolean hasAcceptHeader = CollectionUtils.isNotEmpty(accept);
         if (hasAcceptHeader) {
-            for (StatusRouteInfo<Object, Object> statusRouteInfo : statusRoutes) {
+            for (StatusRouteInfo<Object, Object> statusRouteInfo : candidates) {
                 if (!statusRouteInfo.doesProduce(accept)) {
                     continue;
                 }
@@ -549,7 +564,7 @@ public class DefaultRouter implements Router, HttpServerFilterResolver<RouteMatc
             }
         } else {
             RouteMatch<R> firstMatch = null;
-            for (StatusRouteInfo<Object, Object> statusRouteInfo : statusRoutes) {
+            for (StatusRouteInfo<Object, Object> statusRouteInfo : candidates) {
                 if (!statusRouteInfo.matching(request)) {
                     continue;
                 }
@@ -757,6 +772,52 @@ public class DefaultRouter implements Router, HttpServerFilterResolver<RouteMatc
         return routes.toArray(EMPTY);
     }
 
+    /**
+     * The error routes that can match an exception of the given type, in declaration order. The candidates only depend
+     * on the route definitions, so they are computed once per exception class and originating type. Request specific
+     * conditions such as the accepted media types are still evaluated for every request.
+     *
+     * @param originatingClass The originating class or null for global error routes
+     * @param exceptionClass   The exception class
+     * @return The candidate routes
+     */
+    private ErrorRouteInfo<Object, Object>[] errorRouteCandidates(@Nullable Class<?> originatingClass, Class<?> exceptionClass) {
+        if (errorRoutes.length == 0) {
+            return errorRoutes;
+        }
+        return errorRouteCandidates.computeIfAbsent(new ErrorRouteKey(originatingClass, exceptionClass), key -> {
+            var candidates = new ArrayList<ErrorRouteInfo<Object, Object>>();
+            for (ErrorRouteInfo<Object, Object> errorRoute : errorRoutes) {
+                if (errorRoute.originatingType() == key.originatingClass() && errorRoute.exceptionType().isAssignableFrom(key.exceptionClass())) {
+                    candidates.add(errorRoute);
+                }
+            }
+            return candidates.toArray(ErrorRouteInfo[]::new);
+        });
+    }
+
+    /**
+     * The status routes that can match the given status code, in declaration order.
+     *
+     * @param originatingClass The originating class or null for global status routes
+     * @param statusCode       The status code
+     * @return The candidate routes
+     */
+    private StatusRouteInfo<Object, Object>[] statusRouteCandidates(@Nullable Class<?> originatingClass, int statusCode) {
+        if (statusRoutes.length == 0) {
+            return statusRoutes;
+        }
+        return statusRouteCandidates.computeIfAbsent(new StatusRouteKey(originatingClass, statusCode), key -> {
+            var candidates = new ArrayList<StatusRouteInfo<Object, Object>>();
+            for (StatusRouteInfo<Object, Object> statusRoute : statusRoutes) {
+                if (statusRoute.originatingType() == key.originatingClass() && statusRoute.statusCode() == key.statusCode()) {
+                    candidates.add(statusRoute);
+                }
+            }
+            return candidates.toArray(StatusRouteInfo[]::new);
+        });
+    }
+
     private <T> Optional<RouteMatch<T>> findRouteMatch(List<RouteMatch<T>> matchedRoutes, Throwable error) {
         if (matchedRoutes.size() == 1) {
             return matchedRoutes.stream().findFirst();
@@ -843,4 +904,10 @@ public class DefaultRouter implements Router, HttpServerFilterResolver<RouteMatc
         }
         return context.getRouteInfo().getAnnotationMetadata().hasStereotype(matchingAnnotation);
     }
+
+    private record ErrorRouteKey(@Nullable Class<?> originatingClass, Class<?> exceptionClass) {
+    }
+
+    private record StatusRouteKey(@Nullable Class<?> originatingClass, int statusCode) {
+    }
 }
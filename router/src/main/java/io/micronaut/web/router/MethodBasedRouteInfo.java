@@ -15,6 +15,7 @@
  */
 package io.micronaut.web.router;
 
+import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.http.bind.RequestBinderRegistry;
 import io.micronaut.http.bind.binders.RequestArgumentBinder;
@@ -40,4 +41,14 @@ public interface MethodBasedRouteInfo<T, R> extends RouteInfo<R> {
 
     RequestArgumentBinder<Object>[] resolveArgumentBinders(RequestBinderRegistry requestBinderRegistry);
 
+    /**
+     * Replaces the {@link #getMessageBodyReader() message body reader} of this route with one specialized
+     * for the body type, so that the first request does not have to prepare the reader.
+     *
+     * @since 4.8.0
+     */
+    @Internal
+    default void specializeMessageBodyReader() {
+    }
+
 }
@@ -69,6 +69,22 @@ class AnnotationRouteBuilderSpec extends Specification {
         router.route(PersonController, new RuntimeException()).isPresent()
     }
 
+    void "test error and status routes resolved from the candidate index"() {
+        given:
+        Router router = new DefaultApplicationContext("test")
+                .start()
+                .getBean(Router)
+        def request = HttpRequest.GET('/person/name')
+
+        expect:"the closest local error route is chosen and repeated lookups are consistent"
+        2.times {
+            assert router.findErrorRoute(PersonController, new IllegalArgumentException("bad"), request).get().routeInfo.targetMethod.methodName == 'handleIllegalArgument'
+            assert router.findErrorRoute(PersonController, new IllegalStateException("bad"), request).get().routeInfo.targetMethod.methodName == 'handleError'
+            assert router.findStatusRoute(PersonController, HttpStatus.INSUFFICIENT_STORAGE, request).isPresent()
+            assert !router.findStatusRoute(PersonController, HttpStatus.GONE, request).isPresent()
+        }
+    }
+
     @Controller('/')
     static class ApplicationController {
         @Get
@@ -115,6 +131,11 @@ class AnnotationRouteBuilderSpec extends Specification {
             return HttpResponse.<String>status(HttpStatus.BAD_REQUEST).body(e.getMessage())
         }
 
+        @Error(IllegalArgumentException)
+        HttpResponse<String> handleIllegalArgument(HttpRequest request, IllegalArgumentException e) {
+            return HttpResponse.<String>status(HttpStatus.BAD_REQUEST).body(e.getMessage())
+        }
+
         @Error(status = HttpStatus.INSUFFICIENT_STORAGE)
         HttpResponse<String> handleStatus(HttpRequest request) {
             return HttpResponse.<String>status(HttpStatus.BAD_REQUEST)